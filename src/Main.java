@@ -1,5 +1,11 @@
 import javax.swing.SwingUtilities;
+import view.GameWindow;
 import view.MenuScreen;
+import viewmodel.AquariumScenario;
+import viewmodel.BalanceRunner;
+import viewmodel.BenchmarkRunner;
+import viewmodel.GameConfig;
+import viewmodel.HeadlessRunner;
 import viewmodel.SoundManager;
 
 // Main class untuk menjalankan aplikasi game Monster Fish Hunt
@@ -12,10 +18,48 @@ public class Main {
      */
 
     public static void main(String[] args) {
+        // Membaca pilihan startup, misal: --renderer=active untuk active rendering.
+        GameConfig.parseArgs(args);
+
+        // Mode headless: jalankan simulasi tanpa tampilan, cetak tick per detik, lalu keluar.
+        // Contoh: java Main --headless --ticks=200000 --bot=greedy (bot juga bisa dipakai di mode biasa untuk benchmark frame)
+        // Dengan --time-scale=4, tick headless dipacu 4x waktu nyata; di mode biasa skala itu berlaku untuk permainan
+        // (saat bermain: P jeda/lanjut, '.' satu tick saat dijeda, '-'/'=' memperlambat/mempercepat waktu).
+        // Mode balancing: banyak sesi paralel dengan pemain otomatis, hasilnya ditulis ke laporan.
+        // Contoh: java Main --balance --sessions=1000 --threads=8 --seed=42 --report=balance-report.txt
+        // Micro-benchmark: contoh java Main --bench=collision
+        // Skenario akuarium: contoh java Main --aquarium=10000 --duration=30 --bot=scripted [--headless]
+        // (--aquarium tanpa angka berarti 10000 entitas)
+        if (GameConfig.getBenchmark() != null) {
+            System.setProperty("java.awt.headless", "true");
+            BenchmarkRunner.run(GameConfig.getBenchmark(), GameConfig.getSeed());
+            return;
+        }
+        if (GameConfig.isBalance()) {
+            System.setProperty("java.awt.headless", "true");
+            BalanceRunner.run(GameConfig.getBalanceSessions(), GameConfig.getThreads(), GameConfig.getSeed(), GameConfig.getReportPath());
+            return;
+        }
+        if (GameConfig.isAquarium() && GameConfig.isHeadless()) {
+            System.setProperty("java.awt.headless", "true");
+            GameConfig.createAquariumScenario().runHeadless();
+            return;
+        }
+        if (GameConfig.isHeadless()) {
+            System.setProperty("java.awt.headless", "true");
+            HeadlessRunner.run(GameConfig.getHeadlessTicks());
+            return;
+        }
+
         // Menjalankan aplikasi pada thread event-dispatcher Swing
         SwingUtilities.invokeLater(() -> {
             // Inisialisasi sound manager
             SoundManager.init();
+            // Skenario akuarium dengan tampilan langsung masuk ke permainan tanpa menu.
+            if (GameConfig.isAquarium()) {
+                GameWindow.launch(AquariumScenario.USERNAME);
+                return;
+            }
             // Membuat dan menampilkan menu utama
             MenuScreen menu = new MenuScreen();
             menu.setVisible(true);
@@ -1,15 +1,29 @@
 package model;
 
+import java.util.SplittableRandom;
+import viewmodel.GameClock;
+
 // Kelas ini merepresentasikan jenis ikan 'BigFish', yang berukuran besar dan bernilai tinggi.
 // Merupakan turunan dari kelas Fish.
 public class BigFish extends Fish { 
+    // Nilai skor BigFish (juga ditampilkan di panel info menu).
+    public static final int SCORE_VALUE = 25;
+
+    // Perilaku gerombol BigFish: gerombol longgar, jarak antar ikan lebar, jarang naik-turun.
+    public static final Schooling SCHOOLING = new Schooling(110f, 60f,
+            0.0015f, 0.04f, 2.0f, 0.02f,
+            0.7f, 1.3f, 0.35f);
 
     // Konstruktor untuk membuat objek BigFish.
-    public BigFish(float x, float y, String spriteSheetPath, boolean movesLeftToRight) {
+    public BigFish(GameClock clock, float x, float y, String spriteSheetPath, boolean movesLeftToRight, SplittableRandom speedRandom) {
         // Panggil konstruktor parent (Fish) dengan nilai-nilai spesifik untuk BigFish.
-        // renderW, renderH, score, spritePath, LtoR, speedMult, spriteW, spriteH, totalFrames, frameDelay, struggleFactor
-        super(x, y, 54, 49, 25, spriteSheetPath, movesLeftToRight, 1.2f, // Kecepatan relatif normal.
+        // renderW, renderH, score, spritePath, LtoR, speedMult, spriteW, spriteH, totalFrames, frameDelay, struggleFactor, speedRandom
+        super(clock, x, y, 54, 49, SCORE_VALUE, spriteSheetPath, movesLeftToRight, 1.2f, // Kecepatan relatif normal.
               54, 49, 4, 180,
-              1.5f); // Lebih sulit ditangkap (struggle factor lebih besar).
+              1.5f, speedRandom); // Lebih sulit ditangkap (struggle factor lebih besar).
     }
+
+    // Parameter gerombol BigFish.
+    @Override
+    public Schooling getSchooling() { return SCHOOLING; }
 }
\ No newline at end of file
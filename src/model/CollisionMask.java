@@ -0,0 +1,112 @@
+package model;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+// Kelas ini adalah bitmask piksel padat dari satu frame sprite, dipakai untuk tabrakan yang presisi per piksel.
+// Setiap baris disimpan sebagai beberapa word long (bit ke-i = kolom ke-i), dengan ukuran sama seperti ukuran render objek,
+// sehingga tes tabrakan cukup memotong dua persegi panjang lalu meng-AND word-word pada area irisannya.
+// Mask dibuat sekali saat sprite dimuat (lewat SpriteCache) dan tidak pernah diubah, jadi aman dipakai bersama.
+public final class CollisionMask {
+    // Piksel dengan alpha di atas batas ini dianggap padat.
+    public static final int ALPHA_THRESHOLD = 127;
+
+    private final int width, height;
+    private final int wordsPerRow;
+    private final long[] bits;
+    private CollisionMask mirrored; // Versi yang dibalik horizontal (untuk sprite yang menghadap ke arah sebaliknya).
+
+    private CollisionMask(int width, int height, long[] bits) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = bits;
+    }
+
+    // Membuat mask (beserta versi cerminnya) dari alpha satu frame, diskalakan ke ukuran render seperti drawImage
+    // (nearest neighbour), sehingga bit mask selalu sejajar dengan piksel yang benar-benar tergambar di layar.
+    public static CollisionMask fromFrame(BufferedImage frame, int renderWidth, int renderHeight) {
+        int w = Math.max(1, renderWidth), h = Math.max(1, renderHeight);
+        int words = (w + 63) >>> 6;
+        long[] normal = new long[words * h];
+        long[] flipped = new long[words * h];
+        int srcW = frame.getWidth(), srcH = frame.getHeight();
+        int[] row = new int[srcW];
+        for (int y = 0; y < h; y++) {
+            int srcY = Math.min(srcH - 1, (int) ((y + 0.5) * srcH / h));
+            frame.getRGB(0, srcY, srcW, 1, row, 0, srcW);
+            int base = y * words;
+            for (int x = 0; x < w; x++) {
+                int srcX = Math.min(srcW - 1, (int) ((x + 0.5) * srcW / w));
+                if ((row[srcX] >>> 24) > ALPHA_THRESHOLD) {
+                    normal[base + (x >>> 6)] |= 1L << (x & 63);
+                    int mx = w - 1 - x;
+                    flipped[base + (mx >>> 6)] |= 1L << (mx & 63);
+                }
+            }
+        }
+        CollisionMask mask = new CollisionMask(w, h, normal);
+        mask.mirrored = new CollisionMask(w, h, flipped);
+        mask.mirrored.mirrored = mask;
+        return mask;
+    }
+
+    // Mengembalikan 64 bit baris 'rowStart' mulai dari kolom 'col' (bit di luar lebar mask bernilai 0).
+    private long bitsAt(int rowStart, int col) {
+        int word = col >>> 6;
+        int shift = col & 63;
+        long value = bits[rowStart + word] >>> shift;
+        if (shift != 0 && word + 1 < wordsPerRow) {
+            value |= bits[rowStart + word + 1] << (64 - shift);
+        }
+        return value;
+    }
+
+    // Tes presisi antara dua mask yang masing-masing diletakkan di (ax, ay) dan (bx, by).
+    public static boolean overlaps(CollisionMask a, int ax, int ay, CollisionMask b, int bx, int by) {
+        int left = Math.max(ax, bx);
+        int right = Math.min(ax + a.width, bx + b.width);
+        int top = Math.max(ay, by);
+        int bottom = Math.min(ay + a.height, by + b.height);
+        if (left >= right || top >= bottom) return false; // Persegi panjang tidak beririsan.
+
+        int span = right - left;
+        for (int y = top; y < bottom; y++) {
+            int rowA = (y - ay) * a.wordsPerRow;
+            int rowB = (y - by) * b.wordsPerRow;
+            for (int offset = 0; offset < span; offset += 64) {
+                long valid = span - offset >= 64 ? -1L : (1L << (span - offset)) - 1;
+                if ((a.bitsAt(rowA, left - ax + offset) & b.bitsAt(rowB, left - bx + offset) & valid) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Tes presisi antara mask di (mx, my) dan persegi panjang padat (misal: ujung harpun).
+    public boolean overlaps(int mx, int my, Rectangle area) {
+        int left = Math.max(mx, area.x);
+        int right = Math.min(mx + width, area.x + area.width);
+        int top = Math.max(my, area.y);
+        int bottom = Math.min(my + height, area.y + area.height);
+        if (left >= right || top >= bottom) return false;
+
+        int span = right - left;
+        for (int y = top; y < bottom; y++) {
+            int row = (y - my) * wordsPerRow;
+            for (int offset = 0; offset < span; offset += 64) {
+                long valid = span - offset >= 64 ? -1L : (1L << (span - offset)) - 1;
+                if ((bitsAt(row, left - mx + offset) & valid) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Getter untuk versi cermin dan ukuran mask.
+    public CollisionMask getMirrored() { return mirrored; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
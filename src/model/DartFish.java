@@ -1,15 +1,29 @@
 package model;
 
+import java.util.SplittableRandom;
+import viewmodel.GameClock;
+
 // Kelas ini merepresentasikan jenis ikan 'DartFish', yang bergerak cepat.
 // Merupakan turunan dari kelas Fish.
 public class DartFish extends Fish {
+    // Nilai skor DartFish (juga ditampilkan di panel info menu).
+    public static final int SCORE_VALUE = 15;
+
+    // Perilaku gerombol DartFish: cepat menyesuaikan arah dengan tetangganya, gerombol memanjang.
+    public static final Schooling SCHOOLING = new Schooling(90f, 30f,
+            0.003f, 0.08f, 1.0f, 0.03f,
+            0.7f, 1.3f, 0.6f);
 
     // Konstruktor untuk membuat objek DartFish.
-    public DartFish(float x, float y, String spriteSheetPath, boolean movesLeftToRight) {
+    public DartFish(GameClock clock, float x, float y, String spriteSheetPath, boolean movesLeftToRight, SplittableRandom speedRandom) {
         // Panggil konstruktor parent (Fish) dengan nilai-nilai spesifik untuk DartFish.
-        // renderW, renderH, score, spritePath, LtoR, speedMult, spriteW, spriteH, totalFrames, frameDelay, struggleFactor
-        super(x, y, 39, 20, 15, spriteSheetPath, movesLeftToRight, 2.8f, // Kecepatan tinggi.
+        // renderW, renderH, score, spritePath, LtoR, speedMult, spriteW, spriteH, totalFrames, frameDelay, struggleFactor, speedRandom
+        super(clock, x, y, 39, 20, SCORE_VALUE, spriteSheetPath, movesLeftToRight, 2.8f, // Kecepatan tinggi.
               39, 20, 4, 100,
-              1.2f); // Sedikit lebih sulit ditangkap (struggle factor > 1.0).
+              1.2f, speedRandom); // Sedikit lebih sulit ditangkap (struggle factor > 1.0).
     }
+
+    // Parameter gerombol DartFish.
+    @Override
+    public Schooling getSchooling() { return SCHOOLING; }
 }
\ No newline at end of file
@@ -1,21 +1,35 @@
 package model;
 
+import viewmodel.GameClock;
+
 // Kelas ini merepresentasikan efek visual sementara yang akan hilang setelah animasinya selesai.
 // Contoh: efek 'hit' saat pemain terluka.
 public class Effect extends GameObject {
     
     // Flag untuk menandakan apakah animasi efek ini sudah selesai atau belum.
     private boolean isFinished = false;
+    // Ukuran render asli; dipulihkan saat efek dipakai ulang dari pool.
+    private final int baseWidth, baseHeight;
 
     // Konstruktor untuk membuat objek efek visual.
-    public Effect(float x, float y, int renderWidth, int renderHeight, 
+    public Effect(GameClock clock, float x, float y, int renderWidth, int renderHeight, 
                   String spriteSheetPath, int frameW, int frameH, int totalFrames, int frameDelay) {
         
         // Panggil konstruktor parent dan muat sprite sheet untuk animasi.
-        super(x, y, renderWidth, renderHeight);
+        super(clock, x, y, renderWidth, renderHeight);
+        this.baseWidth = renderWidth;
+        this.baseHeight = renderHeight;
         loadSpriteSheet(spriteSheetPath, frameW, frameH, totalFrames, frameDelay);
     }
 
+    // Menyiapkan ulang efek bekas dari pool agar animasinya diputar lagi dari awal di posisi baru.
+    public void reset(float x, float y) {
+        this.isFinished = false;
+        this.width = baseWidth;
+        this.height = baseHeight;
+        respawnAt(x, y);
+    }
+
     // Metode update utama untuk efek, dipanggil setiap frame.
     @Override
     public void update() {
@@ -28,9 +42,9 @@ public class Effect extends GameObject {
     @Override
     protected void updateAnimation() {
         // Jika animasi sudah selesai atau tidak ada, hentikan proses.
-        if (!animated || spriteSheet == null || totalAnimFrames == 0 || isFinished) return;
+        if (!animated || frames == null || totalAnimFrames == 0 || isFinished) return;
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.millis();
         // Cek apakah sudah waktunya untuk pindah ke frame berikutnya.
         if (currentTime - lastFrameTime_anim > frameDelayMs_anim) {
             lastFrameTime_anim = currentTime;
@@ -0,0 +1,276 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Kelas ini adalah inti entitas bergaya ECS: state inti semua entitas aktif (posisi, kecepatan, frame animasi,
+// dan kotak tabrakan) disimpan sebagai array primitif yang padat (struct-of-arrays), lalu diupdate oleh
+// 'sistem' berupa loop sederhana di atas array tersebut, tanpa pemanggilan virtual dan tanpa instanceof.
+// Objek GameObject yang terpasang (attach) menjadi 'view' tipis: getter/setter-nya membaca dan menulis ke slot
+// miliknya di sini, sehingga kode lain (render, tabrakan, harpun, bot) tetap bekerja tanpa perubahan.
+// Saat dilepas (detach), state disalin kembali ke field objek agar objek bisa dipakai sendiri (misal: ikan
+// yang sedang dibawa ke keranjang). Slot dihapus dengan swap-remove, jadi urutan slot tidak mengikuti urutan daftar.
+// Setiap sistem juga punya versi rentang [from, to) yang hanya menyentuh slot di rentang itu, sehingga rentang yang
+// berbeda boleh diproses thread yang berbeda (lihat ParallelEntityUpdater). Attach/detach hanya dari thread simulasi.
+// Kecepatan boleh diubah tiap tick oleh FlockingSystem (ikan yang bergerombol) dan sistem berburu (hantu)
+// sebelum sistem gerak dijalankan.
+public final class EntityComponents {
+    private int count;
+    private GameObject[] views;
+
+    // Posisi (sekarang dan tick sebelumnya) dan kecepatan per tick.
+    float[] x, y, prevX, prevY, velocityX, velocityY;
+    // Ukuran render dan kotak tabrakan (kotak tabrakan entitas selalu seukuran render).
+    int[] width, height, boxX, boxY;
+    // Animasi: frame saat ini, jumlah frame (0 = tidak beranimasi), jeda antar frame, dan waktu ganti frame terakhir.
+    int[] animFrame, animFrameCount, animDelayMs;
+    long[] animLastTime;
+    // Gerombol: parameter jenis ikan (null = tidak bergerombol) dan kecepatan jelajah horizontal saat dipasang.
+    Schooling[] schooling;
+    float[] cruiseX;
+    // Berburu: batas waktu berburu (GameObject.NOT_HUNTING = bukan pemburu).
+    long[] huntUntil;
+
+    // Konstruktor dengan kapasitas awal; array diperbesar otomatis saat penuh.
+    public EntityComponents(int initialCapacity) {
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    // Memasang objek ke slot baru: state dari field objek disalin ke array dan objek menjadi view dari slot itu.
+    public void attach(GameObject object) {
+        if (object.components != null) return; // Sudah terpasang.
+        if (count == views.length) allocate(count * 2);
+        int i = count++;
+        views[i] = object;
+        x[i] = object.x;
+        y[i] = object.y;
+        prevX[i] = object.prevX;
+        prevY[i] = object.prevY;
+        velocityX[i] = object.getVelocityX();
+        velocityY[i] = object.getVelocityY();
+        width[i] = object.width;
+        height[i] = object.height;
+        boxX[i] = object.collisionBox.x;
+        boxY[i] = object.collisionBox.y;
+        boolean animated = object.animated && object.frames != null;
+        animFrame[i] = object.currentAnimFrame;
+        animFrameCount[i] = animated ? object.totalAnimFrames : 0;
+        animDelayMs[i] = object.frameDelayMs_anim;
+        animLastTime[i] = object.lastFrameTime_anim;
+        schooling[i] = object.getSchooling();
+        cruiseX[i] = velocityX[i];
+        huntUntil[i] = object.getHuntUntilMs();
+        object.components = this;
+        object.slot = i;
+    }
+
+    // Melepas objek: state slot disalin kembali ke field objek, lalu slot terakhir dipindah ke slot yang kosong.
+    public void detach(GameObject object) {
+        if (object.components != this) return;
+        int i = object.slot;
+        copyBack(i);
+        int last = --count;
+        if (i != last) moveSlot(last, i);
+        views[last] = null;
+        schooling[last] = null;
+    }
+
+    // Melepas semua objek (misal: saat sesi baru dimulai).
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            copyBack(i);
+            views[i] = null;
+            schooling[i] = null;
+        }
+        count = 0;
+    }
+
+    // Sistem interpolasi: simpan posisi saat ini sebagai posisi tick sebelumnya.
+    public void storePreviousPositions() {
+        System.arraycopy(x, 0, prevX, 0, count);
+        System.arraycopy(y, 0, prevY, 0, count);
+    }
+
+    // Sistem berburu: pemburu yang masa berburunya belum habis berbelok (sebesar 'turnRate' per tick) mengikuti arah
+    // 'field' menuju target (tx, ty) dengan laju jelajahnya; di sel target, pemburu menuju target secara langsung.
+    // Setelah masa berburu habis, atau jika 'field' null (target sedang tidak bisa diserang), kecepatan kembali
+    // pelan-pelan ke arah jelajah semula sehingga pemburu akhirnya keluar layar. Biaya per pemburu O(1).
+    public void hunt(FlowField field, long now, float tx, float ty, float turnRate) {
+        for (int i = 0; i < count; i++) {
+            long until = huntUntil[i];
+            if (until == GameObject.NOT_HUNTING) continue;
+            float targetVx = cruiseX[i], targetVy = 0;
+            if (field != null && now < until) {
+                float cx = x[i] + width[i] * 0.5f, cy = y[i] + height[i] * 0.5f;
+                float dx = field.directionX(cx, cy), dy = field.directionY(cx, cy);
+                if (dx == 0 && dy == 0) {
+                    dx = tx - cx;
+                    dy = ty - cy;
+                    float length = (float) Math.sqrt(dx * dx + dy * dy);
+                    if (length > 1e-3f) {
+                        dx /= length;
+                        dy /= length;
+                    }
+                }
+                float speed = Math.abs(cruiseX[i]);
+                targetVx = dx * speed;
+                targetVy = dy * speed;
+            }
+            velocityX[i] += (targetVx - velocityX[i]) * turnRate;
+            velocityY[i] += (targetVy - velocityY[i]) * turnRate;
+        }
+    }
+
+    // Sistem gerak: tambahkan kecepatan ke posisi.
+    public void move() { move(0, count); }
+    public void move(int from, int to) {
+        for (int i = from; i < to; i++) {
+            x[i] += velocityX[i];
+            y[i] += velocityY[i];
+        }
+    }
+
+    // Sistem animasi: majukan frame yang jedanya sudah terlewati (looping), sama seperti GameObject.updateAnimation().
+    public void animate(long now) { animate(0, count, now); }
+    public void animate(int from, int to, long now) {
+        int[] frame = animFrame, frameCount = animFrameCount, delay = animDelayMs;
+        long[] lastTime = animLastTime;
+        for (int i = from; i < to; i++) {
+            int frames = frameCount[i];
+            if (frames == 0 | now - lastTime[i] <= delay[i]) continue;
+            int next = frame[i] + 1;
+            frame[i] = next >= frames ? 0 : next;
+            lastTime[i] = now;
+        }
+    }
+
+    // Sistem kotak tabrakan: selaraskan kotak dengan posisi terbaru.
+    public void updateBounds() { updateBounds(0, count); }
+    public void updateBounds(int from, int to) {
+        for (int i = from; i < to; i++) {
+            boxX[i] = (int) x[i];
+            boxY[i] = (int) y[i];
+        }
+    }
+
+    // Sistem batas dunia: isi 'out' dengan view yang sudah lewat 'margin' piksel di luar rentang [left, right]
+    // (jendela aktif dunia), ke arah mana pun geraknya. Entitas tidak dilepas di sini; pemanggil yang memutuskan.
+    // Mengembalikan jumlahnya.
+    public int collectOutOfBounds(float left, float right, int margin, List<GameObject> out) {
+        out.clear();
+        collectOutOfBounds(0, count, left, right, margin, out);
+        return out.size();
+    }
+
+    // Versi rentang dari sistem batas dunia: hasil ditambahkan ke 'out' (tidak dikosongkan dulu) sesuai urutan slot.
+    public void collectOutOfBounds(int from, int to, float left, float right, int margin, List<GameObject> out) {
+        float leftLimit = left - margin;
+        float rightLimit = right + margin;
+        float[] xs = x;
+        int[] widths = width;
+        for (int i = from; i < to; i++) {
+            // Operator non-short-circuit (|) agar sisi yang acak tidak menjadi cabang yang sulit ditebak CPU;
+            // yang tersisa hanya cabang 'keluar atau tidak' yang hampir selalu false.
+            if ((xs[i] + widths[i] < leftLimit) | (xs[i] > rightLimit)) {
+                out.add(views[i]);
+            }
+        }
+    }
+
+    // Menjalankan semua sistem untuk satu slot saja (dipakai jika update() dipanggil langsung pada view).
+    void step(int i, long now) {
+        x[i] += velocityX[i];
+        y[i] += velocityY[i];
+        int frames = animFrameCount[i];
+        if (frames != 0 && now - animLastTime[i] > animDelayMs[i]) {
+            int next = animFrame[i] + 1;
+            animFrame[i] = next >= frames ? 0 : next;
+            animLastTime[i] = now;
+        }
+        boxX[i] = (int) x[i];
+        boxY[i] = (int) y[i];
+    }
+
+    // Getter untuk jumlah entitas yang terpasang.
+    public int size() { return count; }
+
+    // Menyalin state slot ke field view-nya dan melepas tautannya.
+    private void copyBack(int i) {
+        GameObject object = views[i];
+        object.x = x[i];
+        object.y = y[i];
+        object.prevX = prevX[i];
+        object.prevY = prevY[i];
+        object.collisionBox.setBounds(boxX[i], boxY[i], width[i], height[i]);
+        object.currentAnimFrame = animFrame[i];
+        object.lastFrameTime_anim = animLastTime[i];
+        object.components = null;
+        object.slot = -1;
+    }
+
+    // Memindahkan isi slot 'from' ke slot 'to' dan memperbarui indeks view-nya.
+    private void moveSlot(int from, int to) {
+        views[to] = views[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        prevX[to] = prevX[from];
+        prevY[to] = prevY[from];
+        velocityX[to] = velocityX[from];
+        velocityY[to] = velocityY[from];
+        width[to] = width[from];
+        height[to] = height[from];
+        boxX[to] = boxX[from];
+        boxY[to] = boxY[from];
+        animFrame[to] = animFrame[from];
+        animFrameCount[to] = animFrameCount[from];
+        animDelayMs[to] = animDelayMs[from];
+        animLastTime[to] = animLastTime[from];
+        schooling[to] = schooling[from];
+        cruiseX[to] = cruiseX[from];
+        huntUntil[to] = huntUntil[from];
+        views[to].slot = to;
+    }
+
+    // Membuat (atau memperbesar) semua array ke kapasitas tertentu.
+    private void allocate(int capacity) {
+        if (views == null) {
+            views = new GameObject[capacity];
+            x = new float[capacity];
+            y = new float[capacity];
+            prevX = new float[capacity];
+            prevY = new float[capacity];
+            velocityX = new float[capacity];
+            velocityY = new float[capacity];
+            width = new int[capacity];
+            height = new int[capacity];
+            boxX = new int[capacity];
+            boxY = new int[capacity];
+            animFrame = new int[capacity];
+            animFrameCount = new int[capacity];
+            animDelayMs = new int[capacity];
+            animLastTime = new long[capacity];
+            schooling = new Schooling[capacity];
+            cruiseX = new float[capacity];
+            huntUntil = new long[capacity];
+            return;
+        }
+        views = Arrays.copyOf(views, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        boxX = Arrays.copyOf(boxX, capacity);
+        boxY = Arrays.copyOf(boxY, capacity);
+        animFrame = Arrays.copyOf(animFrame, capacity);
+        animFrameCount = Arrays.copyOf(animFrameCount, capacity);
+        animDelayMs = Arrays.copyOf(animDelayMs, capacity);
+        animLastTime = Arrays.copyOf(animLastTime, capacity);
+        schooling = Arrays.copyOf(schooling, capacity);
+        cruiseX = Arrays.copyOf(cruiseX, capacity);
+        huntUntil = Arrays.copyOf(huntUntil, capacity);
+    }
+}
@@ -1,51 +1,76 @@
 package model;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 import viewmodel.Constants;
+import viewmodel.GameClock;
 
 // Kelas ini adalah 'blueprint' dasar untuk semua jenis ikan di dalam game.
 // Merupakan turunan dari GameObject dan akan diturunkan lagi oleh jenis ikan spesifik.
 public class Fish extends GameObject {
+    // Nilai skor ikan normal (juga ditampilkan di panel info menu).
+    public static final int SCORE_VALUE = 10;
     // Nilai skor yang didapat jika berhasil menangkap ikan ini.
     protected int scoreValue; 
     // Kecepatan gerak horizontal ikan.
     protected float speedX;
     // Faktor kesulitan saat mini-game struggle (semakin tinggi, semakin sulit).
     protected float struggleFactor;
+    // Pengali kecepatan jenis ikan ini (disimpan agar kecepatan bisa diacak ulang saat dipakai ulang dari pool).
+    private final float baseSpeedMultiplier;
 
     // Konstruktor utama yang paling detail untuk membuat objek ikan.
-    public Fish(float x, float y, int renderWidth, int renderHeight, int scoreValue, 
+    public Fish(GameClock clock, float x, float y, int renderWidth, int renderHeight, int scoreValue, 
                 String spriteSheetPath, boolean movesLeftToRight, float baseSpeedMultiplier,
                 int spriteFrameW, int spriteFrameH, int totalFrames, int frameDelay,
-                float struggleDifficultyFactor) {
+                float struggleDifficultyFactor, SplittableRandom speedRandom) {
         // Panggil konstruktor parent (GameObject).
-        super(x, y, renderWidth, renderHeight);
+        super(clock, x, y, renderWidth, renderHeight);
         // Inisialisasi properti spesifik ikan.
         this.scoreValue = scoreValue;
         this.struggleFactor = struggleDifficultyFactor;
+        this.baseSpeedMultiplier = baseSpeedMultiplier;
         // Muat sprite sheet untuk animasi ikan.
         loadSpriteSheet(spriteSheetPath, spriteFrameW, spriteFrameH, totalFrames, frameDelay);
 
-        // Atur kecepatan dan arah gerak secara acak berdasarkan multiplier.
-        Random rand = new Random();
-        float baseSpeed = (1.0f + rand.nextFloat() * 0.8f) * baseSpeedMultiplier; 
+        randomizeMovement(movesLeftToRight, speedRandom);
+    }
+
+    // Menyiapkan ulang ikan bekas dari pool seolah-olah baru dibuat di posisi dan arah tertentu.
+    public void reset(float x, float y, boolean movesLeftToRight, SplittableRandom speedRandom) {
+        respawnAt(x, y);
+        randomizeMovement(movesLeftToRight, speedRandom);
+    }
+
+    // Atur kecepatan dan arah gerak secara acak berdasarkan multiplier (aliran acak milik sesi, bukan objek Random baru).
+    private void randomizeMovement(boolean movesLeftToRight, SplittableRandom speedRandom) {
+        float baseSpeed = (1.0f + (float) speedRandom.nextDouble() * 0.8f) * baseSpeedMultiplier;
         
         this.speedX = movesLeftToRight ? baseSpeed : -baseSpeed;
         // Atur arah hadap sprite agar sesuai dengan arah gerakan.
         this.isFacingRight_anim = movesLeftToRight; 
     }
 
+    // Perilaku gerombol ikan normal: gerombol rapat dan lincah.
+    public static final Schooling SCHOOLING = new Schooling(80f, 36f,
+            0.002f, 0.05f, 1.5f, 0.02f,
+            0.6f, 1.4f, 0.5f);
+
     // Konstruktor praktis untuk membuat ikan 'normal' (dipanggil oleh EntityHandler).
-    public Fish(float x, float y, String spriteSheetPath, boolean movesLeftToRight) {
+    public Fish(GameClock clock, float x, float y, String spriteSheetPath, boolean movesLeftToRight, SplittableRandom speedRandom) {
         // Panggil konstruktor utama dengan nilai-nilai default untuk ikan biasa.
-        this(x, y, 32, 32, 10, spriteSheetPath, movesLeftToRight, 1.5f, 
+        this(clock, x, y, 32, 32, SCORE_VALUE, spriteSheetPath, movesLeftToRight, 1.5f, 
              32, 32, 4, 150, 
-             1.0f); // Struggle factor normal untuk ikan ini.
+             1.0f, speedRandom); // Struggle factor normal untuk ikan ini.
     }
 
     // Metode update utama untuk ikan, dipanggil setiap frame.
     @Override
     public void update() {
+        // Saat terpasang di EntityComponents, state ada di array; jalankan sistem untuk slot ini saja.
+        if (components != null) {
+            components.step(slot, clock.millis());
+            return;
+        }
         x += speedX; // Gerakkan ikan secara horizontal.
         updateAnimation(); // Update frame animasi.
         updateCollisionBox(); // Update posisi hitbox.
@@ -53,14 +78,24 @@ public class Fish extends GameObject {
 
     // Getter untuk mendapatkan nilai skor ikan ini.
     public int getScoreValue() { return scoreValue; }
+    // Getter untuk kecepatan horizontal saat ini (negatif = bergerak ke kiri); berubah-ubah selama ikan bergerombol.
+    public float getSpeedX() { return components != null ? components.velocityX[slot] : speedX; }
+    // Getter untuk kecepatan vertikal saat ini (hanya bukan nol selama ikan bergerombol).
+    public float getSpeedY() { return components != null ? components.velocityY[slot] : 0f; }
+    // Kecepatan yang disalin ke EntityComponents saat ikan dipasang.
+    @Override
+    public float getVelocityX() { return speedX; }
+    // Parameter gerombol jenis ikan ini (di-override oleh BigFish dan DartFish).
+    @Override
+    public Schooling getSchooling() { return SCHOOLING; }
     // Getter untuk mendapatkan faktor kesulitan struggle ikan ini.
     public float getStruggleFactor() { return struggleFactor; }
 
     // Metode untuk mengecek apakah ikan sudah keluar dari batas layar.
     public boolean isOutOfBounds() {
         // Kembalikan true jika posisi ikan sudah jauh di luar layar kiri atau kanan.
-        if (speedX < 0 && x + width < -20) return true; 
-        if (speedX > 0 && x > Constants.GAME_WIDTH + 20) return true;
+        if (speedX < 0 && getX() + width < -20) return true; 
+        if (speedX > 0 && getX() > Constants.GAME_WIDTH + 20) return true;
         return false;
     }
 }
\ No newline at end of file
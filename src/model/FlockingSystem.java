@@ -0,0 +1,331 @@
+package model;
+
+import java.util.Arrays;
+
+// Kelas ini adalah sistem gerombol (boids) di atas EntityComponents: setiap tick, ikan yang punya parameter Schooling
+// mengubah kecepatannya berdasarkan tetangga sejenis (separation, alignment, cohesion), lalu sistem gerak biasa
+// yang memindahkan posisinya. Tetangga dicari lewat grid seragam dengan sel setengah radius persepsi terbesar:
+// setiap kelompok (jenis ikan x arah renang) punya lapisan grid sendiri, slot diurutkan per sel dengan counting sort,
+// dan setiap ikan hanya memeriksa sel di sekitarnya pada lapisannya, sehingga tidak ada kandidat dari kelompok lain
+// yang perlu disaring. Setiap ikan hanya memperhatikan MAX_NEIGHBORS tetangga terdekat dalam radiusnya, seperti ikan sungguhan
+// yang hanya mengikuti beberapa tetangga terdekat. Untuk populasi kecil (di bawah 'gridThreshold', misalnya permainan
+// biasa) semua pasangan diperiksa langsung karena lebih murah daripada membangun grid. Kedua jalur memilih tetangga
+// yang sama (urut jarak, lalu slot) dan menjumlahkannya dalam urutan yang sama, jadi hasilnya sama persis dan jalur
+// semua pasangan menjadi pembanding yang adil untuk grid. Satu tick terdiri dari tiga fase: prepare() (pusat dan
+// grid, sekuensial), steer() untuk rentang ikan (hanya menulis buffer kecepatan baru milik ikan itu, jadi rentang
+// berbeda boleh dihitung paralel, lihat ParallelEntityUpdater.flock), lalu commit() yang menyalin kecepatan baru
+// setelah semua ikan dihitung, sehingga hasilnya tidak bergantung pada urutan slot maupun pembagian rentangnya.
+// Arah renang (kiri/kanan) tidak pernah berbalik, sehingga arah hadap sprite dan sistem batas layar tetap berlaku.
+public final class FlockingSystem {
+    // Kekuatan dorongan kembali ke pita air jika ikan keluar dari batas atas/bawah (per piksel pelanggaran).
+    private static final float EDGE_STEER = 0.01f;
+    // Jumlah tetangga terdekat yang diperhatikan setiap ikan (hewan yang bergerombol umumnya hanya mengikuti 6-7).
+    public static final int MAX_NEIGHBORS = 7;
+
+    private final int worldHeight;
+    private final int bottomReserve;   // Tinggi area bawah layar yang tidak dimasuki ikan.
+    // Setiap sel selebar searchRadius / SUBDIVISION, jadi tetangga dalam radius berada paling jauh SUBDIVISION sel.
+    // Sel yang lebih kecil dari radius membuat pencarian di gerombol padat berhenti setelah beberapa sel saja.
+    private static final int SUBDIVISION = 2;
+    private final float searchRadius;  // Radius persepsi terbesar yang didukung grid.
+    private final float cellSize;
+    private final int gridThreshold;   // Jumlah entitas minimum untuk memakai grid (di bawahnya: semua pasangan).
+    private boolean useGrid;           // Apakah grid dipakai pada tick ini.
+    private final int columns, rows, columnOffset;
+    private float originX;             // Koordinat dunia sisi kiri grid pada tick ini (jendela aktif dunia yang bergulir).
+    private int preparedCount;         // Jumlah slot yang disiapkan oleh prepare() pada tick ini.
+
+    private Schooling[] groups = new Schooling[0]; // Jenis ikan yang pernah terlihat; lapisan grid = indeks * 2 + arah.
+    private int[] cellStart = new int[1]; // Awal rentang setiap sel (semua lapisan) di 'order', panjang jumlah sel + 1.
+    private int[] order = new int[0];     // Slot ikan yang diurutkan per sel.
+    private int[] cellOf = new int[0];    // Sel (termasuk lapisan) setiap slot, -1 = tidak bergerombol.
+    private float[] centerX = new float[0], centerY = new float[0];
+    private float[] nextVx = new float[0], nextVy = new float[0];
+    // Salinan pusat dalam urutan 'order', agar pemindaian tetangga membaca memori berurutan.
+    private float[] sortedX = new float[0], sortedY = new float[0];
+
+    // Konstruktor. 'worldWidth' adalah lebar area yang disimulasikan (jendela aktif, bukan seluruh dunia yang bergulir).
+    // 'searchRadius' sebaiknya tidak lebih kecil dari radius persepsi terbesar; radius yang lebih besar dipotong ke
+    // nilai ini (di kedua jalur) agar pencarian lewat grid tetap lengkap. 'gridThreshold' = Integer.MAX_VALUE berarti
+    // grid tidak pernah dipakai (pembanding untuk benchmark).
+    public FlockingSystem(int worldWidth, int worldHeight, int bottomReserve, float searchRadius, int gridThreshold) {
+        this.worldHeight = worldHeight;
+        this.bottomReserve = bottomReserve;
+        this.searchRadius = searchRadius;
+        this.cellSize = searchRadius / SUBDIVISION;
+        this.gridThreshold = Math.max(0, gridThreshold);
+        // Kolom cadangan di kiri dan kanan untuk ikan yang baru muncul dari luar layar.
+        this.columnOffset = SUBDIVISION;
+        this.columns = (int) Math.ceil(worldWidth / this.cellSize) + 2 * SUBDIVISION;
+        this.rows = (int) Math.ceil(worldHeight / this.cellSize);
+    }
+
+    // Menghitung kecepatan baru semua ikan yang bergerombol untuk satu tick (posisi belum diubah), di thread pemanggil.
+    // 'originX' adalah koordinat dunia sisi kiri area yang disimulasikan.
+    public void update(EntityComponents c, float originX) {
+        prepare(c, originX);
+        steer(c, 0, preparedCount);
+        commit(c);
+    }
+
+    // Fase 1: menyalin pusat semua slot dan membangun grid tetangga. Mengembalikan jumlah slot yang disiapkan.
+    public int prepare(EntityComponents c, float originX) {
+        int n = c.size();
+        preparedCount = n;
+        if (n == 0) return 0;
+        this.originX = originX;
+        ensureCapacity(n);
+        float[] x = c.x, y = c.y;
+        int[] width = c.width, height = c.height;
+        for (int i = 0; i < n; i++) {
+            centerX[i] = x[i] + width[i] * 0.5f;
+            centerY[i] = y[i] + height[i] * 0.5f;
+        }
+        useGrid = n >= gridThreshold;
+        if (useGrid) buildGrid(c, n);
+        return n;
+    }
+
+    // Fase 2: menghitung kecepatan baru ikan ke-[from, to) ke buffer. Dengan grid, ikan dihitung dalam urutan sel
+    // (bukan urutan slot) agar ikan berurutan membaca tetangga yang sama dari cache. Hanya membaca komponen dan hasil
+    // prepare(), jadi rentang yang berbeda aman dihitung bersamaan dari beberapa thread.
+    public void steer(EntityComponents c, int from, int to) {
+        int n = preparedCount;
+        // Tetangga terdekat yang terpilih untuk ikan yang sedang dihitung (milik pemanggil ini, bukan field,
+        // karena beberapa rentang bisa dihitung bersamaan).
+        long[] nearest = new long[MAX_NEIGHBORS];
+        for (int p = from; p < to; p++) {
+            int i = useGrid ? order[p] : p;
+            Schooling s = c.schooling[i];
+            if (s == null) {
+                nextVx[i] = c.velocityX[i];
+                nextVy[i] = c.velocityY[i];
+            } else {
+                steer(c, n, p, i, s, nearest);
+            }
+        }
+    }
+
+    // Fase 3: menyalin kecepatan baru ke komponen setelah semua slot dihitung.
+    public void commit(EntityComponents c) {
+        System.arraycopy(nextVx, 0, c.velocityX, 0, preparedCount);
+        System.arraycopy(nextVy, 0, c.velocityY, 0, preparedCount);
+    }
+
+    // Mengurutkan slot ikan yang bergerombol ke sel grid (per lapisan kelompok) dengan counting sort.
+    private void buildGrid(EntityComponents c, int n) {
+        int layerCells = columns * rows;
+        Arrays.fill(cellStart, 0);
+        for (int i = 0; i < n; i++) {
+            Schooling s = c.schooling[i];
+            if (s == null) {
+                cellOf[i] = -1;
+                continue;
+            }
+            int layer = groupIndex(s) * 2 + (c.cruiseX[i] > 0 ? 1 : 0);
+            int cell = layer * layerCells + cellIndex(centerX[i], centerY[i]);
+            cellOf[i] = cell;
+            cellStart[cell + 1]++;
+        }
+        int cells = cellStart.length - 1;
+        for (int cell = 0; cell < cells; cell++) cellStart[cell + 1] += cellStart[cell];
+        // Isi 'order' dengan memakai cellStart sebagai penunjuk tulis sementara, lalu geser kembali.
+        for (int i = 0; i < n; i++) {
+            int cell = cellOf[i];
+            if (cell >= 0) order[cellStart[cell]++] = i;
+        }
+        for (int cell = cells; cell > 0; cell--) cellStart[cell] = cellStart[cell - 1];
+        cellStart[0] = 0;
+        int sorted = cellStart[cells];
+        int tail = sorted; // Slot yang tidak bergerombol menyusul di belakang agar 'order' memuat semua slot.
+        for (int i = 0; i < n; i++) {
+            if (cellOf[i] < 0) order[tail++] = i;
+        }
+        for (int k = 0; k < sorted; k++) {
+            int i = order[k];
+            sortedX[k] = centerX[i];
+            sortedY[k] = centerY[i];
+        }
+    }
+
+    // Indeks kelompok untuk satu jenis ikan; jenis baru mendapat dua lapisan grid baru (kiri dan kanan).
+    private int groupIndex(Schooling s) {
+        for (int g = 0; g < groups.length; g++) {
+            if (groups[g] == s) return g;
+        }
+        groups = Arrays.copyOf(groups, groups.length + 1);
+        groups[groups.length - 1] = s;
+        int[] grown = new int[groups.length * 2 * columns * rows + 1];
+        System.arraycopy(cellStart, 0, grown, 0, cellStart.length);
+        cellStart = grown;
+        return groups.length - 1;
+    }
+
+    // Sel untuk satu titik di dalam satu lapisan; titik di luar dunia dijepit ke sel tepi (tetangga dalam radius tetap
+    // berada paling jauh SUBDIVISION sel).
+    private int cellIndex(float px, float py) {
+        int column = Math.min(columns - 1, Math.max(0, (int) Math.floor((px - originX) / cellSize) + columnOffset));
+        int row = Math.min(rows - 1, Math.max(0, (int) Math.floor(py / cellSize)));
+        return row * columns + column;
+    }
+
+    // Menghitung kecepatan baru ikan ke-p (slot i) dari MAX_NEIGHBORS tetangga terdekat yang sejenis dan berenang
+    // ke arah yang sama.
+    private void steer(EntityComponents c, int n, int p, int i, Schooling s, long[] nearest) {
+        // Radius dipotong ke ukuran sel di kedua jalur agar keduanya mencari di area yang sama.
+        float radius = Math.min(s.perceptionRadius, searchRadius);
+        float radius2 = radius * radius;
+        float separation2 = s.separationRadius * s.separationRadius;
+        float px = centerX[i], py = centerY[i];
+        float cruise = c.cruiseX[i];
+        boolean headingRight = cruise > 0;
+        Schooling[] schooling = c.schooling;
+        float[] cruiseX = c.cruiseX, velocityX = c.velocityX, velocityY = c.velocityY;
+
+        int count = 0;
+        if (useGrid) {
+            // Semua isi lapisan ini sudah sejenis dan searah, jadi tidak perlu disaring lagi.
+            int layerCells = columns * rows;
+            int layerBase = cellOf[i] / layerCells * layerCells;
+            int cell = cellOf[i] - layerBase;
+            int column = cell % columns, row = cell / columns;
+            // Sel sendiri lebih dulu agar daftar terdekat cepat penuh, lalu cincin sel di sekitarnya dari yang terdekat.
+            // Sel yang jarak terdekatnya ke ikan ini sudah lebih jauh dari tetangga terjauh di daftar (atau dari
+            // radius) dilewati, dan pencarian berhenti begitu seluruh cincin berikutnya sudah terlalu jauh.
+            count = scanCell(cellStart[cellOf[i]], cellStart[cellOf[i] + 1], p, px, py, radius2, nearest, count);
+            for (int ring = 1; ring <= SUBDIVISION; ring++) {
+                float ringGap = (ring - 1) * cellSize;
+                if (ringGap * ringGap > bound(nearest, count, radius2)) break;
+                for (int r = Math.max(0, row - ring); r <= Math.min(rows - 1, row + ring); r++) {
+                    boolean edgeRow = r == row - ring || r == row + ring;
+                    int step = edgeRow ? 1 : 2 * ring; // Baris tengah cincin hanya punya sel paling kiri dan kanan.
+                    float gapY = gap(py, r * cellSize, (r + 1) * cellSize, r == 0, r == rows - 1);
+                    for (int col = column - ring; col <= column + ring; col += step) {
+                        if (col < 0 || col >= columns) continue;
+                        int target = layerBase + r * columns + col;
+                        int from = cellStart[target], to = cellStart[target + 1];
+                        if (from == to) continue; // Sel kosong.
+                        float cellLeft = originX + (col - columnOffset) * cellSize;
+                        float gapX = gap(px, cellLeft, cellLeft + cellSize, col == 0, col == columns - 1);
+                        float gap2 = gapX * gapX + gapY * gapY;
+                        if (gap2 > bound(nearest, count, radius2) || gap2 >= radius2) continue;
+                        count = scanCell(from, to, p, px, py, radius2, nearest, count);
+                    }
+                }
+            }
+        } else {
+            for (int j = 0; j < n; j++) {
+                if (j == i || schooling[j] != s || (cruiseX[j] > 0) != headingRight) continue;
+                float dx = centerX[j] - px, dy = centerY[j] - py;
+                float d2 = dx * dx + dy * dy;
+                if (d2 < radius2) count = keepNearest(nearest, count, neighborKey(d2, j));
+            }
+        }
+
+        // Jumlahkan tetangga terpilih dari yang terdekat, sehingga hasilnya tidak bergantung pada jalur pencarian.
+        float sumDx = 0, sumDy = 0, sumVx = 0, sumVy = 0, pushX = 0, pushY = 0;
+        for (int k = 0; k < count; k++) {
+            int j = (int) nearest[k];
+            float dx = centerX[j] - px, dy = centerY[j] - py;
+            float d2 = Float.intBitsToFloat((int) (nearest[k] >>> 32));
+            sumDx += dx;
+            sumDy += dy;
+            sumVx += velocityX[j];
+            sumVy += velocityY[j];
+            if (d2 < separation2) {
+                float inverse = 1f / Math.max(d2, 1f);
+                pushX -= dx * inverse;
+                pushY -= dy * inverse;
+            }
+        }
+
+        float vx = velocityX[i], vy = velocityY[i];
+        float ax = s.cruiseWeight * (cruise - vx);
+        float ay = -s.cruiseWeight * vy;
+        if (count > 0) {
+            float inverse = 1f / count;
+            ax += s.cohesionWeight * sumDx * inverse + s.alignmentWeight * (sumVx * inverse - vx);
+            ay += s.cohesionWeight * sumDy * inverse + s.alignmentWeight * (sumVy * inverse - vy);
+        }
+        ax += s.separationWeight * pushX;
+        ay += s.separationWeight * pushY;
+
+        // Tetap di pita air tempat ikan jenis ini muncul (lihat EntityHandler.spawnRandomEntity).
+        float top = c.height[i];
+        float bottom = worldHeight - bottomReserve - c.height[i];
+        float y = c.y[i];
+        if (y < top) ay += EDGE_STEER * (top - y);
+        else if (y > bottom) ay -= EDGE_STEER * (y - bottom);
+
+        float speed = Math.abs(cruise);
+        float forward = Math.max(s.minSpeedFactor * speed, Math.min(s.maxSpeedFactor * speed, (vx + ax) * (headingRight ? 1 : -1)));
+        float climb = s.maxClimbFactor * speed;
+        nextVx[i] = headingRight ? forward : -forward;
+        nextVy[i] = Math.max(-climb, Math.min(climb, vy + ay));
+    }
+
+    // Memeriksa isi satu sel grid (posisi [from, to) di 'order', selain posisi 'self') sebagai kandidat tetangga.
+    private int scanCell(int from, int to, int self, float px, float py, float radius2, long[] nearest, int count) {
+        for (int k = from; k < to; k++) {
+            if (k == self) continue; // Diri sendiri.
+            float dx = sortedX[k] - px, dy = sortedY[k] - py;
+            float d2 = dx * dx + dy * dy;
+            if (d2 >= radius2) continue;
+            long key = neighborKey(d2, order[k]);
+            if (count == MAX_NEIGHBORS && key >= nearest[MAX_NEIGHBORS - 1]) continue; // Cek cepat sebelum menyisipkan.
+            count = keepNearest(nearest, count, key);
+        }
+        return count;
+    }
+
+    // Kunci urut satu tetangga: jarak kuadrat di 32 bit atas (bit float positif naik seiring nilainya), slot di
+    // 32 bit bawah, sehingga jarak yang sama diurutkan menurut slot dan satu perbandingan long sudah cukup.
+    private static long neighborKey(float d2, int slot) {
+        return (long) Float.floatToRawIntBits(d2) << 32 | slot;
+    }
+
+    // Jarak kuadrat terjauh yang masih bisa masuk daftar terdekat: tetangga terjauhnya jika penuh, selain itu radius.
+    private static float bound(long[] nearest, int count, float radius2) {
+        return count == MAX_NEIGHBORS ? Float.intBitsToFloat((int) (nearest[MAX_NEIGHBORS - 1] >>> 32)) : radius2;
+    }
+
+    // Jarak dari koordinat 'p' ke rentang sel [low, high); sel tepi grid meluas tanpa batas karena titik di luar
+    // dunia dijepit ke sana.
+    private static float gap(float p, float low, float high, boolean openLow, boolean openHigh) {
+        if (p < low && !openLow) return low - p;
+        if (p > high && !openHigh) return p - high;
+        return 0;
+    }
+
+    // Menyisipkan tetangga ke daftar terdekat yang terurut naik jika masih muat atau lebih dekat dari yang terjauh.
+    // Mengembalikan jumlah isi daftar yang baru.
+    private static int keepNearest(long[] nearest, int count, long key) {
+        int k = count;
+        if (count == MAX_NEIGHBORS) {
+            k--;
+            if (key >= nearest[k]) return count;
+        } else {
+            count++;
+        }
+        while (k > 0 && key < nearest[k - 1]) {
+            nearest[k] = nearest[k - 1];
+            k--;
+        }
+        nearest[k] = key;
+        return count;
+    }
+
+    // Memperbesar buffer per slot jika perlu.
+    private void ensureCapacity(int n) {
+        if (centerX.length >= n) return;
+        int capacity = Math.max(n, centerX.length * 2);
+        order = new int[capacity];
+        cellOf = new int[capacity];
+        sortedX = new float[capacity];
+        sortedY = new float[capacity];
+        centerX = new float[capacity];
+        centerY = new float[capacity];
+        nextVx = new float[capacity];
+        nextVy = new float[capacity];
+    }
+}
@@ -0,0 +1,219 @@
+package model;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+// Kelas ini adalah flow field (medan arah) di atas grid kasar seluas area yang disimulasikan: setiap sel menyimpan jarak jalan ke sel
+// target (Dijkstra 8 arah, biaya 10 lurus dan 14 diagonal, tanpa memotong sudut penghalang) beserta arah ke tetangga
+// yang paling dekat ke target. Karena biayanya bilangan bulat kecil, antrian Dijkstra memakai ember melingkar
+// (algoritma Dial) alih-alih heap, sehingga satu penghitungan ulang linear terhadap jumlah sel. Grid diberi bingkai
+// sel tertutup satu lapis agar tetangga bisa dihitung dengan offset tetap tanpa cek batas. Berapa pun jumlah
+// pemburunya, setiap pemburu cukup membaca arah di selnya (O(1)), sehingga biaya total sebanding dengan ukuran grid,
+// bukan jumlah pemburu. Di dunia yang bergulir, grid ikut bergeser bersama area yang disimulasikan (setOrigin).
+// Medan hanya dihitung ulang saat target pindah sel, grid bergeser, atau penghalang berubah, dan baru pada saat
+// arahnya pertama kali dibaca, jadi tick tanpa pemburu aktif tidak membayar apa pun.
+public final class FlowField {
+    private static final int STRAIGHT_COST = 10;
+    private static final int DIAGONAL_COST = 14;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int[] NEIGHBOR_DX = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] NEIGHBOR_DY = {0, 0, 1, -1, 1, -1, 1, -1};
+    private static final float DIAGONAL = (float) (1 / Math.sqrt(2));
+    // Antrian Dijkstra: ember ke-(jarak % BUCKETS) berisi sel dengan jarak sementara tersebut.
+    private static final int BUCKETS = DIAGONAL_COST + 1;
+
+    private final int cellSize;
+    private final int columns, rows;
+    private final int stride;                     // Lebar grid termasuk bingkai (columns + 2).
+    private final int[] neighborOffset = new int[8];
+    private final boolean[] blocked;              // Bingkai selalu tertutup.
+    private final int[] distance;
+    private final float[] directionX, directionY; // Vektor satuan ke sel berikutnya menuju target (0,0 di sel target).
+    private final int[] blockedCells;             // Sel di dalam grid yang tertutup penghalang (blockedCount pertama).
+    private final int[] obstacleScratch;          // Buffer rasterisasi penghalang baru, untuk dibandingkan dengan yang lama.
+    private final int[] obstacleStamp;            // Nomor panggilan setObstacles terakhir yang memasukkan sel ini ke buffer.
+    private int obstacleGeneration;
+    private int blockedCount;
+    private float originX;                        // Koordinat dunia sisi kiri grid (kelipatan cellSize).
+    private final int[][] buckets = new int[BUCKETS][];
+    private final int[] bucketSize = new int[BUCKETS];
+    private int targetCell = -1;
+    private boolean stale = true; // Medan belum dihitung untuk target/grid/penghalang saat ini.
+    private int recomputeCount;
+
+    // Konstruktor untuk dunia selebar 'worldWidth' x 'worldHeight' piksel dengan sel persegi 'cellSize' piksel.
+    public FlowField(int worldWidth, int worldHeight, int cellSize) {
+        this.cellSize = cellSize;
+        this.columns = (worldWidth + cellSize - 1) / cellSize;
+        this.rows = (worldHeight + cellSize - 1) / cellSize;
+        this.stride = columns + 2;
+        int cells = stride * (rows + 2);
+        this.blocked = new boolean[cells];
+        this.distance = new int[cells];
+        this.directionX = new float[cells];
+        this.directionY = new float[cells];
+        this.blockedCells = new int[columns * rows];
+        this.obstacleScratch = new int[columns * rows];
+        this.obstacleStamp = new int[cells];
+        for (int k = 0; k < 8; k++) neighborOffset[k] = NEIGHBOR_DY[k] * stride + NEIGHBOR_DX[k];
+        for (int b = 0; b < BUCKETS; b++) buckets[b] = new int[64];
+        for (int row = -1; row <= rows; row++) {
+            for (int column = -1; column <= columns; column++) {
+                blocked[index(column, row)] = row < 0 || row == rows || column < 0 || column == columns;
+            }
+        }
+    }
+
+    // Menggeser grid agar sisi kirinya di koordinat dunia 'x' (dibulatkan ke bawah ke kelipatan ukuran sel).
+    // Jika grid bergeser, medan dihitung ulang pada update berikutnya; penghalang harus diatur ulang sesudahnya
+    // karena posisinya di grid ikut berubah.
+    public void setOrigin(float x) {
+        float snapped = (float) Math.floor(x / cellSize) * cellSize;
+        if (snapped == originX) return;
+        originX = snapped;
+        stale = true;
+    }
+
+    // Mengganti penghalang: sel yang bersinggungan dengan salah satu persegi panjang (diperlebar 'margin' piksel
+    // ke semua sisi, agar badan pemburu tidak menyerempet) tidak bisa dilewati. Boleh dipanggil setiap tick:
+    // medan hanya dihitung ulang (pada update berikutnya) jika sel yang tertutup benar-benar berubah.
+    public void setObstacles(int margin, Rectangle... obstacles) {
+        int count = 0;
+        int generation = ++obstacleGeneration;
+        for (Rectangle obstacle : obstacles) {
+            int left = Math.max(0, (int) Math.floor((obstacle.x - margin - originX) / cellSize));
+            int right = Math.min(columns - 1, (int) Math.floor((obstacle.x + obstacle.width + margin - 1 - originX) / cellSize));
+            int top = Math.max(0, (obstacle.y - margin) / cellSize);
+            int bottom = Math.min(rows - 1, (obstacle.y + obstacle.height + margin - 1) / cellSize);
+            for (int row = top; row <= bottom; row++) {
+                for (int column = left; column <= right; column++) {
+                    int cell = index(column, row);
+                    if (obstacleStamp[cell] == generation) continue; // Penghalang yang saling tumpang tindih.
+                    obstacleStamp[cell] = generation;
+                    obstacleScratch[count++] = cell;
+                }
+            }
+        }
+        if (count == blockedCount && Arrays.equals(obstacleScratch, 0, count, blockedCells, 0, count)) return;
+        for (int i = 0; i < blockedCount; i++) blocked[blockedCells[i]] = false;
+        for (int i = 0; i < count; i++) blocked[obstacleScratch[i]] = true;
+        System.arraycopy(obstacleScratch, 0, blockedCells, 0, count);
+        blockedCount = count;
+        stale = true;
+    }
+
+    // Memindahkan target ke titik (px, py). Jika sel target berubah, medan ditandai usang dan dihitung ulang saat
+    // arahnya dibaca berikutnya; mengembalikan true jika sel target berubah.
+    public boolean update(float px, float py) {
+        int cell = cellAt(px, py);
+        if (cell == targetCell) return false;
+        targetCell = cell;
+        stale = true;
+        return true;
+    }
+
+    // Arah gerak (vektor satuan) di titik (px, py); titik di luar grid memakai sel tepi terdekat.
+    // Mengembalikan 0 pada kedua sumbu jika titik sudah berada di sel target (pemburu sebaiknya menuju target langsung).
+    public float directionX(float px, float py) {
+        if (stale) recompute();
+        return directionX[cellAt(px, py)];
+    }
+    public float directionY(float px, float py) {
+        if (stale) recompute();
+        return directionY[cellAt(px, py)];
+    }
+
+    // Jarak jalan (dalam satuan biaya, 10 per sel lurus) dari titik ke target, atau -1 jika tidak terjangkau.
+    public int distanceAt(float px, float py) {
+        if (stale) recompute();
+        int d = distance[cellAt(px, py)];
+        return d == UNREACHABLE ? -1 : d;
+    }
+
+    // Getter untuk jumlah penghitungan ulang sejak dibuat (untuk laporan/benchmark).
+    public int getRecomputeCount() { return recomputeCount; }
+    public int getCellCount() { return columns * rows; }
+
+    // Indeks sel (column, row) di array berbingkai.
+    private int index(int column, int row) {
+        return (row + 1) * stride + column + 1;
+    }
+
+    // Sel grid untuk satu titik, dijepit ke tepi grid (tidak pernah ke bingkai).
+    private int cellAt(float px, float py) {
+        int column = Math.min(columns - 1, Math.max(0, (int) Math.floor((px - originX) / cellSize)));
+        int row = Math.min(rows - 1, Math.max(0, (int) Math.floor(py / cellSize)));
+        return index(column, row);
+    }
+
+    // Dijkstra dari sel target ke seluruh grid. Arah setiap sel ditulis saat jaraknya membaik, yaitu ke sel asal
+    // tepi tersebut (induknya di pohon jalur terpendek), jadi tidak perlu lintasan kedua atas semua sel.
+    private void recompute() {
+        stale = false;
+        if (targetCell < 0) return; // Belum ada target.
+        recomputeCount++;
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(directionX, 0); // Sel terbuka yang tidak terjangkau tidak punya arah.
+        Arrays.fill(directionY, 0);
+        boolean targetBlocked = blocked[targetCell];
+        blocked[targetCell] = false; // Sel target selalu terbuka walaupun tertutup penghalang.
+        distance[targetCell] = 0;
+        directionX[targetCell] = 0;
+        directionY[targetCell] = 0;
+        push(targetCell, 0);
+        int pending = 1;
+        for (int d = 0; pending > 0; d++) {
+            int b = d % BUCKETS;
+            int[] bucket = buckets[b];
+            // Sel baru dengan jarak d tidak mungkin masuk ke ember ini selama diproses (biaya tepi 10..14 < BUCKETS),
+            // jadi ember ini juga tidak akan diperbesar di tengah loop.
+            while (bucketSize[b] > 0) {
+                int cell = bucket[--bucketSize[b]];
+                pending--;
+                if (distance[cell] != d) continue; // Entri usang (sudah ditemukan jarak yang lebih pendek).
+                for (int k = 0; k < 8; k++) {
+                    int next = cell + neighborOffset[k];
+                    if (blocked[next]) continue;
+                    // Diagonal tidak boleh memotong sudut sel tertutup.
+                    if (k >= 4 && (blocked[cell + NEIGHBOR_DX[k]] || blocked[cell + NEIGHBOR_DY[k] * stride])) continue;
+                    int nd = d + (k < 4 ? STRAIGHT_COST : DIAGONAL_COST);
+                    if (nd < distance[next]) {
+                        distance[next] = nd;
+                        // Dari 'next', langkah berikutnya menuju target adalah kembali ke 'cell'.
+                        float length = k < 4 ? 1f : DIAGONAL;
+                        directionX[next] = -NEIGHBOR_DX[k] * length;
+                        directionY[next] = -NEIGHBOR_DY[k] * length;
+                        push(next, nd);
+                        pending++;
+                    }
+                }
+            }
+        }
+        blocked[targetCell] = targetBlocked;
+
+        // Sel tertutup (misal: pemburu yang terdorong ke tepi penghalang) diarahkan ke tetangga terbuka terdekat ke target.
+        for (int i = 0; i < blockedCount; i++) {
+            int cell = blockedCells[i];
+            if (cell == targetCell) continue;
+            int best = -1;
+            int bestDistance = UNREACHABLE;
+            for (int k = 0; k < 8; k++) {
+                int next = cell + neighborOffset[k];
+                if (distance[next] < bestDistance) {
+                    best = k;
+                    bestDistance = distance[next];
+                }
+            }
+            float length = best < 4 ? 1f : DIAGONAL;
+            directionX[cell] = best < 0 ? 0 : NEIGHBOR_DX[best] * length;
+            directionY[cell] = best < 0 ? 0 : NEIGHBOR_DY[best] * length;
+        }
+    }
+
+    // Memasukkan sel ke ember untuk jarak 'd'.
+    private void push(int cell, int d) {
+        int b = d % BUCKETS;
+        if (bucketSize[b] == buckets[b].length) buckets[b] = Arrays.copyOf(buckets[b], bucketSize[b] * 2);
+        buckets[b][bucketSize[b]++] = cell;
+    }
+}
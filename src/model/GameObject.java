@@ -6,39 +6,61 @@ import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.net.URL;
-import javax.imageio.ImageIO;
-import javax.swing.ImageIcon;
+import java.util.List;
+import viewmodel.GameClock;
+import viewmodel.SpriteAtlas;
+import viewmodel.SpriteCache;
 
 // Kelas abstrak ini adalah 'cetakan' atau 'blueprint' untuk semua objek di dalam game.
 // Semua entitas seperti Player, Fish, dan Ghost adalah turunan dari kelas ini.
 public abstract class GameObject {
+    // Jam simulasi bersama; semua logika berbasis waktu membaca waktu dari sini, bukan dari System.currentTimeMillis().
+    protected final GameClock clock;
     // Properti dasar yang dimiliki semua objek game: posisi dan ukuran.
     protected float x, y;
+    // Posisi pada tick simulasi sebelumnya, digunakan untuk interpolasi saat render.
+    protected float prevX, prevY;
     protected int width, height; // Ukuran render objek di layar.
     // Kotak deteksi tabrakan untuk objek ini.
     protected Rectangle collisionBox;
     // Gambar untuk objek yang tidak beranimasi (statis).
     protected Image image; 
+    private String imagePath;                   // Resource gambar statis, untuk memanggangnya ke atlas.
+    private SpriteAtlas.Region imageRegion;     // Gambar statis di atlas pada ukuran render; dipanggang saat render pertama.
     
     // Kumpulan properti untuk objek yang memiliki animasi dari sprite sheet.
-    protected BufferedImage spriteSheet;
+    protected List<BufferedImage> frames; // Frame animasi dari SpriteCache (dipakai bersama semua objek sejenis).
+    protected List<CollisionMask> masks;  // Bitmask tabrakan per frame pada ukuran render, juga dari SpriteCache.
     protected int frameWidth_sprite;     
     protected int frameHeight_sprite;    
+    private String spriteSheetPath;       // Sheet asal frame dan jumlah frame yang diminta, untuk memanggang frame render.
+    private int requestedFrames;
+    private SpriteCache.BakedFrames bakedFrames; // Frame siap-gambar pada ukuran render; dipanggang saat render pertama.
     protected int currentAnimFrame;
     protected int totalAnimFrames;
     protected long lastFrameTime_anim;
     protected int frameDelayMs_anim;
     protected boolean animated; 
     protected boolean isFacingRight_anim = true; // Arah hadap sprite (default kanan).
+    public static final long NOT_HUNTING = Long.MIN_VALUE; // Nilai getHuntUntilMs() untuk objek yang tidak berburu.
+
+    // Penyimpanan komponen (struct-of-arrays) tempat state inti objek ini berada selama objek aktif di EntityHandler,
+    // atau null jika state ada di field objek sendiri. Selama terpasang, objek ini hanya view tipis dari slot-nya.
+    EntityComponents components;
+    int slot = -1;
+    // Posisi objek di array kerja EntityStore (untuk hapus O(1)), atau -1 jika tidak sedang tersimpan di sana.
+    private int storeIndex = -1;
 
     // Variabel statis untuk mengontrol apakah hitbox digambar atau tidak (untuk debugging).
     public static boolean DEBUG_DRAW_HITBOX = false;
 
     // Konstruktor dasar untuk semua GameObject.
-    public GameObject(float x, float y, int renderWidth, int renderHeight) {
+    public GameObject(GameClock clock, float x, float y, int renderWidth, int renderHeight) {
+        this.clock = clock;
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.width = renderWidth; 
         this.height = renderHeight;
         // Inisialisasi collision box dengan ukuran yang sama dengan ukuran render.
@@ -46,59 +68,65 @@ public abstract class GameObject {
         this.animated = false; // Defaultnya, objek tidak beranimasi.
     }
 
-    // Metode untuk memuat gambar statis (non-animasi).
+    // Menyiapkan ulang objek bekas dari pool di posisi baru: posisi, interpolasi, animasi, dan hitbox dimulai dari awal.
+    // Hanya untuk objek yang tidak sedang terpasang di EntityComponents.
+    protected void respawnAt(float x, float y) {
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+        this.currentAnimFrame = 0;
+        this.lastFrameTime_anim = clock.millis();
+        updateCollisionBox();
+    }
+
+    // Metode untuk memuat gambar statis (non-animasi) dari SpriteCache.
     protected void loadImage(String imagePath) {
-        try {
-            URL imgUrl = getClass().getResource(imagePath);
-            if (imgUrl == null) {
-                 System.err.println("Gagal memuat gambar: " + imagePath + " (resource tidak ditemukan).");
-                 return;
-            }
-            ImageIcon ii = new ImageIcon(imgUrl);
-            this.image = ii.getImage();
-            if (this.image == null || ii.getIconWidth() == -1) {
-                 System.err.println("ImageIcon berhasil dibuat tapi gambar null atau error: " + imagePath);
-            }
-        } catch (Exception e) {
-            System.err.println("Error saat memuat gambar " + imagePath + ": " + e.getMessage());
+        this.image = SpriteCache.getImage(imagePath); // null jika gagal (pesan error sudah dicetak oleh cache).
+        this.imagePath = imagePath;
+        this.imageRegion = null;
+    }
+
+    // Menggambar gambar statis di (drawX, drawY) pada ukuran width x height: disalin dari atlas jika sudah dipanggang
+    // pada ukuran itu, atau diskalakan dari gambar asli jika tidak (misal: ukuran render berubah).
+    protected void drawStaticImage(Graphics g, int drawX, int drawY, int width, int height) {
+        if (imageRegion == null && width > 0 && height > 0) {
+            imageRegion = SpriteCache.getBakedImage(imagePath, width, height);
+        }
+        if (imageRegion != null && imageRegion.getWidth() == width && imageRegion.getHeight() == height) {
+            imageRegion.draw(g, drawX, drawY);
+        } else {
+            g.drawImage(image, drawX, drawY, width, height, null);
         }
     }
 
-    // Metode untuk memuat gambar sprite sheet untuk animasi.
+    // Metode untuk memuat frame sprite sheet untuk animasi dari SpriteCache (tanpa decode ulang per objek).
     protected void loadSpriteSheet(String spriteSheetPath, int frameW, int frameH, int totalFrames, int frameDelay) {
-        try {
-            URL sheetUrl = getClass().getResource(spriteSheetPath);
-            if (sheetUrl == null) {
-                System.err.println("Gagal memuat sprite sheet: " + spriteSheetPath + " (resource tidak ditemukan).");
-                this.animated = false;
-                return;
-            }
-            this.spriteSheet = ImageIO.read(sheetUrl);
-            if (this.spriteSheet != null) {
-                // Inisialisasi semua variabel yang dibutuhkan untuk logika animasi.
-                this.frameWidth_sprite = frameW;
-                this.frameHeight_sprite = frameH;
-                this.totalAnimFrames = totalFrames;
-                this.frameDelayMs_anim = frameDelay;
-                this.currentAnimFrame = 0;
-                this.lastFrameTime_anim = System.currentTimeMillis();
-                this.animated = true; // Tandai objek ini sebagai objek beranimasi.
-            } else {
-                System.err.println("Sprite sheet berhasil dibaca tapi null: " + spriteSheetPath);
-                this.animated = false;
-            }
-        } catch (Exception e) {
-            System.err.println("Error saat memuat sprite sheet " + spriteSheetPath + ": " + e.getMessage());
+        this.frames = SpriteCache.getFrames(spriteSheetPath, frameW, frameH, totalFrames);
+        this.masks = SpriteCache.getMasks(spriteSheetPath, frameW, frameH, totalFrames, width, height);
+        this.spriteSheetPath = spriteSheetPath;
+        this.requestedFrames = totalFrames;
+        this.bakedFrames = null;
+        if (this.frames != null) {
+            // Inisialisasi semua variabel yang dibutuhkan untuk logika animasi.
+            this.frameWidth_sprite = frameW;
+            this.frameHeight_sprite = frameH;
+            this.totalAnimFrames = frames.size();
+            this.frameDelayMs_anim = frameDelay;
+            this.currentAnimFrame = 0;
+            this.lastFrameTime_anim = clock.millis();
+            this.animated = true; // Tandai objek ini sebagai objek beranimasi.
+        } else {
             this.animated = false;
         }
     }
     
     // Logika default untuk mengupdate frame animasi.
     protected void updateAnimation() {
-        if (!animated || spriteSheet == null || totalAnimFrames == 0) return;
+        if (!animated || frames == null || totalAnimFrames == 0) return;
 
         // Cek apakah sudah waktunya untuk pindah ke frame berikutnya.
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.millis();
         if (currentTime - lastFrameTime_anim > frameDelayMs_anim) {
             currentAnimFrame++;
             // Jika sudah mencapai frame terakhir, kembali ke awal (looping).
@@ -110,64 +138,165 @@ public abstract class GameObject {
     }
 
     // Metode default untuk mengupdate posisi collision box agar sama dengan posisi objek.
-    // Metode ini di-override oleh kelas turunan seperti Player dan Ghost.
+    // Ukurannya sama dengan ukuran render; bagian transparan disaring oleh bitmask di collidesWith().
     protected void updateCollisionBox() {
+        if (components != null) {
+            components.boxX[slot] = (int) components.x[slot];
+            components.boxY[slot] = (int) components.y[slot];
+            return;
+        }
         this.collisionBox.x = (int)x;
         this.collisionBox.y = (int)y;
         this.collisionBox.width = this.width;
         this.collisionBox.height = this.height;
     }
 
-    // Metode untuk menggambar objek ke layar.
-    public void render(Graphics g) {
-        // Jika objek beranimasi, gambar frame saat ini dari sprite sheet.
-        if (animated && spriteSheet != null) {
-            int sx1_src = currentAnimFrame * frameWidth_sprite;
-            int sy1_src = 0; 
-            int sx2_src = sx1_src + frameWidth_sprite;
-            int sy2_src = frameHeight_sprite;
-
-            // Logika untuk membalik gambar jika menghadap ke kiri.
-            if (!isFacingRight_anim) {
-                int temp = sx1_src;
-                sx1_src = sx2_src;
-                sx2_src = temp;
-            }
+    // Mengembalikan bitmask frame yang sedang tampil (sudah dicerminkan sesuai arah hadap), atau null jika
+    // objek tidak punya sprite; objek tanpa mask dianggap padat seluas collision box-nya.
+    public CollisionMask getCollisionMask() {
+        int frame = getAnimFrame();
+        if (!animated || masks == null || frame >= masks.size()) return null;
+        CollisionMask mask = masks.get(frame);
+        return isFacingRight() ? mask : mask.getMirrored();
+    }
 
-            // Gambar bagian dari sprite sheet ke layar.
-            g.drawImage(spriteSheet, 
-                        (int)x, (int)y, (int)x + width, (int)y + height, 
-                        sx1_src, sy1_src, sx2_src, sy2_src, 
-                        null);
+    // Tes tabrakan dua tahap: irisan collision box dulu, lalu AND bitmask pada area irisan jika ada mask.
+    // Mask selalu diletakkan di posisi render objek, sama seperti saat frame digambar.
+    public boolean collidesWith(GameObject other) {
+        Rectangle ownBox = getCollisionBox();
+        Rectangle otherBox = other.getCollisionBox();
+        if (!ownBox.intersects(otherBox)) return false;
+        CollisionMask own = getCollisionMask();
+        CollisionMask theirs = other.getCollisionMask();
+        if (own == null && theirs == null) return true;
+        if (own == null) return theirs.overlaps((int) other.getX(), (int) other.getY(), ownBox);
+        if (theirs == null) return own.overlaps((int) getX(), (int) getY(), otherBox);
+        return CollisionMask.overlaps(own, (int) getX(), (int) getY(), theirs, (int) other.getX(), (int) other.getY());
+    }
+
+    // Tes tabrakan dua tahap terhadap area persegi panjang padat (misal: kotak ujung harpun di satu titik lintasan).
+    public boolean collidesWith(Rectangle area) {
+        if (!getCollisionBox().intersects(area)) return false;
+        CollisionMask own = getCollisionMask();
+        return own == null || own.overlaps((int) getX(), (int) getY(), area);
+    }
+
+    // Menyimpan posisi saat ini sebagai posisi 'sebelumnya'. Dipanggil di awal setiap tick simulasi.
+    public void storePreviousPosition() {
+        if (components != null) {
+            components.prevX[slot] = components.x[slot];
+            components.prevY[slot] = components.y[slot];
+            return;
+        }
+        this.prevX = x;
+        this.prevY = y;
+    }
+
+    // Menggambar objek di (drawX, drawY) dari state render yang sudah disalin ke RenderSnapshot (ukuran, varian
+    // animasi, frame, arah hadap), jadi tidak membaca posisi atau frame yang sedang diubah oleh thread simulasi.
+    // Yang dibaca dari objek hanya sumber gambarnya (frame dan wilayah atlas), yang tetap setelah objek dibuat.
+    public void draw(Graphics g, int drawX, int drawY, int width, int height, int variant, int frame, boolean facingRight) {
+        // Jika objek beranimasi, gambar frame yang disalin.
+        if (animated && frames != null && frame < frames.size()) {
+            // Jalur cepat: wilayah atlas berisi frame yang sudah dipanggang pada ukuran render dan arah hadapnya, disalin tanpa skala.
+            if (bakedFrames == null && width > 0 && height > 0) {
+                bakedFrames = SpriteCache.getBakedFrames(spriteSheetPath, frameWidth_sprite, frameHeight_sprite,
+                        requestedFrames, width, height);
+            }
+            if (bakedFrames != null && bakedFrames.getWidth() == width && bakedFrames.getHeight() == height) {
+                bakedFrames.get(frame, facingRight).draw(g, drawX, drawY);
+            } else {
+                // Jalur lambat (misal: ukuran render berubah): skala dan cerminkan frame asli saat menggambar.
+                BufferedImage source = frames.get(frame);
+                int sx1_src = 0;
+                int sx2_src = source.getWidth();
+                if (!facingRight) {
+                    sx1_src = source.getWidth();
+                    sx2_src = 0;
+                }
+                g.drawImage(source, 
+                            drawX, drawY, drawX + width, drawY + height, 
+                            sx1_src, 0, sx2_src, source.getHeight(), 
+                            null);
+            }
         } else if (image != null) { // Jika objek tidak beranimasi, gambar image statisnya.
-             g.drawImage(image, (int)x, (int)y, width, height, null);
+             drawStaticImage(g, drawX, drawY, width, height);
         } else {
             // Fallback: jika tidak ada gambar sama sekali, gambar kotak magenta untuk debugging.
             Color defaultColor = g.getColor();
             g.setColor(Color.MAGENTA); 
-            g.fillRect((int)x, (int)y, width, height);
+            g.fillRect(drawX, drawY, width, height);
             g.setColor(Color.BLACK);
-            g.drawRect((int)x, (int)y, width, height);
+            g.drawRect(drawX, drawY, width, height);
             g.setColor(defaultColor);
         }
 
-        // Jika mode debug aktif, gambar kotak collision box (hitbox) transparan.
-        if (DEBUG_DRAW_HITBOX && collisionBox != null) {
-            Graphics2D g2d = (Graphics2D) g.create(); 
-            g2d.setColor(new Color(255, 0, 0, 80)); 
-            g2d.fillRect(collisionBox.x, collisionBox.y, collisionBox.width, collisionBox.height);
-            g2d.setColor(Color.RED); 
-            g2d.drawRect(collisionBox.x, collisionBox.y, collisionBox.width, collisionBox.height);
-            g2d.dispose();
+        // Jika mode debug aktif, gambar kotak tabrakan (seukuran render, di posisi gambar) transparan.
+        if (DEBUG_DRAW_HITBOX) drawHitbox(g, drawX, drawY, width, height);
+    }
+
+    // Menggambar kotak tabrakan transparan (untuk debugging).
+    protected static void drawHitbox(Graphics g, int boxX, int boxY, int width, int height) {
+        Graphics2D g2d = (Graphics2D) g.create(); 
+        g2d.setColor(new Color(255, 0, 0, 80)); 
+        g2d.fillRect(boxX, boxY, width, height);
+        g2d.setColor(Color.RED); 
+        g2d.drawRect(boxX, boxY, width, height);
+        g2d.dispose();
+    }
+
+    // Memanggang frame render (atau gambar statis) objek ini ke atlas sekarang, misal saat sesi dibuat, agar render
+    // pertama di tengah permainan tidak memanggang. Hasilnya dipakai bersama oleh semua objek sejenis lewat SpriteCache.
+    public void prebake() {
+        if (width <= 0 || height <= 0) return;
+        if (animated) {
+            SpriteCache.getBakedFrames(spriteSheetPath, frameWidth_sprite, frameHeight_sprite, requestedFrames, width, height);
+        } else if (imagePath != null) {
+            SpriteCache.getBakedImage(imagePath, width, height);
         }
     }
 
-    // Kumpulan getter dan setter untuk properti dasar objek.
-    public Rectangle getCollisionBox() { return collisionBox; }
-    public float getX() { return x; }
-    public void setX(float x) { this.x = x; }
-    public float getY() { return y; }
-    public void setY(float y) { this.y = y; }
+    // State render yang disalin ke RenderSnapshot di akhir setiap tick (lihat draw()).
+    public float getPrevX() { return components != null ? components.prevX[slot] : prevX; }
+    public float getPrevY() { return components != null ? components.prevY[slot] : prevY; }
+    public int getRenderVariant() { return 0; } // Varian animasi (misal: kondisi animasi pemain).
+    public int getRenderFrame() { return getAnimFrame(); }
+    public boolean isRenderFacingRight() { return isFacingRight(); }
+
+    // Kumpulan getter dan setter untuk properti dasar objek (membaca/menulis slot EntityComponents jika terpasang).
+    public Rectangle getCollisionBox() {
+        if (components != null) {
+            collisionBox.setBounds(components.boxX[slot], components.boxY[slot], width, height);
+        }
+        return collisionBox;
+    }
+    public float getX() { return components != null ? components.x[slot] : x; }
+    public void setX(float x) {
+        if (components != null) components.x[slot] = x;
+        else this.x = x;
+    }
+    public float getY() { return components != null ? components.y[slot] : y; }
+    public void setY(float y) {
+        if (components != null) components.y[slot] = y;
+        else this.y = y;
+    }
+    // Frame animasi yang sedang tampil.
+    protected int getAnimFrame() { return components != null ? components.animFrame[slot] : currentAnimFrame; }
+    // Arah hadap sprite saat ini (di-override oleh objek yang bisa berbalik arah di tengah jalan).
+    protected boolean isFacingRight() { return isFacingRight_anim; }
+    // Kecepatan per tick yang disalin ke EntityComponents saat objek dipasang (default: diam).
+    public float getVelocityX() { return 0f; }
+    public float getVelocityY() { return 0f; }
+    // Batas waktu berburu (waktu simulasi, ms) yang disalin ke EntityComponents saat objek dipasang;
+    // NOT_HUNTING untuk objek yang tidak pernah berburu (default).
+    public long getHuntUntilMs() { return NOT_HUNTING; }
+    // Parameter gerombol yang disalin ke EntityComponents saat objek dipasang (default: tidak bergerombol).
+    public Schooling getSchooling() { return null; }
+    // Hook khusus EntityStore (beda package, jadi harus public): posisi objek di array kerja store yang sedang
+    // menyimpannya, atau -1. Hanya EntityStore yang boleh memanggil setStoreIndex(); kode lain yang mengubahnya akan
+    // merusak remove()/contains() store tersebut. Keduanya final agar subkelas tidak bisa mengubah perilakunya.
+    public final int getStoreIndex() { return storeIndex; }
+    public final void setStoreIndex(int storeIndex) { this.storeIndex = storeIndex; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
 
@@ -7,18 +7,22 @@ import java.awt.Image;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
-import java.net.URL;
-import javax.swing.ImageIcon;
-import viewmodel.Constants; 
+import viewmodel.Constants;
+import viewmodel.SpriteAtlas;
+import viewmodel.SpriteCache;
 
 // Kelas ini merepresentasikan objek harpun (tali lasso) yang digunakan pemain.
 public class Harpoon extends GameObject { 
+    // Ukuran kotak ujung harpun (piksel) untuk deteksi tabrakan.
+    public static final int TIP_SIZE = 10;
     // Referensi ke objek Player untuk mengetahui posisi awal tembakan.
     private Player player;
     // Status apakah harpun sedang ditembakkan atau tidak.
     private boolean isFiring;
     // Koordinat ujung harpun saat ini.
     private float currentTipX, currentTipY;
+    // Koordinat ujung harpun pada tick sebelumnya (untuk interpolasi render).
+    private float prevTipX, prevTipY;
     // Koordinat target (lokasi klik mouse).
     private float targetX, targetY;
     // Kecepatan gerak harpun.
@@ -28,13 +32,17 @@ public class Harpoon extends GameObject {
     private float currentLength;
     // Objek yang berhasil dikait oleh harpun.
     private GameObject hookedObject;
-    // Gambar sprite untuk harpun.
+    // Gambar sprite untuk harpun (ukuran aslinya) dan wilayahnya di atlas (disalin saat render pertama).
+    private static final String HARPOON_IMAGE = "/assets/images/harpoon.png";
     private Image harpoonImage;
+    private SpriteAtlas.Region harpoonRegion;
     private int harpoonWidth, harpoonHeight;
+    // Koordinat dunia sisi kiri layar (kamera); ujung harpun yang keluar layar ditarik kembali.
+    private float viewLeft;
 
     // Konstruktor, menginisialisasi harpun dengan referensi ke player.
     public Harpoon(Player player) { 
-        super(player.getX(), player.getY(), 10, 10); // Hitbox awal hanya untuk ujungnya.
+        super(player.clock, player.getX(), player.getY(), TIP_SIZE, TIP_SIZE); // Hitbox awal hanya untuk ujungnya.
         this.player = player;
         this.isFiring = false;
         this.hookedObject = null; // Awalnya tidak mengait apa-apa.
@@ -43,25 +51,18 @@ public class Harpoon extends GameObject {
 
     // Metode internal untuk memuat gambar sprite harpun.
     private void loadHarpoonImage() {
-        try {
-            URL imgUrl = getClass().getResource("/assets/images/harpoon.png"); 
-            if (imgUrl == null) {
-                 System.err.println("Gagal memuat gambar harpoon: /assets/images/harpoon.png (resource tidak ditemukan).");
-                 return;
-            }
-            ImageIcon ii = new ImageIcon(imgUrl);
-            this.harpoonImage = ii.getImage();
-            if (this.harpoonImage != null) {
-                this.harpoonWidth = harpoonImage.getWidth(null);
-                this.harpoonHeight = harpoonImage.getHeight(null);
-            } else {
-                 System.err.println("ImageIcon harpoon berhasil dibuat tapi gambar null.");
-            }
-        } catch (Exception e) {
-            System.err.println("Error saat memuat gambar harpoon: " + e.getMessage());
+        this.harpoonImage = SpriteCache.getImage(HARPOON_IMAGE);
+        if (this.harpoonImage != null) {
+            this.harpoonWidth = harpoonImage.getWidth(null);
+            this.harpoonHeight = harpoonImage.getHeight(null);
         }
     }
 
+    // Mengatur posisi layar di dunia yang bergulir (dipanggil sebelum update setiap tick).
+    public void setViewLeft(float viewLeft) {
+        this.viewLeft = viewLeft;
+    }
+
     // Metode untuk memulai tembakan harpun.
     public void fire(float clickX, float clickY) {
         // Hanya bisa menembak jika tidak sedang dalam kondisi menembak.
@@ -71,6 +72,8 @@ public class Harpoon extends GameObject {
             // Atur posisi awal tembakan dari tengah player.
             this.currentTipX = player.getX() + player.getWidth() / 2f;
             this.currentTipY = player.getY() + player.getHeight() / 2f;
+            this.prevTipX = currentTipX;
+            this.prevTipY = currentTipY;
             this.targetX = clickX;
             this.targetY = clickY;
             this.currentLength = 0;
@@ -80,11 +83,10 @@ public class Harpoon extends GameObject {
     
     // Helper untuk mengupdate posisi hitbox agar selalu di ujung harpun.
     private void updateCollisionBoxForTip() {
-        int boxSize = 10; 
-        this.collisionBox.x = (int) currentTipX - boxSize / 2;
-        this.collisionBox.y = (int) currentTipY - boxSize / 2;
-        this.collisionBox.width = boxSize;
-        this.collisionBox.height = boxSize;
+        this.collisionBox.x = (int) currentTipX - TIP_SIZE / 2;
+        this.collisionBox.y = (int) currentTipY - TIP_SIZE / 2;
+        this.collisionBox.width = TIP_SIZE;
+        this.collisionBox.height = TIP_SIZE;
     }
 
     // Metode update utama untuk harpun, dipanggil setiap frame.
@@ -106,7 +108,7 @@ public class Harpoon extends GameObject {
 
             // Jika harpun mencapai jarak maksimal atau keluar layar, tarik kembali.
             if (currentLength >= maxLength || 
-                currentTipX < 0 || currentTipX > Constants.GAME_WIDTH ||
+                currentTipX < viewLeft || currentTipX > viewLeft + Constants.GAME_WIDTH ||
                 currentTipY < 0 || currentTipY > Constants.GAME_HEIGHT) {
                 retract(); 
             }
@@ -139,6 +141,14 @@ public class Harpoon extends GameObject {
         }
     }
 
+    // Selain posisi objek, simpan juga posisi ujung harpun untuk interpolasi.
+    @Override
+    public void storePreviousPosition() {
+        super.storePreviousPosition();
+        this.prevTipX = currentTipX;
+        this.prevTipY = currentTipY;
+    }
+
     // Menarik kembali harpun (jika gagal mengenai target).
     public void retract() {
         this.isFiring = false;
@@ -152,52 +162,92 @@ public class Harpoon extends GameObject {
         this.currentLength = 0;
     }
 
-    // Metode untuk menggambar harpun dan talinya.
-    @Override
-    public void render(Graphics g) {
-        if (isFiring) {
+    // State render harpun yang sedang ditembakkan pada satu tick (tidak berubah setelah dibuat), disalin ke
+    // RenderSnapshot agar thread render tidak membaca posisi ujung yang sedang diubah oleh tick berikutnya.
+    public final class Shot {
+        private final float prevTipX, prevTipY, tipX, tipY;
+        private final float targetX, targetY;
+        private final boolean hooked;
+
+        private Shot() {
+            this.prevTipX = Harpoon.this.prevTipX;
+            this.prevTipY = Harpoon.this.prevTipY;
+            this.tipX = currentTipX;
+            this.tipY = currentTipY;
+            this.targetX = Harpoon.this.targetX;
+            this.targetY = Harpoon.this.targetY;
+            this.hooked = hookedObject != null;
+        }
+
+        // Menggambar tali dari pusat pemain (sudah diinterpolasi oleh pemanggil) dan sprite harpun di ujungnya.
+        public void draw(Graphics g, float alpha, float playerCenterX, float playerCenterY) {
             Graphics2D g2d = (Graphics2D) g.create(); // Buat salinan Graphics2D agar tidak mengganggu komponen lain.
 
-            float playerCenterX = player.getX() + player.getWidth() / 2f;
-            float playerCenterY = player.getY() + player.getHeight() / 2f;
+            // Gunakan posisi hasil interpolasi agar tali dan ujung harpun bergerak mulus.
+            float renderTipX = prevTipX + (tipX - prevTipX) * alpha;
+            float renderTipY = prevTipY + (tipY - prevTipY) * alpha;
 
             // Gambar tali harpun dari player ke ujung harpun.
             g2d.setColor(new Color(139, 69, 19, 200)); 
             g2d.setStroke(new java.awt.BasicStroke(3)); 
             g2d.drawLine((int) playerCenterX, (int) playerCenterY,
-                         (int) currentTipX, (int) currentTipY);
+                         (int) renderTipX, (int) renderTipY);
 
             // Jika gambar harpun ada, gambar sprite harpun di ujung tali.
             if (harpoonImage != null && harpoonWidth > 0 && harpoonHeight > 0) {
                 // Tentukan sudut rotasi agar harpun menghadap arah yang benar.
                 double angleRad;
-                if (hookedObject != null) { // Jika menarik objek, harpun menghadap ke player.
-                    angleRad = Math.atan2(playerCenterY - currentTipY, playerCenterX - currentTipX);
+                if (hooked) { // Jika menarik objek, harpun menghadap ke player.
+                    angleRad = Math.atan2(playerCenterY - renderTipY, playerCenterX - renderTipX);
                 } else { // Jika bergerak keluar, harpun menghadap ke target.
-                    float initialFireAngle = (float) Math.atan2(targetY - playerCenterY, targetX - playerCenterX);
-                    angleRad = initialFireAngle;
+                    angleRad = Math.atan2(targetY - playerCenterY, targetX - playerCenterX);
                 }
 
                 AffineTransform oldTransform = g2d.getTransform();
                 
                 // Lakukan transformasi (translasi dan rotasi) untuk menggambar harpun.
-                g2d.translate(currentTipX, currentTipY);
+                g2d.translate(renderTipX, renderTipY);
                 g2d.rotate(angleRad); 
-                g2d.drawImage(harpoonImage, -harpoonWidth / 2, -harpoonHeight / 2, harpoonWidth, harpoonHeight, null);
+                if (harpoonRegion == null) {
+                    harpoonRegion = SpriteCache.getBakedImage(HARPOON_IMAGE, harpoonWidth, harpoonHeight);
+                }
+                if (harpoonRegion != null) {
+                    harpoonRegion.draw(g2d, -harpoonWidth / 2, -harpoonHeight / 2);
+                } else {
+                    g2d.drawImage(harpoonImage, -harpoonWidth / 2, -harpoonHeight / 2, harpoonWidth, harpoonHeight, null);
+                }
                 
                 g2d.setTransform(oldTransform); // Kembalikan transformasi ke kondisi semula.
 
             } else { // Fallback jika gambar gagal dimuat, gambar lingkaran sederhana.
                 g2d.setColor(Color.DARK_GRAY);
-                g2d.fillOval((int) currentTipX - 5, (int) currentTipY - 5, 10, 10); 
+                g2d.fillOval((int) renderTipX - 5, (int) renderTipY - 5, 10, 10); 
             }
             g2d.dispose(); // Hapus salinan Graphics2D.
         }
     }
 
+    // Memanggang sprite harpun (ukuran aslinya) ke atlas sekarang, bukan saat tembakan pertama.
+    @Override
+    public void prebake() {
+        if (harpoonImage != null && harpoonWidth > 0 && harpoonHeight > 0) {
+            SpriteCache.getBakedImage(HARPOON_IMAGE, harpoonWidth, harpoonHeight);
+        }
+    }
+
+    // Menyalin state render harpun untuk tick ini, atau null jika harpun tidak sedang ditembakkan.
+    public Shot captureShot() {
+        return isFiring ? new Shot() : null;
+    }
+
     // Getter untuk status harpun.
     public boolean isFiring() { return isFiring; } 
     public Rectangle getTipCollisionBox() { return collisionBox; } 
+    // Posisi ujung harpun saat ini dan di awal tick; keduanya membentuk lintasan ujung selama satu tick.
+    public float getTipX() { return currentTipX; }
+    public float getTipY() { return currentTipY; }
+    public float getPrevTipX() { return prevTipX; }
+    public float getPrevTipY() { return prevTipY; }
 
     // Metode untuk mengaitkan sebuah objek.
     public void hookObject(GameObject obj) {
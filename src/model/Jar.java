@@ -2,6 +2,7 @@ package model;
 
 import java.awt.Color;
 import java.awt.Graphics;
+import viewmodel.GameClock;
 
 // Kelas ini merepresentasikan objek keranjang (Jar) yang menampung skor dan jumlah ikan.
 public class Jar extends GameObject {
@@ -11,9 +12,9 @@ public class Jar extends GameObject {
     private int totalScore;
 
     // Konstruktor untuk membuat objek Jar.
-    public Jar(float x, float y, int width, int height, String imagePath) {
+    public Jar(GameClock clock, float x, float y, int width, int height, String imagePath) {
         // Panggil konstruktor parent untuk mengatur posisi dan ukuran.
-        super(x, y, width, height);
+        super(clock, x, y, width, height);
         // Reset skor dan hitungan awal ke 0.
         this.collectedCount = 0;
         this.totalScore = 0;
@@ -34,16 +35,16 @@ public class Jar extends GameObject {
     @Override
     public void update() { /* Jar tidak bergerak atau berubah, jadi tidak ada logika update. */ }
 
-    // Metode untuk menggambar keranjang ke layar.
+    // Metode untuk menggambar keranjang ke layar (keranjang statis, posisi gambar sama dengan posisinya).
     @Override
-    public void render(Graphics g) {
+    public void draw(Graphics g, int drawX, int drawY, int width, int height, int variant, int frame, boolean facingRight) {
         // Jika gambar berhasil dimuat, gambar keranjangnya.
         if (image != null) {
-            g.drawImage(image, (int)x, (int)y, width, height, null);
+            drawStaticImage(g, drawX, drawY, width, height);
         } else {
             // Jika gambar gagal dimuat, gambar kotak coklat sebagai pengganti.
             g.setColor(new Color(139, 69, 19)); 
-            g.fillRect((int)x, (int)y, width, height);
+            g.fillRect(drawX, drawY, width, height);
         }
     }
 
@@ -2,26 +2,33 @@ package model;
 
 import java.awt.Color;
 import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.net.URL;
-import javax.imageio.ImageIO;
+import java.util.List;
 import viewmodel.Constants;
+import viewmodel.GameClock;
+import viewmodel.SpriteCache;
 
 // Kelas ini merepresentasikan objek pemain yang dikontrol oleh pengguna.
 public class Player extends GameObject {
     // Properti dasar pemain.
     private float speed = 4.5f;
     private int hearts;
-    // Flag untuk menandakan arah gerakan (dikontrol oleh InputHandler).
+    // Flag untuk menandakan arah gerakan (diatur oleh GameSession dari GameCommand di thread simulasi).
     private boolean moveLeft, moveRight, moveUp, moveDown;
 
-    // Kumpulan sprite sheet untuk setiap kondisi animasi.
-    private BufferedImage idleSpriteSheet;
-    private BufferedImage swimmingSpriteSheet;
-    private BufferedImage hurtSpriteSheet;
-    private BufferedImage currentSpriteSheet; // Sprite sheet yang sedang aktif.
+    // Kumpulan frame (dari SpriteCache) untuk setiap kondisi animasi.
+    private List<BufferedImage> idleFrames;
+    private List<BufferedImage> swimmingFrames;
+    private List<BufferedImage> hurtFrames;
+    private List<BufferedImage> currentFrames; // Frame animasi yang sedang aktif.
+    // Bitmask tabrakan per frame untuk setiap kondisi animasi (urutan sama dengan daftar frame-nya).
+    private List<CollisionMask> idleMasks;
+    private List<CollisionMask> swimmingMasks;
+    private List<CollisionMask> hurtMasks;
+    private List<CollisionMask> currentMasks;
+    // Sheet setiap kondisi animasi (urut AnimationState) dan frame render hasil panggangannya (diisi saat render pertama).
+    private String[] sheetPaths;
+    private final SpriteCache.BakedFrames[] bakedFrames = new SpriteCache.BakedFrames[3];
 
     // Properti untuk mengelola logika animasi.
     private int frameWidth;
@@ -44,18 +51,14 @@ public class Player extends GameObject {
     private enum AnimationState { IDLE, SWIMMING, HURT }
     private AnimationState currentAnimationState;
 
-    // Faktor skala untuk hitbox Player agar lebih presisi.
-    private static final float HITBOX_SCALE_X = 0.4f;
-    private static final float HITBOX_SCALE_Y = 0.6f;
-
     // Konstruktor untuk membuat objek Player.
-    public Player(float x, float y, int renderWidth, int renderHeight, int initialHearts,
+    public Player(GameClock clock, float x, float y, int renderWidth, int renderHeight, int initialHearts,
                   String idleSheetPath, String swimmingSheetPath, String hurtSheetPath,
                   int spriteFrameW, int spriteFrameH,
                   int idleFrames, int swimmingFrames, int hurtFrames,
                   int frameDelay, int hurtFrameDelay) {
         
-        super(x, y, renderWidth, renderHeight); // Panggil konstruktor parent.
+        super(clock, x, y, renderWidth, renderHeight); // Panggil konstruktor parent.
         this.hearts = initialHearts;
         
         // Inisialisasi semua properti animasi dari parameter.
@@ -68,7 +71,7 @@ public class Player extends GameObject {
         this.hurtFrameDelayMs = hurtFrameDelay;
         
         this.currentAnimFrame = 0;
-        this.lastFrameTime = System.currentTimeMillis();
+        this.lastFrameTime = clock.millis();
         this.isMoving = false;
         this.isFacingRight = true;
 
@@ -81,23 +84,37 @@ public class Player extends GameObject {
         updateCollisionBox();
     }
 
-    // Metode internal untuk memuat semua file gambar sprite sheet.
+    // Metode internal untuk mengambil frame semua sprite sheet dari SpriteCache.
+    // Jumlah frame disesuaikan dengan yang benar-benar ada di sheet.
     private void loadSpriteSheets(String idlePath, String swimmingPath, String hurtPath) {
-        try {
-            URL idleUrl = getClass().getResource(idlePath);
-            if (idleUrl != null) this.idleSpriteSheet = ImageIO.read(idleUrl);
-            else System.err.println("Gagal memuat idle sprite sheet: " + idlePath);
-
-            URL swimmingUrl = getClass().getResource(swimmingPath);
-            if (swimmingUrl != null) this.swimmingSpriteSheet = ImageIO.read(swimmingUrl);
-            else System.err.println("Gagal memuat swimming sprite sheet: " + swimmingPath);
+        this.idleFrames = SpriteCache.getFrames(idlePath, frameWidth, frameHeight, totalIdleFrames);
+        this.swimmingFrames = SpriteCache.getFrames(swimmingPath, frameWidth, frameHeight, totalSwimmingFrames);
+        this.hurtFrames = SpriteCache.getFrames(hurtPath, frameWidth, frameHeight, totalHurtFrames);
+        if (idleFrames != null) totalIdleFrames = idleFrames.size();
+        if (swimmingFrames != null) totalSwimmingFrames = swimmingFrames.size();
+        if (hurtFrames != null) totalHurtFrames = hurtFrames.size();
+        // Collision box memakai ukuran render penuh; presisinya datang dari bitmask setiap frame.
+        this.idleMasks = SpriteCache.getMasks(idlePath, frameWidth, frameHeight, totalIdleFrames, width, height);
+        this.swimmingMasks = SpriteCache.getMasks(swimmingPath, frameWidth, frameHeight, totalSwimmingFrames, width, height);
+        this.hurtMasks = SpriteCache.getMasks(hurtPath, frameWidth, frameHeight, totalHurtFrames, width, height);
+        this.sheetPaths = new String[] {idlePath, swimmingPath, hurtPath};
+    }
 
-            URL hurtUrl = getClass().getResource(hurtPath);
-            if (hurtUrl != null) this.hurtSpriteSheet = ImageIO.read(hurtUrl);
-            else System.err.println("Gagal memuat hurt sprite sheet: " + hurtPath);
+    // Frame render yang sudah dipanggang (ukuran render, kedua arah hadap) untuk satu kondisi animasi.
+    private SpriteCache.BakedFrames bakedFramesFor(int variant, int renderWidth, int renderHeight) {
+        if (bakedFrames[variant] == null) {
+            bakedFrames[variant] = SpriteCache.getBakedFrames(sheetPaths[variant], frameWidth, frameHeight,
+                    framesFor(variant).size(), renderWidth, renderHeight);
+        }
+        return bakedFrames[variant];
+    }
 
-        } catch (Exception e) {
-            System.err.println("Error saat memuat sprite sheets: " + e.getMessage());
+    // Frame sprite sheet untuk satu kondisi animasi (urut AnimationState).
+    private List<BufferedImage> framesFor(int variant) {
+        switch (AnimationState.values()[variant]) {
+            case SWIMMING: return swimmingFrames;
+            case HURT: return hurtFrames;
+            default: return idleFrames;
         }
     }
 
@@ -108,20 +125,23 @@ public class Player extends GameObject {
         
         this.currentAnimationState = newState;
         this.currentAnimFrame = 0; // Reset frame ke awal.
-        this.lastFrameTime = System.currentTimeMillis();
+        this.lastFrameTime = clock.millis();
 
         // Pilih sprite sheet yang sesuai dengan state baru.
         switch (newState) {
             case IDLE:
-                currentSpriteSheet = idleSpriteSheet;
+                currentFrames = idleFrames;
+                currentMasks = idleMasks;
                 currentAnimationTotalFrames = totalIdleFrames;
                 break;
             case SWIMMING:
-                currentSpriteSheet = swimmingSpriteSheet;
+                currentFrames = swimmingFrames;
+                currentMasks = swimmingMasks;
                 currentAnimationTotalFrames = totalSwimmingFrames;
                 break;
             case HURT:
-                currentSpriteSheet = hurtSpriteSheet;
+                currentFrames = hurtFrames;
+                currentMasks = hurtMasks;
                 currentAnimationTotalFrames = totalHurtFrames;
                 break;
         }
@@ -129,9 +149,9 @@ public class Player extends GameObject {
 
     // Mengupdate frame animasi berdasarkan waktu.
     private void updateAnimationLogic() {
-        if (currentSpriteSheet == null || currentAnimationTotalFrames == 0) return;
+        if (currentFrames == null || currentAnimationTotalFrames == 0) return;
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.millis();
         // Gunakan delay yang berbeda untuk animasi 'terluka'.
         int currentFrameDelay = (currentAnimationState == AnimationState.HURT) ? hurtFrameDelayMs : frameDelayMs;
 
@@ -151,24 +171,12 @@ public class Player extends GameObject {
         }
     }
     
-    // Override metode untuk membuat hitbox Player lebih kecil dan presisi.
+    // Bitmask frame pemain yang sedang tampil, dicerminkan jika pemain menghadap ke kiri.
     @Override
-    protected void updateCollisionBox() {
-        // Hitung lebar, tinggi, dan posisi baru untuk hitbox.
-        int hitboxWidth = (int) (this.width * HITBOX_SCALE_X);
-        int hitboxHeight = (int) (this.height * HITBOX_SCALE_Y);
-        int offsetX = (this.width - hitboxWidth) / 2;
-        int offsetY = (this.height - hitboxHeight) / 2;
-
-        // Atur ulang collision box dengan nilai yang baru.
-        if (this.collisionBox == null) {
-            this.collisionBox = new Rectangle((int)this.x + offsetX, (int)this.y + offsetY, hitboxWidth, hitboxHeight);
-        } else {
-            this.collisionBox.x = (int)this.x + offsetX;
-            this.collisionBox.y = (int)this.y + offsetY;
-            this.collisionBox.width = hitboxWidth;
-            this.collisionBox.height = hitboxHeight;
-        }
+    public CollisionMask getCollisionMask() {
+        if (currentMasks == null || currentAnimFrame >= currentMasks.size()) return null;
+        CollisionMask mask = currentMasks.get(currentAnimFrame);
+        return isFacingRight ? mask : mask.getMirrored();
     }
 
     // Metode update utama untuk pemain, dipanggil setiap frame.
@@ -200,10 +208,11 @@ public class Player extends GameObject {
         x += dx;
         y += dy;
 
-        // Jaga agar pemain tidak keluar dari batas layar.
-        if (x < 0) x = 0;
+        // Jaga agar pemain tidak keluar dari batas atas/bawah layar; ke samping dunia bergulir mengikuti kamera
+        // sampai batas WORLD_LIMIT_X.
+        if (x < -Constants.WORLD_LIMIT_X) x = -Constants.WORLD_LIMIT_X;
         if (y < 0) y = 0;
-        if (x + this.width > Constants.GAME_WIDTH) x = Constants.GAME_WIDTH - this.width;
+        if (x + this.width > Constants.WORLD_LIMIT_X) x = Constants.WORLD_LIMIT_X - this.width;
         if (y + this.height > Constants.GAME_HEIGHT) y = Constants.GAME_HEIGHT - this.height;
 
         // Panggil update lainnya di akhir.
@@ -230,46 +239,50 @@ public class Player extends GameObject {
         }
     }
     
-    // Metode untuk menggambar pemain ke layar.
+    // Metode untuk menggambar pemain ke layar dari state render yang disalin (varian = kondisi animasi).
     @Override
-    public void render(Graphics g) {
-        if (currentSpriteSheet != null && currentAnimationTotalFrames > 0) {
-            // Tentukan area sumber (sx) dari sprite sheet yang akan digambar.
-            int sx1 = currentAnimFrame * this.frameWidth;
-            int sy1 = 0;
-            int sx2 = sx1 + this.frameWidth;
-            int sy2 = this.frameHeight;
-
-            // Tentukan area tujuan (dx) di layar.
-            int dx1 = (int)x;
-            int dy1 = (int)y;
-            int dx2 = (int)x + this.width;
-            int dy2 = (int)y + this.height;
-
-            // Jika pemain menghadap ke kiri, balik gambar secara horizontal.
-            if (!isFacingRight) {
-                int tempSx1 = sx1;
-                sx1 = sx2;
-                sx2 = tempSx1;
+    public void draw(Graphics g, int drawX, int drawY, int width, int height, int variant, int frame, boolean facingRight) {
+        List<BufferedImage> variantFrames = framesFor(variant);
+        if (variantFrames != null && frame < variantFrames.size()) {
+            SpriteCache.BakedFrames baked = bakedFramesFor(variant, width, height);
+            if (baked != null) {
+                // Frame sudah berukuran render dan menghadap ke arah yang benar: cukup disalin.
+                baked.get(frame, facingRight).draw(g, drawX, drawY);
+            } else {
+                // Tentukan area sumber (sx) dari frame; jika pemain menghadap ke kiri, balik gambar secara horizontal.
+                BufferedImage source = variantFrames.get(frame);
+                int sx1 = facingRight ? 0 : source.getWidth();
+                int sx2 = facingRight ? source.getWidth() : 0;
+                g.drawImage(source, drawX, drawY, drawX + width, drawY + height, sx1, 0, sx2, source.getHeight(), null);
             }
-            g.drawImage(currentSpriteSheet, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, null);
         } else {
             // Fallback jika gambar gagal dimuat.
             g.setColor(Color.YELLOW);
-            g.fillRect((int)x, (int)y, this.width, this.height);
+            g.fillRect(drawX, drawY, width, height);
         }
         
-        // Kode untuk menggambar hitbox secara langsung saat mode debug aktif.
-        if (DEBUG_DRAW_HITBOX && collisionBox != null) {
-            Graphics2D g2d = (Graphics2D) g.create(); 
-            g2d.setColor(new Color(255, 0, 0, 80)); 
-            g2d.fillRect(collisionBox.x, collisionBox.y, collisionBox.width, collisionBox.height);
-            g2d.setColor(Color.RED); 
-            g2d.drawRect(collisionBox.x, collisionBox.y, collisionBox.width, collisionBox.height);
-            g2d.dispose();
+        // Kode untuk menggambar hitbox saat mode debug aktif.
+        if (DEBUG_DRAW_HITBOX) drawHitbox(g, drawX, drawY, width, height);
+    }
+
+    // Memanggang frame render semua kondisi animasi (idle, berenang, terluka) ke atlas sekarang juga.
+    // Field bakedFrames milik thread render tidak disentuh; nanti ia hanya mengambil hasil yang sudah ada di cache.
+    @Override
+    public void prebake() {
+        for (int variant = 0; variant < sheetPaths.length; variant++) {
+            if (framesFor(variant) == null) continue;
+            SpriteCache.getBakedFrames(sheetPaths[variant], frameWidth, frameHeight, framesFor(variant).size(), width, height);
         }
     }
 
+    // State render pemain: kondisi animasi, frame, dan arah hadapnya sendiri.
+    @Override
+    public int getRenderVariant() { return currentAnimationState.ordinal(); }
+    @Override
+    public int getRenderFrame() { return currentAnimFrame; }
+    @Override
+    protected boolean isFacingRight() { return isFacingRight; }
+
     // Mereset semua flag gerakan menjadi false.
     public void resetMovementFlags() {
         setMoveUp(false);
@@ -0,0 +1,31 @@
+package model;
+
+// Kelas ini berisi parameter perilaku bergerombol (boids) untuk satu jenis ikan. Satu instance dipakai bersama oleh
+// semua ikan sejenis, dan ikan hanya bergerombol dengan ikan lain yang memakai instance yang sama (satu spesies)
+// serta berenang ke arah yang sama. Jarak dalam piksel, kecepatan dalam piksel per tick.
+public final class Schooling {
+    public final float perceptionRadius;  // Jarak maksimum tetangga yang diperhatikan.
+    public final float separationRadius;  // Di bawah jarak ini ikan saling menjauh.
+    public final float cohesionWeight;    // Tarikan ke titik tengah tetangga.
+    public final float alignmentWeight;   // Penyesuaian ke kecepatan rata-rata tetangga.
+    public final float separationWeight;  // Dorongan menjauh dari tetangga yang terlalu dekat.
+    public final float cruiseWeight;      // Tarikan kembali ke kecepatan jelajah ikan (kecepatan saat muncul).
+    public final float minSpeedFactor;    // Kecepatan horizontal minimum, relatif terhadap kecepatan jelajah.
+    public final float maxSpeedFactor;    // Kecepatan horizontal maksimum, relatif terhadap kecepatan jelajah.
+    public final float maxClimbFactor;    // Kecepatan vertikal maksimum, relatif terhadap kecepatan jelajah.
+
+    // Konstruktor dengan semua parameter.
+    public Schooling(float perceptionRadius, float separationRadius,
+                     float cohesionWeight, float alignmentWeight, float separationWeight, float cruiseWeight,
+                     float minSpeedFactor, float maxSpeedFactor, float maxClimbFactor) {
+        this.perceptionRadius = perceptionRadius;
+        this.separationRadius = separationRadius;
+        this.cohesionWeight = cohesionWeight;
+        this.alignmentWeight = alignmentWeight;
+        this.separationWeight = separationWeight;
+        this.cruiseWeight = cruiseWeight;
+        this.minSpeedFactor = minSpeedFactor;
+        this.maxSpeedFactor = maxSpeedFactor;
+        this.maxClimbFactor = maxClimbFactor;
+    }
+}
@@ -0,0 +1,101 @@
+package view;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import viewmodel.Constants;
+import viewmodel.GameLogic;
+
+// Kelas ini adalah backend render alternatif berbasis active rendering.
+// Frame digambar langsung oleh thread game loop ke BufferStrategy (page flipping),
+// tanpa melewati repaint() dan back buffer milik Swing.
+public class GameCanvas extends Canvas implements GameSurface {
+    private static final long serialVersionUID = 1L;
+    // Jumlah buffer yang dicoba (triple buffering), dengan fallback ke double buffering.
+    private static final int PREFERRED_BUFFERS = 3;
+    private static final Color BACKGROUND_COLOR = new Color(0, 0, 50);
+
+    private final GameLogic gameLogic;
+    private final GameRenderer renderer;
+    private BufferStrategy bufferStrategy;
+
+    // Konstruktor, menyiapkan canvas dan GameLogic-nya sendiri (sama seperti GamePanel).
+    public GameCanvas() {
+        setPreferredSize(new Dimension(Constants.GAME_WIDTH, Constants.GAME_HEIGHT));
+        setFocusable(true);
+        setBackground(BACKGROUND_COLOR);
+        // Abaikan permintaan paint dari sistem; semua penggambaran dilakukan oleh game loop.
+        setIgnoreRepaint(true);
+
+        this.gameLogic = new GameLogic(this);
+        this.renderer = new GameRenderer(gameLogic);
+    }
+
+    @Override
+    public GameLogic getGameLogic() {
+        return gameLogic;
+    }
+
+    @Override
+    public Component getComponent() {
+        return this;
+    }
+
+    // Menggambar dan menampilkan satu frame secara langsung. Dipanggil dari thread game loop.
+    @Override
+    public void presentFrame() {
+        BufferStrategy strategy = getOrCreateBufferStrategy();
+        if (strategy == null) return; // Canvas belum tampil di layar.
+
+        // Loop standar BufferStrategy: ulangi jika isi buffer hilang/dipulihkan selama penggambaran.
+        do {
+            do {
+                Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    g2d.setColor(BACKGROUND_COLOR);
+                    g2d.fillRect(0, 0, getWidth(), getHeight());
+                    renderer.render(g2d, getWidth(), getHeight());
+                } finally {
+                    g2d.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show(); // Tukar buffer (page flip atau blit, tergantung kemampuan sistem).
+        } while (strategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    // Membuat BufferStrategy saat canvas sudah bisa ditampilkan (displayable).
+    private synchronized BufferStrategy getOrCreateBufferStrategy() {
+        if (bufferStrategy == null && isDisplayable()) {
+            try {
+                createBufferStrategy(PREFERRED_BUFFERS);
+            } catch (IllegalStateException e) {
+                createBufferStrategy(2);
+            }
+            bufferStrategy = getBufferStrategy();
+        }
+        return bufferStrategy;
+    }
+
+    // Dipanggil saat window ditutup; hentikan game loop, buang BufferStrategy, dan cetak statistik frame serta kualitas grafis.
+    // Thread loop ditunggu sampai selesai lebih dulu (tanpa lock canvas), agar presentFrame yang sedang berjalan
+    // tidak memakai BufferStrategy yang sudah dibuang.
+    @Override
+    public void removeNotify() {
+        gameLogic.stopGameLoop();
+        System.out.println("Frame time [active]: " + renderer.getFrameStats().summary());
+        System.out.println("Kualitas grafis: " + gameLogic.getQualityGovernor().summary());
+        synchronized (this) {
+            if (bufferStrategy != null) {
+                bufferStrategy.dispose();
+                bufferStrategy = null;
+            }
+        }
+        super.removeNotify();
+    }
+}
@@ -0,0 +1,225 @@
+package view;
+
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import viewmodel.BackgroundCache;
+import viewmodel.Constants;
+import viewmodel.FontManager;
+import viewmodel.FrameStats;
+import viewmodel.GameLogic;
+import viewmodel.GameSession;
+import viewmodel.QualityGovernor;
+import viewmodel.RenderSnapshot;
+import viewmodel.SpriteAtlas;
+import viewmodel.SpriteCache;
+
+// Kelas ini berisi seluruh urutan penggambaran layar permainan (background, objek game, foreground, UI).
+// Dipakai bersama oleh semua backend render (GamePanel dan GameCanvas) agar hasil gambarnya identik.
+public class GameRenderer {
+    // Kecepatan geser setiap lapisan latar relatif terhadap kamera (parallax); lapisan depan ikut dunia.
+    private static final float FAR_PARALLAX = 0.25f;
+    private static final float SAND_PARALLAX = 0.5f;
+    private static final float FOREGROUND_PARALLAX = 1.0f;
+    // Ukuran ikon nyawa (hati) di UI; ikon dipanggang ke atlas sprite pada ukuran ini.
+    private static final int HEART_SIZE = 45;
+
+    // Referensi ke logika permainan yang akan digambar.
+    private final GameLogic gameLogic;
+    // Statistik jarak antar frame untuk membandingkan kelancaran backend render.
+    private final FrameStats frameStats = new FrameStats(4096);
+
+    // Variabel untuk menyimpan gambar-gambar aset yang sudah dimuat agar tidak di-load berulang kali.
+    private Image bgFar;
+    private Image bgSand;
+    private Image bgForeground;
+    // Latar (far + sand) dan lapisan depan yang sudah diskalakan ke ukuran panel; dibuat ulang hanya saat ukuran berubah.
+    private BackgroundCache backgroundCache;
+    private BackgroundCache foregroundCache;
+    private SpriteAtlas.Region heartFullImage;
+    private SpriteAtlas.Region heartEmptyImage;
+
+    // Konstruktor, memuat semua aset gambar yang dibutuhkan.
+    public GameRenderer(GameLogic gameLogic) {
+        this.gameLogic = gameLogic;
+        loadAssets();
+    }
+
+    // Metode untuk mengambil semua gambar yang dibutuhkan oleh renderer ini dari SpriteCache.
+    // Background yang sama dengan menu sudah ter-decode, jadi membuka layar game tidak membaca file lagi.
+    // Ikon hati diambil sebagai wilayah atlas sprite; latar selebar layar tetap gambar sendiri-sendiri.
+    private void loadAssets() {
+        bgFar = SpriteCache.getImage("/assets/images/far.png");
+        bgSand = SpriteCache.getImage("/assets/images/sand.png");
+        bgForeground = SpriteCache.getImage("/assets/images/foregound-merged.png");
+        backgroundCache = new BackgroundCache(bgFar != null, new Image[] {bgFar, bgSand},
+                new float[] {FAR_PARALLAX, SAND_PARALLAX});
+        foregroundCache = new BackgroundCache(false, new Image[] {bgForeground}, new float[] {FOREGROUND_PARALLAX});
+        heartFullImage = SpriteCache.getBakedImage("/assets/images/heart-full.png", HEART_SIZE, HEART_SIZE);
+        heartEmptyImage = SpriteCache.getBakedImage("/assets/images/heart-empty.png", HEART_SIZE, HEART_SIZE);
+    }
+
+    // Menggambar satu frame penuh ke Graphics2D dengan ukuran area gambar tertentu.
+    public void render(Graphics2D g2d, int width, int height) {
+        frameStats.markFrameStart();
+        long renderStartNs = System.nanoTime();
+        QualityGovernor.QualityTier tier = gameLogic.getQualityGovernor().getCurrentTier();
+
+        // Anti-aliasing membuat gambar lebih halus, tetapi dimatikan pada tier kualitas yang lebih rendah.
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                tier.antialiasing ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+        // Mematikan anti-aliasing untuk teks agar font pixelated terlihat tajam.
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+
+        // Proses penggambaran dilakukan berlapis (dari belakang ke depan). Latar diulang ke samping dan digeser
+        // sesuai posisi kamera; lapisan yang lebih jauh bergeser lebih lambat (parallax). Saat kamera diam, latar
+        // cukup disalin dari satu gambar komposit opak.
+        // Seluruh frame (objek dan UI) digambar dari snapshot tick terakhir agar tidak mencampur dua tick.
+        RenderSnapshot snapshot = gameLogic.acquireRenderSnapshot();
+        float alpha = gameLogic.getInterpolationAlpha();
+        float cameraX = snapshot.getCameraRenderX(alpha);
+        // 1. Gambar latar belakang (background).
+        backgroundCache.draw(g2d, 0, width, height, cameraX, tier.sandLayer ? 2 : 1);
+
+        // 2. Gambar semua objek game (player, ikan, harpun, dll) dari snapshot.
+        snapshot.render(g2d, alpha, tier.maxEffects);
+
+        // 3. Gambar lapisan depan (foreground) untuk efek parallax.
+        if (bgForeground != null && tier.foregroundLayer) {
+            int fgHeight = bgForeground.getHeight(null);
+            foregroundCache.draw(g2d, height - fgHeight, width, fgHeight, cameraX, 1);
+        }
+
+        // 4. Gambar User Interface (UI) di lapisan paling atas.
+        drawUI(g2d, snapshot);
+
+        // Laporkan waktu kerja frame ini ke governor kualitas.
+        gameLogic.getQualityGovernor().recordFrame(System.nanoTime() - renderStartNs);
+    }
+
+    // Getter untuk statistik frame dari renderer ini.
+    public FrameStats getFrameStats() { return frameStats; }
+
+    // Metode khusus untuk menggambar semua elemen UI (skor, waktu, nyawa, dll).
+    private void drawUI(Graphics2D g2d, RenderSnapshot snapshot) {
+
+        // Atur font dan warna default untuk UI.
+        g2d.setFont(FontManager.getPressStart2PRegular(12f));
+        g2d.setColor(new Color(255, 230, 150));
+
+        // Gambar UI saat permainan sedang berlangsung.
+        GameSession.GameState state = snapshot.getState();
+        if (state != GameSession.GameState.MENU && state != GameSession.GameState.GAME_OVER) {
+            String scoreText = "Skor: " + snapshot.getTotalScore();
+            String countText = "Ikan: " + snapshot.getCollectedCount();
+            g2d.drawString(scoreText, 25, 40);
+            g2d.drawString(countText, 25, 70);
+            // Gambar sisa waktu di pojok kanan atas.
+            String timeText = "Waktu: " + snapshot.getRemainingTime();
+            FontMetrics fm = g2d.getFontMetrics(); // Digunakan untuk mengukur lebar teks.
+            int timeTextWidth = fm.stringWidth(timeText);
+            g2d.drawString(timeText, Constants.GAME_WIDTH - timeTextWidth - 25, 40);
+
+            // Gambar nyawa (hati) pemain.
+            if (heartFullImage != null && heartEmptyImage != null) {
+                int currentHearts = snapshot.getHearts();
+                int maxHearts = Constants.PLAYER_INITIAL_HEARTS;
+                int heartSize = HEART_SIZE;
+                int padding = -3;
+                int margin = 15;
+                int y = 40;
+
+                // Loop untuk menggambar semua slot hati (kosong atau penuh).
+                for (int i = 0; i < maxHearts; i++) {
+                    int x = Constants.GAME_WIDTH - margin - (i + 1) * (heartSize + padding);
+                    if (i < currentHearts) {
+                        heartFullImage.draw(g2d, x, y);
+                    } else {
+                        heartEmptyImage.draw(g2d, x, y);
+                    }
+                }
+            }
+        }
+
+        // Gambar UI khusus saat state 'STRUGGLING'.
+        if (state == GameSession.GameState.STRUGGLING) {
+            // Gambar progress bar untuk mini-game struggle.
+            int barWidth = 280;
+            int barHeight = 35;
+            int barX = (Constants.GAME_WIDTH - barWidth) / 2;
+            int barY = Constants.GAME_HEIGHT - 90;
+            float progress = snapshot.getStruggleProgress();
+
+            g2d.setColor(new Color(0, 0, 0, 100)); // Latar belakang bar dengan bayangan.
+            g2d.fillRoundRect(barX - 3, barY - 3, barWidth + 6, barHeight + 6, 20, 20);
+            g2d.setColor(Color.DARK_GRAY); // Latar belakang bar utama.
+            g2d.fillRoundRect(barX, barY, barWidth, barHeight, 15, 15);
+            g2d.setColor(new Color(30, 220, 30)); // Isi bar yang menunjukkan progress.
+            g2d.fillRoundRect(barX + 2, barY + 2, (int)((barWidth - 4) * progress), barHeight - 4, 10, 10);
+
+            // Gambar timer hitung mundur untuk struggle.
+            long remainingMs = snapshot.getStruggleRemainingMs();
+            if (remainingMs >= 0) {
+                float remainingSeconds = remainingMs / 1000.0f;
+
+                String countdownText = String.format("%.1f", remainingSeconds);
+
+                g2d.setFont(FontManager.getPressStart2PRegular(16f));
+                g2d.setColor(Color.ORANGE);
+                FontMetrics fmCountdown = g2d.getFontMetrics();
+                int countdownWidth = fmCountdown.stringWidth(countdownText);
+                g2d.drawString(countdownText, barX + (barWidth - countdownWidth) / 2, barY - 45);
+            }
+            
+            // Gambar petunjuk untuk struggle.
+            g2d.setFont(FontManager.getPressStart2PRegular(10f));
+            g2d.setColor(Color.WHITE);
+            String strugglePrompt = "TEKAN Q & E BERGANTIAN!";
+            FontMetrics fmStruggle = g2d.getFontMetrics();
+            int promptWidth = fmStruggle.stringWidth(strugglePrompt);
+            g2d.drawString(strugglePrompt, barX + (barWidth - promptWidth) / 2, barY - 20);
+        }
+
+        // Gambar UI khusus saat state 'GAME_OVER'.
+        if (state == GameSession.GameState.GAME_OVER) {
+            // Gambar lapisan hitam transparan untuk menggelapkan layar.
+            g2d.setColor(new Color(0, 0, 0, 190));
+            g2d.fillRect(0, 0, Constants.GAME_WIDTH, Constants.GAME_HEIGHT);
+
+            // Gambar teks "GAME OVER".
+            g2d.setFont(FontManager.getPressStart2PRegular(40f));
+            g2d.setColor(new Color(255, 50, 50));
+            String gameOverMsg = "GAME OVER";
+            FontMetrics fmGameOver = g2d.getFontMetrics();
+            int msgWidth = fmGameOver.stringWidth(gameOverMsg);
+            g2d.drawString(gameOverMsg, (Constants.GAME_WIDTH - msgWidth) / 2, Constants.GAME_HEIGHT / 2 - 100);
+
+            // Gambar detail skor akhir dan informasi lainnya.
+            g2d.setFont(FontManager.getPressStart2PRegular(14f));
+            g2d.setColor(Color.WHITE);
+            
+            String reasonMsg = snapshot.getGameOverMessage();
+            FontMetrics fmReason = g2d.getFontMetrics();
+            int reasonWidth = fmReason.stringWidth(reasonMsg);
+            g2d.drawString(reasonMsg, (Constants.GAME_WIDTH - reasonWidth) / 2, Constants.GAME_HEIGHT / 2 - 50);
+
+            String username = "Username: " + snapshot.getUsername();
+            String finalScore = "Skor Akhir: " + snapshot.getTotalScore();
+            String finalCount = "Ikan Terkumpul: " + snapshot.getCollectedCount();
+
+            FontMetrics fmDetails = g2d.getFontMetrics();
+            g2d.drawString(username, (Constants.GAME_WIDTH - fmDetails.stringWidth(username)) / 2, Constants.GAME_HEIGHT / 2 + 20);
+            g2d.drawString(finalScore, (Constants.GAME_WIDTH - fmDetails.stringWidth(finalScore)) / 2, Constants.GAME_HEIGHT / 2 + 50);
+            g2d.drawString(finalCount, (Constants.GAME_WIDTH - fmDetails.stringWidth(finalCount)) / 2, Constants.GAME_HEIGHT / 2 + 80);
+            
+            // Gambar petunjuk untuk kembali ke menu.
+            g2d.setFont(FontManager.getPressStart2PRegular(12f));
+            g2d.setColor(Color.WHITE);
+            String skipMsg = "Tekan SPACE untuk Kembali ke Menu";
+            int skipMsgWidth = g2d.getFontMetrics().stringWidth(skipMsg);
+            g2d.drawString(skipMsg, (Constants.GAME_WIDTH - skipMsgWidth) / 2, Constants.GAME_HEIGHT - 50);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package view;
+
+import java.awt.Component;
+import viewmodel.GameLogic;
+
+// Interface untuk 'permukaan' tempat permainan digambar.
+// Diimplementasikan oleh GamePanel (jalur Swing) dan GameCanvas (active rendering).
+public interface GameSurface {
+    // Komponen AWT/Swing yang ditambahkan ke window dan menerima input.
+    Component getComponent();
+
+    // Instance GameLogic yang dimiliki oleh permukaan ini.
+    GameLogic getGameLogic();
+
+    // Dipanggil oleh game loop setiap kali satu frame baru perlu ditampilkan.
+    void presentFrame();
+}
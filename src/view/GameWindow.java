@@ -1,14 +1,39 @@
 package view;
 
+import java.awt.Component;
 import javax.swing.JFrame;
+import viewmodel.GameConfig;
+import viewmodel.GameLogic;
 import viewmodel.InputHandler;
+import viewmodel.PowerManager;
 
 // Kelas ini bertanggung jawab untuk membuat dan menampilkan jendela utama (JFrame) permainan.
 public class GameWindow {
     private JFrame frame; // Instance dari JFrame sebagai window utama.
 
+    // Alur untuk memulai permainan (dari menu, atau langsung untuk skenario akuarium). Harus dipanggil di EDT.
+    public static void launch(String username) {
+        // 1. Buat permukaan render sesuai backend yang dipilih saat startup.
+        //    Permukaan ini akan otomatis membuat GameLogic-nya sendiri.
+        GameSurface gameSurface = GameConfig.getRenderBackend() == GameConfig.RenderBackend.ACTIVE
+                ? new GameCanvas()
+                : new GamePanel();
+
+        // 2. Ambil instance GameLogic dari permukaan render.
+        GameLogic gameLogic = gameSurface.getGameLogic();
+
+        // 3. Buat InputHandler menggunakan GameLogic yang benar.
+        InputHandler inputHandler = new InputHandler(gameLogic);
+
+        // 4. Buat GameWindow baru dan mulai permainannya.
+        new GameWindow(gameSurface, inputHandler);
+        gameLogic.startGame(username);
+    }
+
     // Konstruktor untuk membuat window permainan.
-    public GameWindow(GamePanel gamePanel, InputHandler inputHandler) {
+    public GameWindow(GameSurface gameSurface, InputHandler inputHandler) {
+        Component gameComponent = gameSurface.getComponent();
+
         // Inisialisasi JFrame dengan judul window.
         frame = new JFrame("Monster Fish Hunt | Playing...");
         // Mengatur agar program berhenti saat window ditutup.
@@ -16,21 +41,24 @@ public class GameWindow {
         // Mengunci ukuran window agar tidak bisa diubah oleh pengguna.
         frame.setResizable(false);
         
-        // Menambahkan GamePanel (tempat game digambar) ke dalam frame.
-        frame.add(gamePanel);
+        // Menambahkan permukaan render (tempat game digambar) ke dalam frame.
+        frame.add(gameComponent);
         
-        // Mendaftarkan listener keyboard dan mouse ke GamePanel.
-        gamePanel.addKeyListener(inputHandler.getKeyControls());
-        gamePanel.addMouseListener(inputHandler); // InputHandler juga bertindak sebagai MouseListener.
+        // Mendaftarkan listener keyboard dan mouse ke permukaan render.
+        gameComponent.addKeyListener(inputHandler.getKeyControls());
+        gameComponent.addMouseListener(inputHandler); // InputHandler juga bertindak sebagai MouseListener.
 
-        // Mengatur ukuran window secara otomatis sesuai ukuran konten (GamePanel).
+        // Mengatur ukuran window secara otomatis sesuai ukuran konten.
         frame.pack(); 
         // Menempatkan window di tengah layar.
         frame.setLocationRelativeTo(null);
+        // Pasang mode hemat daya: game dijeda dan render diperlambat saat window tidak fokus atau di-minimize.
+        new PowerManager(frame, "game", gameSurface.getGameLogic());
+
         // Menampilkan window ke layar.
         frame.setVisible(true);
         
-        // Meminta fokus ke GamePanel agar input keyboard bisa langsung diterima tanpa perlu klik.
-        gamePanel.requestFocusInWindow(); 
+        // Meminta fokus ke permukaan render agar input keyboard bisa langsung diterima tanpa perlu klik.
+        gameComponent.requestFocusInWindow(); 
     }
 }
\ No newline at end of file
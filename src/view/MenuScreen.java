@@ -7,13 +7,12 @@ import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.net.URL;
-import javax.imageio.ImageIO;
+import java.util.List;
 import javax.sound.sampled.Clip;
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -36,11 +35,12 @@ import model.BigFish;
 import model.DartFish;
 import model.Fish;
 import model.TableHasil;
+import viewmodel.BackgroundCache;
 import viewmodel.Constants;
 import viewmodel.FontManager;
-import viewmodel.GameLogic;
-import viewmodel.InputHandler;
+import viewmodel.PowerManager;
 import viewmodel.SoundManager;
+import viewmodel.SpriteCache;
 
 // Kelas ini merepresentasikan jendela menu utama permainan.
 public class MenuScreen extends JFrame {
@@ -55,22 +55,18 @@ public class MenuScreen extends JFrame {
 
     // Kelas internal untuk membuat panel dengan gambar latar belakang.
     class BackgroundPanel extends JPanel {
-        private Image bgImageFar, bgImageSand;
+        private final BackgroundCache background;
         public BackgroundPanel() {
-            // Memuat gambar latar belakang dari assets.
-            try {
-                URL farUrl = getClass().getResource("/assets/images/far.png");
-                if (farUrl != null) bgImageFar = new ImageIcon(farUrl).getImage();
-                URL sandUrl = getClass().getResource("/assets/images/sand.png");
-                if (sandUrl != null) bgImageSand = new ImageIcon(sandUrl).getImage();
-            } catch (Exception e) { e.printStackTrace(); }
+            // Mengambil gambar latar belakang dari SpriteCache; keduanya digabung sekali per ukuran panel.
+            Image bgImageFar = SpriteCache.getImage("/assets/images/far.png");
+            Image bgImageSand = SpriteCache.getImage("/assets/images/sand.png");
+            background = new BackgroundCache(bgImageFar != null, bgImageFar, bgImageSand);
         }
         // Override metode paintComponent untuk menggambar background.
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
-            if (bgImageFar != null) g.drawImage(bgImageFar, 0, 0, getWidth(), getHeight(), this);
-            if (bgImageSand != null) g.drawImage(bgImageSand, 0, 0, getWidth(), getHeight(), this);
+            background.draw((Graphics2D) g, 0, getWidth(), getHeight());
         }
     }
 
@@ -99,10 +95,29 @@ public class MenuScreen extends JFrame {
         setPreferredSize(new Dimension(Constants.GAME_WIDTH, Constants.GAME_HEIGHT));
         pack();
         setLocationRelativeTo(null);
+        // Mode hemat daya: animasi diperlambat saat menu tidak fokus/idle dan dihentikan saat di-minimize.
+        PowerManager powerManager = new PowerManager(this, "menu", this::onPowerStateChanged);
+        powerManager.enableIdleDetection(Constants.MENU_IDLE_TIMEOUT_MS);
         // Memutar musik latar menu.
         SoundManager.playBGM("/assets/sounds/menu-bgm.wav");
     }
 
+    // Menyesuaikan timer animasi dengan status daya window menu.
+    private void onPowerStateChanged(PowerManager.PowerState state) {
+        if (animationTimer == null || !isDisplayable()) return; // Menu sudah ditutup.
+        switch (state) {
+            case ACTIVE -> {
+                animationTimer.setDelay(Constants.MENU_ANIMATION_DELAY_MS);
+                animationTimer.start();
+            }
+            case IDLE, UNFOCUSED -> {
+                animationTimer.setDelay(Constants.MENU_ANIMATION_LOW_POWER_DELAY_MS);
+                animationTimer.start();
+            }
+            case HIDDEN -> animationTimer.stop();
+        }
+    }
+
     // Metode untuk membuat dan mengatur panel kiri yang berisi judul dan tabel skor.
     private JPanel createLeftPanel() {
         JPanel panel = new JPanel(new BorderLayout(0, 20));
@@ -202,25 +217,23 @@ public class MenuScreen extends JFrame {
     private JPanel createAnimatedPlayerPanel() {
         // Menggunakan anonymous inner class untuk membuat panel dengan logika kustom.
         JPanel playerPanel = new JPanel() {
-            private BufferedImage playerIdleSheet;
+            private SpriteCache.BakedFrames playerIdleFrames;
             private int currentPlayerFrame = 0;
-            private final int frameWidth = 80, frameHeight = 80, frameCount = 6;
+            private final int frameWidth = 80, frameHeight = 80, frameCount = 6, renderSize = 120;
             
             // Blok inisialisasi untuk panel ini.
             {
                 setOpaque(false);
                 setAlignmentX(Component.CENTER_ALIGNMENT);
-                Dimension panelSize = new Dimension(120, 120); 
+                Dimension panelSize = new Dimension(renderSize, renderSize); 
                 setPreferredSize(panelSize);
                 setMaximumSize(panelSize);
-                // Memuat sprite sheet animasi player.
-                try {
-                    URL url = getClass().getResource("/assets/images/player-idle.png");
-                    if (url != null) playerIdleSheet = ImageIO.read(url);
-                } catch (IOException e) { e.printStackTrace(); }
+                // Mengambil frame animasi player dari SpriteCache, sudah dipanggang ke ukuran panel di atlas sprite.
+                playerIdleFrames = SpriteCache.getBakedFrames("/assets/images/player-idle.png", frameWidth, frameHeight,
+                        frameCount, renderSize, renderSize);
                 
                 // Membuat dan memulai timer untuk menggerakkan frame animasi.
-                animationTimer = new Timer(120, e -> {
+                animationTimer = new Timer(Constants.MENU_ANIMATION_DELAY_MS, e -> {
                     currentPlayerFrame = (currentPlayerFrame + 1) % frameCount; // Pindah ke frame berikutnya.
                     repaint(); // Gambar ulang panel untuk menampilkan frame baru.
                 });
@@ -231,10 +244,8 @@ public class MenuScreen extends JFrame {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                if (playerIdleSheet != null) {
-                    int frameX = currentPlayerFrame * frameWidth;
-                    g.drawImage(playerIdleSheet, 0, 0, 120, 120, 
-                                frameX, 0, frameX + frameWidth, frameHeight, this);
+                if (playerIdleFrames != null) {
+                    playerIdleFrames.get(currentPlayerFrame % playerIdleFrames.size(), true).draw(g, 0, 0);
                 }
             }
         };
@@ -256,9 +267,9 @@ public class MenuScreen extends JFrame {
         infoPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         // Menambahkan setiap baris info (ikon dan teks) ke panel.
-        infoPanel.add(createInfoRow("/assets/images/fish.png", 32, 32, "+ " + new Fish(0,0,"",false).getScoreValue() + " Poin"));
-        infoPanel.add(createInfoRow("/assets/images/fish-dart.png", 39, 20, "+ " + new DartFish(0,0,"",false).getScoreValue() + " Poin"));
-        infoPanel.add(createInfoRow("/assets/images/fish-big.png", 54, 49, "+ " + new BigFish(0,0,"",false).getScoreValue() + " Poin"));
+        infoPanel.add(createInfoRow("/assets/images/fish.png", 32, 32, "+ " + Fish.SCORE_VALUE + " Poin"));
+        infoPanel.add(createInfoRow("/assets/images/fish-dart.png", 39, 20, "+ " + DartFish.SCORE_VALUE + " Poin"));
+        infoPanel.add(createInfoRow("/assets/images/fish-big.png", 54, 49, "+ " + BigFish.SCORE_VALUE + " Poin"));
         infoPanel.add(Box.createRigidArea(new Dimension(0, 5)));
         infoPanel.add(createInfoRow("/assets/images/ghost.png", 31, 44, "-1 Hati"));
         infoPanel.add(createInfoRow("/assets/images/hit.png", 31, 32, "-1 Hati (Gagal)"));
@@ -277,20 +288,17 @@ public class MenuScreen extends JFrame {
         iconContainer.setOpaque(false);
         iconContainer.setPreferredSize(new Dimension(48, 40));
         
-        try {
-            // Memuat, memotong, dan menskalakan ikon dari sprite sheet.
-            URL url = getClass().getResource(imagePath);
-            if (url != null) {
-                BufferedImage sheet = ImageIO.read(url);
-                BufferedImage icon = sheet.getSubimage(0, 0, frameW, frameH);
-                
-                int newHeight = 32;
-                int newWidth = (int) (frameW * ((double) newHeight / frameH));
-                
-                JLabel imageLabel = new JLabel(new ImageIcon(icon.getScaledInstance(newWidth, newHeight, Image.SCALE_SMOOTH)));
-                iconContainer.add(imageLabel);
-            }
-        } catch (IOException e) { e.printStackTrace(); }
+        // Mengambil frame pertama dari SpriteCache lalu menskalakannya menjadi ikon.
+        List<BufferedImage> frames = SpriteCache.getFrames(imagePath, frameW, frameH, 1);
+        if (frames != null) {
+            BufferedImage icon = frames.get(0);
+            
+            int newHeight = 32;
+            int newWidth = (int) (frameW * ((double) newHeight / frameH));
+            
+            JLabel imageLabel = new JLabel(new ImageIcon(icon.getScaledInstance(newWidth, newHeight, Image.SCALE_SMOOTH)));
+            iconContainer.add(imageLabel);
+        }
         
         JLabel textLabel = new JLabel(text);
         textLabel.setFont(FontManager.getPressStart2PRegular(10f));
@@ -344,19 +352,8 @@ public class MenuScreen extends JFrame {
         if (menuMusicClip != null) SoundManager.stopBGM();
         this.dispose(); // Tutup window menu.
 
-        // Alur untuk memulai permainan.
-        // 1. Buat GamePanel, yang akan otomatis membuat GameLogic-nya sendiri.
-        GamePanel gamePanel = new GamePanel();
-        
-        // 2. Ambil instance GameLogic dari GamePanel.
-        GameLogic gameLogic = gamePanel.getGameLogic();
-        
-        // 3. Buat InputHandler menggunakan GameLogic yang benar.
-        InputHandler inputHandler = new InputHandler(gameLogic);
-        
-        // 4. Buat GameWindow baru dan mulai permainannya.
-        new GameWindow(gamePanel, inputHandler);
-        gameLogic.startGame(username);
+        // Buka window permainan dan mulai permainannya.
+        GameWindow.launch(username);
     }
 
 }
\ No newline at end of file
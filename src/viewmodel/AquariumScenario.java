@@ -0,0 +1,134 @@
+package viewmodel;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+
+// Kelas ini adalah skenario uji beban "akuarium raksasa": populasi ikan, ikan besar, ikan panah, dan hantu sebanyak
+// 'population' (jauh di atas maxEntitiesOnScreen biasa) dijaga tetap penuh selama 'durationSeconds' detik waktu nyata.
+// Jenis entitas mengikuti bobot spawn GameRules standar; nyawa pemain tidak berkurang agar skenario tidak berhenti
+// karena game over. Bot (--bot=...) bisa ikut menembakkan harpun. Di akhir dicetak tick per detik, persentil waktu
+// tick, laju alokasi memori, puncak heap, dan aktivitas GC. Skenario bisa berjalan headless atau dengan tampilan
+// (lihat GameLogic); tanpa tampilan, waktu tick dipakai sebagai waktu frame.
+public class AquariumScenario {
+    public static final String USERNAME = "akuarium"; // Nama pemain skenario (tidak disimpan ke database).
+
+    private final int population;
+    private final int durationSeconds;
+    private final GameRules rules;
+    private final FrameStats tickStats = new FrameStats(1 << 16); // Waktu tick terakhir (sekitar 18 menit pada 60 tick/detik).
+
+    private long ticks;
+    private long startNs = -1;
+    private long startAllocatedBytes;
+    private long startGcCount, startGcTimeMs;
+
+    // Konstruktor dengan jumlah entitas dan lama skenario dalam detik.
+    public AquariumScenario(int population, int durationSeconds) {
+        this.population = Math.max(1, population);
+        this.durationSeconds = Math.max(1, durationSeconds);
+        this.rules = GameRules.DEFAULT.withAquarium("akuarium-" + this.population, this.population);
+    }
+
+    // Aturan permainan untuk sesi skenario ini.
+    public GameRules getRules() { return rules; }
+
+    // Dipanggil sekali setelah sesi dimulai: sebar populasi awal di seluruh layar lalu mulai pengukuran.
+    public void begin(GameSession session) {
+        session.getEntityHandler().populate(population, true);
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) pool.resetPeakUsage();
+        }
+        ticks = 0;
+        tickStats.reset();
+        startAllocatedBytes = allocatedBytes();
+        startGcCount = gcCount();
+        startGcTimeMs = gcTimeMs();
+        startNs = System.nanoTime();
+    }
+
+    // Dipanggil sebelum setiap tick: entitas yang keluar layar diganti dengan entitas baru dari tepi layar.
+    public void beforeTick(GameSession session) {
+        session.getEntityHandler().populate(population, false);
+    }
+
+    // Mencatat durasi satu tick (termasuk pengisian ulang populasi dan bot).
+    public void recordTick(long durationNs) {
+        ticks++;
+        tickStats.record(durationNs);
+    }
+
+    // true jika durasi skenario sudah habis.
+    public boolean isFinished() {
+        return startNs >= 0 && System.nanoTime() - startNs >= durationSeconds * 1_000_000_000L;
+    }
+
+    // Menjalankan skenario tanpa tampilan secepat mungkin sampai durasinya habis, lalu mencetak laporannya.
+    public void runHeadless() {
+        GameSession session = new GameSession(new GameSession.Listener() {}, rules, new GameRandom(GameConfig.getSeed()));
+        PlayerPolicy bot = GameConfig.createBotPolicy();
+        session.start(USERNAME);
+        begin(session);
+        while (!isFinished()) {
+            long tickStart = System.nanoTime();
+            beforeTick(session);
+            if (bot != null) bot.act(session);
+            session.tick();
+            recordTick(System.nanoTime() - tickStart);
+        }
+        System.out.println(report(session));
+    }
+
+    // Menyusun laporan akhir skenario.
+    public String report(GameSession session) {
+        double seconds = (System.nanoTime() - startNs) / 1_000_000_000.0;
+        double ticksPerSecond = ticks / Math.max(seconds, 1e-9);
+        double allocatedMb = (allocatedBytes() - startAllocatedBytes) / (1024.0 * 1024.0);
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) peakHeap += pool.getPeakUsage().getUsed();
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Akuarium: %d entitas selama %.1f detik, bot %s, seed %d%n", population, seconds,
+                GameConfig.getBotName() == null ? "-" : GameConfig.getBotName(), GameConfig.getSeed()));
+        sb.append(String.format("  Tick: %d = %.0f tick/detik (%.2fx waktu nyata)%n",
+                ticks, ticksPerSecond, ticksPerSecond / Constants.TICKS_PER_SECOND));
+        sb.append("  Waktu tick: ").append(tickStats.summary()).append('\n');
+        sb.append(String.format("  Alokasi: %.1f MB/detik (total %.1f MB), puncak heap %.1f MB, GC %d kali (%d ms)%n",
+                allocatedMb / Math.max(seconds, 1e-9), allocatedMb, peakHeap / (1024.0 * 1024.0),
+                gcCount() - startGcCount, gcTimeMs() - startGcTimeMs));
+        sb.append(String.format("  Entitas akhir: %d, ikan tertangkap: %d%n",
+                session.getEntityHandler().getEntityCount(), session.getJar().getCollectedCount()));
+        sb.append("  Pool: ").append(session.getPoolSummary()).append('\n');
+        sb.append("  Dunia: ").append(session.getEntityHandler().getWorldSummary());
+        return sb.toString();
+    }
+
+    // Total byte yang sudah dialokasikan semua thread yang masih hidup (termasuk pekerja update paralel),
+    // atau 0 jika JVM tidak mendukung pengukuran alokasi per thread.
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) return 0;
+        com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+        if (!allocation.isThreadAllocatedMemorySupported() || !allocation.isThreadAllocatedMemoryEnabled()) return 0;
+        long total = 0;
+        for (long bytes : allocation.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (bytes > 0) total += bytes;
+        }
+        return total;
+    }
+
+    // Jumlah dan total waktu GC sejak JVM dimulai.
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) total += Math.max(0, gc.getCollectionCount());
+        return total;
+    }
+    private static long gcTimeMs() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) total += Math.max(0, gc.getCollectionTime());
+        return total;
+    }
+}
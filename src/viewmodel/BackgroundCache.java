@@ -0,0 +1,130 @@
+package viewmodel;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+// Kelas ini menyimpan lapisan latar statis (misal: far.png dan sand.png) yang sudah diskalakan ke ukuran panel
+// sebagai gambar yang kompatibel dengan layar, sehingga menggambar latar tidak lagi menskalakan gambar kecil
+// setiap frame. Semua lapisan juga digabung ke satu gambar komposit (opak jika lapisan pertama opak), jadi latar
+// yang diam cukup digambar dengan satu salinan. Gambar skala dibuat ulang hanya saat ukuran panel berubah.
+// Setiap lapisan bisa bergulir dengan kecepatan parallax-nya sendiri: komposit hanya berlaku untuk satu posisi
+// gulir, jadi dibuat ulang begitu kamera berhenti di posisi baru; selama kamera masih bergerak, lapisan skala
+// digambar satu per satu (tanpa skala) agar komposit tidak dibuat ulang setiap frame. Hanya dipakai dari satu
+// thread render.
+public class BackgroundCache {
+    private final Image[] layers;
+    private final float[] parallax;
+    private final boolean opaque;
+    private BufferedImage[] scaled;      // Lapisan pada ukuran panel saat ini.
+    private BufferedImage composite;     // Gabungan 'compositeLayers' lapisan pertama pada posisi 'compositeOffsets'.
+    private int[] compositeOffsets;
+    private int compositeLayers;
+    private final int[] offsets;         // Posisi gulir frame ini dan frame sebelumnya (per lapisan).
+    private final int[] lastOffsets;
+    private int lastLayers;
+    private int cachedWidth = -1, cachedHeight = -1;
+    private int rescaleCount, compositeCount;
+
+    // Konstruktor untuk lapisan yang tidak bergulir (misal: latar menu). Lapisan digambar dari belakang ke depan;
+    // lapisan null dilewati. 'opaque' true jika lapisan pertama menutup seluruh area tanpa piksel transparan.
+    public BackgroundCache(boolean opaque, Image... layers) {
+        this(opaque, layers, new float[layers.length]);
+    }
+
+    // Konstruktor untuk lapisan yang bergulir dengan faktor parallax masing-masing (1 = ikut kamera penuh).
+    public BackgroundCache(boolean opaque, Image[] layers, float[] parallax) {
+        this.opaque = opaque;
+        this.layers = layers.clone();
+        this.parallax = parallax.clone();
+        this.offsets = new int[layers.length];
+        this.lastOffsets = new int[layers.length];
+    }
+
+    // Menggambar lapisan yang tidak bergulir, diregangkan ke width x height di (0, y).
+    public void draw(Graphics2D g, int y, int width, int height) {
+        draw(g, y, width, height, 0, layers.length);
+    }
+
+    // Menggambar 'layerCount' lapisan pertama, diregangkan ke width x height di (0, y) dan diulang ke samping,
+    // masing-masing digeser ke kiri sejauh scroll * parallax piksel.
+    public void draw(Graphics2D g, int y, int width, int height, float scroll, int layerCount) {
+        if (width <= 0 || height <= 0) return;
+        if (width != cachedWidth || height != cachedHeight) rescale(g.getDeviceConfiguration(), width, height);
+        for (int i = 0; i < layerCount; i++) {
+            offsets[i] = -Math.floorMod(Math.round(scroll * parallax[i]), width);
+        }
+        if (composite != null && compositeLayers == layerCount
+                && Arrays.equals(offsets, 0, layerCount, compositeOffsets, 0, layerCount)) {
+            g.drawImage(composite, 0, y, null);
+        } else if (lastLayers == layerCount && Arrays.equals(offsets, 0, layerCount, lastOffsets, 0, layerCount)) {
+            // Kamera berhenti: gabungkan posisi ini sekali, frame berikutnya cukup satu salinan.
+            buildComposite(g.getDeviceConfiguration(), layerCount);
+            g.drawImage(composite, 0, y, null);
+        } else {
+            for (int i = 0; i < layerCount; i++) {
+                if (scaled[i] != null) drawTiled(g, scaled[i], offsets[i], y);
+            }
+        }
+        System.arraycopy(offsets, 0, lastOffsets, 0, layerCount);
+        lastLayers = layerCount;
+    }
+
+    // Getter untuk jumlah pembuatan ulang gambar skala dan komposit (untuk laporan).
+    public int getRescaleCount() { return rescaleCount; }
+    public int getCompositeCount() { return compositeCount; }
+
+    // Menskalakan semua lapisan ke ukuran baru dan membuang komposit lama.
+    private void rescale(GraphicsConfiguration config, int width, int height) {
+        scaled = new BufferedImage[layers.length];
+        for (int i = 0; i < layers.length; i++) {
+            if (layers[i] == null) continue;
+            scaled[i] = createImage(config, width, height, opaque && i == 0);
+            Graphics2D g = scaled[i].createGraphics();
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(layers[i], 0, 0, width, height, null);
+            g.dispose();
+        }
+        composite = null;
+        lastLayers = -1;
+        cachedWidth = width;
+        cachedHeight = height;
+        rescaleCount++;
+    }
+
+    // Menggabungkan 'layerCount' lapisan pertama pada posisi gulir saat ini ke gambar komposit.
+    private void buildComposite(GraphicsConfiguration config, int layerCount) {
+        if (composite == null) composite = createImage(config, cachedWidth, cachedHeight, opaque);
+        Graphics2D g = composite.createGraphics();
+        if (!opaque) {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, cachedWidth, cachedHeight);
+            g.setComposite(AlphaComposite.SrcOver);
+        }
+        for (int i = 0; i < layerCount; i++) {
+            if (scaled[i] != null) drawTiled(g, scaled[i], offsets[i], 0);
+        }
+        g.dispose();
+        compositeOffsets = Arrays.copyOf(offsets, layerCount);
+        compositeLayers = layerCount;
+        compositeCount++;
+    }
+
+    // Menggambar lapisan selebar panel di 'offset' (<= 0) dan salinannya tepat di kanannya.
+    private static void drawTiled(Graphics2D g, BufferedImage image, int offset, int y) {
+        g.drawImage(image, offset, y, null);
+        if (offset != 0) g.drawImage(image, offset + image.getWidth(), y, null);
+    }
+
+    // Gambar baru yang kompatibel dengan layar (atau BufferedImage biasa jika konfigurasi grafis tidak ada).
+    private static BufferedImage createImage(GraphicsConfiguration config, int width, int height, boolean opaque) {
+        if (config != null) {
+            return config.createCompatibleImage(width, height, opaque ? Transparency.OPAQUE : Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+}
@@ -0,0 +1,195 @@
+package viewmodel;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Kelas ini menjalankan ribuan sesi permainan headless secara paralel (fork/join) dengan ScriptedPlayer
+// untuk membandingkan beberapa set parameter GameRules, lalu menulis laporan ringkas distribusi skor,
+// tingkat tangkapan, dan panjang sesi. Setiap sesi memiliki GameSession, jam, penjadwal, dan pemain otomatisnya
+// sendiri (tidak ada state bersama yang bisa diubah), sehingga throughput naik sebanding dengan jumlah core.
+// Sumber acak setiap sesi diturunkan dengan split() dari satu seed secara deterministik, jadi laporan bisa diulang
+// dengan --seed yang sama, berapa pun jumlah thread-nya.
+public class BalanceRunner {
+    // Batas sesi dalam jumlah sesi per tugas daun; di bawah ini tugas tidak dipecah lagi.
+    private static final int SEQUENTIAL_THRESHOLD = 4;
+    // Batas panjang satu sesi (10 menit waktu game) agar pemain otomatis yang terlalu bagus tidak bermain selamanya.
+    private static final long MAX_SESSION_TICKS = 10L * 60 * Constants.TICKS_PER_SECOND;
+
+    // Hasil satu sesi.
+    private static final class SessionResult {
+        final int score, catches, shots, struggles;
+        final long ticks;
+        final boolean truncated;
+
+        SessionResult(int score, int catches, int shots, int struggles, long ticks, boolean truncated) {
+            this.score = score;
+            this.catches = catches;
+            this.shots = shots;
+            this.struggles = struggles;
+            this.ticks = ticks;
+            this.truncated = truncated;
+        }
+    }
+
+    // Tugas fork/join: memecah rentang sesi menjadi dua sampai cukup kecil, lalu menggabungkan hasil saat join.
+    private static final class SessionBatch extends RecursiveTask<List<SessionResult>> {
+        private static final long serialVersionUID = 1L;
+        private final GameRules rules;
+        private final int count;
+        private final GameRandom random; // Hanya dipakai oleh thread yang menjalankan tugas ini.
+
+        SessionBatch(GameRules rules, int count, GameRandom random) {
+            this.rules = rules;
+            this.count = count;
+            this.random = random;
+        }
+
+        @Override
+        protected List<SessionResult> compute() {
+            if (count <= SEQUENTIAL_THRESHOLD) {
+                List<SessionResult> results = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    results.add(runSession(rules, random.split()));
+                }
+                return results;
+            }
+            // Pecah sumber acak sebelum fork agar pembagian seed tidak bergantung pada urutan eksekusi thread.
+            SessionBatch left = new SessionBatch(rules, count / 2, random.split());
+            SessionBatch right = new SessionBatch(rules, count - count / 2, random.split());
+            left.fork();
+            List<SessionResult> results = new ArrayList<>(right.compute());
+            results.addAll(left.join());
+            return results;
+        }
+    }
+
+    // Menjalankan 'sessionsPerSet' sesi untuk setiap set parameter dengan 'threads' thread, lalu menulis laporan.
+    public static void run(int sessionsPerSet, int threads, long seed, String reportPath) {
+        List<GameRules> parameterSets = parameterSets();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Balancing: %d sesi per set, %d thread, pemain otomatis %d tap/detik, seed %d",
+                sessionsPerSet, threads, BotPolicy.DEFAULT_TAPS_PER_SECOND, seed));
+
+        long totalSessions = 0;
+        long startTime = System.nanoTime();
+        try {
+            for (GameRules rules : parameterSets) {
+                // Setiap set memakai seed yang sama agar perbedaan hasil hanya berasal dari parameternya.
+                List<SessionResult> results = pool.invoke(new SessionBatch(rules, sessionsPerSet, new GameRandom(seed)));
+                totalSessions += results.size();
+                lines.add(rules.toString());
+                lines.add(summarize(results));
+                System.out.println(lines.get(lines.size() - 2));
+                System.out.println(lines.get(lines.size() - 1));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        lines.add(String.format("Selesai: %d sesi dalam %.1f detik (%.1f sesi/detik, %.1f sesi/detik per thread)",
+                totalSessions, seconds, totalSessions / seconds, totalSessions / seconds / threads));
+        System.out.println(lines.get(lines.size() - 1));
+
+        // Tulis laporan ke file.
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(Paths.get(reportPath), StandardCharsets.UTF_8))) {
+            lines.forEach(writer::println);
+            System.out.println("Laporan ditulis ke " + reportPath);
+        } catch (IOException e) {
+            System.err.println("Gagal menulis laporan balancing: " + e.getMessage());
+        }
+    }
+
+    // Daftar set parameter yang dibandingkan: aturan standar dan varian satu-parameter di sekitarnya.
+    private static List<GameRules> parameterSets() {
+        GameRules base = GameRules.DEFAULT;
+        List<GameRules> sets = new ArrayList<>();
+        sets.add(base);
+        sets.add(base.withSpawnMix("hantu-sedikit", 40, 25, 25, 10));
+        sets.add(base.withSpawnMix("hantu-banyak", 30, 15, 15, 40));
+        sets.add(base.withSpawnInterval("spawn-cepat", 800, 1500));
+        sets.add(base.withSpawnInterval("spawn-lambat", 1800, 2500));
+        sets.add(base.withStruggleTimeLimit("struggle-2s", 2000));
+        sets.add(base.withStruggleTimeLimit("struggle-4s", 4000));
+        sets.add(base.withTimeBonus("bonus-2s", 2));
+        sets.add(base.withTimeBonus("bonus-6s", 6));
+        return sets;
+    }
+
+    // Menjalankan satu sesi sampai game over (atau batas panjang sesi) dan mencatat hasilnya.
+    private static SessionResult runSession(GameRules rules, GameRandom random) {
+        GameSession session = new GameSession(new GameSession.Listener() {}, rules, random);
+        PlayerPolicy bot = new ScriptedPlayer(BotPolicy.DEFAULT_TAPS_PER_SECOND);
+        session.start("balance");
+
+        int shots = 0, struggles = 0;
+        GameSession.GameState previous = session.getCurrentState();
+        long ticks = 0;
+        while (session.getCurrentState() != GameSession.GameState.GAME_OVER && ticks < MAX_SESSION_TICKS) {
+            bot.act(session);
+            session.tick();
+            ticks++;
+
+            // Hitung tembakan dan struggle dari pergantian state.
+            GameSession.GameState current = session.getCurrentState();
+            if (current != previous) {
+                if (current == GameSession.GameState.HARPOON_FIRED) shots++;
+                if (current == GameSession.GameState.STRUGGLING) struggles++;
+                previous = current;
+            }
+        }
+        // Terpotong hanya jika sesi belum selesai saat batas tercapai (sesi yang berakhir tepat di tick terakhir tidak).
+        boolean truncated = session.getCurrentState() != GameSession.GameState.GAME_OVER;
+        return new SessionResult(session.getJar().getTotalScore(), session.getJar().getCollectedCount(),
+                shots, struggles, ticks, truncated);
+    }
+
+    // Meringkas hasil satu set parameter menjadi satu baris laporan.
+    private static String summarize(List<SessionResult> results) {
+        int n = results.size();
+        double[] scores = new double[n];
+        double[] lengthsSeconds = new double[n];
+        double[] catchesPerMinute = new double[n];
+        long catches = 0, shots = 0, struggles = 0;
+        int truncated = 0;
+        for (int i = 0; i < n; i++) {
+            SessionResult r = results.get(i);
+            scores[i] = r.score;
+            lengthsSeconds[i] = (double) r.ticks / Constants.TICKS_PER_SECOND;
+            catchesPerMinute[i] = r.catches / Math.max(lengthsSeconds[i] / 60.0, 1e-9);
+            catches += r.catches;
+            shots += r.shots;
+            struggles += r.struggles;
+            if (r.truncated) truncated++;
+        }
+        return String.format("  skor %s | tangkapan/menit %s | kena %.0f%% tembakan, menang %.0f%% struggle | durasi(s) %s | terpotong %d",
+                distribution(scores), distribution(catchesPerMinute),
+                shots > 0 ? 100.0 * struggles / shots : 0, struggles > 0 ? 100.0 * catches / struggles : 0,
+                distribution(lengthsSeconds), truncated);
+    }
+
+    // Rata-rata dan persentil 10/50/90 dari satu kumpulan nilai.
+    private static String distribution(double[] values) {
+        if (values.length == 0) return "-";
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        double sum = 0;
+        for (double v : sorted) sum += v;
+        return String.format("rata2 %.1f p10 %.1f p50 %.1f p90 %.1f", sum / sorted.length,
+                percentile(sorted, 10), percentile(sorted, 50), percentile(sorted, 90));
+    }
+
+    // Persentil dengan metode nearest-rank dari array yang sudah terurut.
+    private static double percentile(double[] sorted, double p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
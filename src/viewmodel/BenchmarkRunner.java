@@ -0,0 +1,22 @@
+package viewmodel;
+
+// Kelas ini memilih dan menjalankan micro-benchmark berdasarkan nama (argumen --bench=nama).
+// Benchmark berjalan tanpa tampilan dan mencetak hasilnya ke konsol.
+public class BenchmarkRunner {
+    // Menjalankan benchmark dengan nama tertentu.
+    public static void run(String name, long seed) {
+        switch (name.toLowerCase()) {
+            case "collision":
+                CollisionBenchmark.run(seed);
+                break;
+            case "entities":
+                EntityBenchmark.run(seed);
+                break;
+            case "flocking":
+                FlockingBenchmark.run(seed);
+                break;
+            default:
+                System.err.println("Benchmark tidak dikenal: " + name + " (gunakan collision, entities, atau flocking).");
+        }
+    }
+}
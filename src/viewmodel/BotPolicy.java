@@ -0,0 +1,142 @@
+package viewmodel;
+
+import java.util.List;
+import model.Fish;
+import model.GameObject;
+import model.Ghost;
+import model.Player;
+
+// Kelas dasar untuk bot referensi. Berisi kemampuan yang dipakai bersama:
+// mengirim perintah gerak seperti menekan/melepas tombol, menekan Q/E dengan kecepatan tap terbatas,
+// mencari entitas terdekat, serta menghindari hantu dan mengejar/menembak ikan.
+public abstract class BotPolicy implements PlayerPolicy {
+    public static final int DEFAULT_TAPS_PER_SECOND = 6; // Kira-kira kecepatan tap pemain manusia.
+
+    protected static final float GHOST_AVOID_RADIUS = 110f; // Jarak hantu yang memicu gerakan menghindar.
+    protected static final float FIRE_RANGE = 300f;         // Jarak tembak (sedikit di bawah panjang maksimal harpun).
+    protected static final float HARPOON_SPEED = 12f;       // Kecepatan ujung harpun per tick (sama dengan Harpoon).
+    protected static final float ALIGN_TOLERANCE = 12f;     // Toleransi selisih posisi sebelum pemain bergerak.
+
+    private final int tapIntervalTicks; // Jeda antar tap struggle, mensimulasikan kecepatan jari pemain.
+    private int ticksSinceTap;
+    private boolean up, down, left, right; // Arah yang sedang 'ditekan' oleh bot.
+    private GameSession.GameState lastState;
+
+    // Konstruktor, menentukan berapa kali per detik bot bisa menekan tombol struggle.
+    protected BotPolicy(int tapsPerSecond) {
+        this.tapIntervalTicks = Math.max(1, Constants.TICKS_PER_SECOND / Math.max(1, tapsPerSecond));
+    }
+
+    // Alur umum setiap tick: sinkronkan state, tangani struggle, lalu serahkan keputusan ke subclass.
+    @Override
+    public final void act(GameSession session) {
+        Player player = session.getPlayer();
+        if (player == null) return;
+        GameSession.GameState state = session.getCurrentState();
+        // Sesi mereset flag gerak pemain di setiap pergantian state; samakan catatan arah yang 'ditekan'.
+        if (state != lastState) {
+            up = down = left = right = false;
+            lastState = state;
+        }
+
+        if (state == GameSession.GameState.STRUGGLING) {
+            release(session);
+            if (++ticksSinceTap >= tapIntervalTicks) {
+                session.submit(GameCommand.struggle(session.getNextStruggleKey()));
+                ticksSinceTap = 0;
+            }
+            return;
+        }
+        ticksSinceTap = tapIntervalTicks; // Tap pertama pada struggle berikutnya langsung dilakukan.
+
+        if (state != GameSession.GameState.PLAYING && state != GameSession.GameState.HARPOON_FIRED) {
+            release(session);
+            return;
+        }
+        decide(session, player, session.getEntityHandler().getEntities());
+    }
+
+    // Keputusan bot saat bermain bebas (state PLAYING atau HARPOON_FIRED).
+    protected abstract void decide(GameSession session, Player player, List<GameObject> entities);
+
+    // Menghindari hantu terdekat jika terlalu dekat. Mengembalikan true jika bot sedang menghindar.
+    protected boolean avoidGhosts(GameSession session, Player player, List<GameObject> entities) {
+        float px = centerX(player), py = centerY(player);
+        GameObject ghost = nearest(entities, px, py, true);
+        if (ghost == null || distance(px, py, centerX(ghost), centerY(ghost)) >= GHOST_AVOID_RADIUS) return false;
+        float gx = centerX(ghost), gy = centerY(ghost);
+        setDirections(session, gy > py, gy <= py, gx > px, gx <= px);
+        return true;
+    }
+
+    // Mengejar ikan terdekat dan menembak dengan memperhitungkan gerak ikan. Mengembalikan false jika tidak ada ikan.
+    protected boolean chaseNearestFish(GameSession session, Player player, List<GameObject> entities) {
+        float px = centerX(player), py = centerY(player);
+        GameObject target = nearest(entities, px, py, false);
+        if (target == null) return false;
+
+        float tx = centerX(target), ty = centerY(target);
+        // Perkirakan posisi ikan saat harpun tiba dari kecepatannya saat ini (bisa berubah selama bergerombol).
+        float travelTicks = distance(px, py, tx, ty) / HARPOON_SPEED;
+        float leadX = tx + ((Fish) target).getSpeedX() * travelTicks;
+        float leadY = ty + ((Fish) target).getSpeedY() * travelTicks;
+
+        boolean alignedY = Math.abs(leadY - py) < ALIGN_TOLERANCE;
+        boolean inRange = distance(px, py, leadX, leadY) < FIRE_RANGE;
+        setDirections(session, !alignedY && leadY < py, !alignedY && leadY > py,
+                !inRange && leadX < px, !inRange && leadX > px);
+
+        if (inRange && session.getCurrentState() == GameSession.GameState.PLAYING && !session.getHarpoon().isFiring()) {
+            session.submit(GameCommand.fire(leadX, leadY));
+        }
+        return true;
+    }
+
+    // Bergerak menuju satu titik (berhenti jika sudah cukup dekat).
+    protected void moveTowards(GameSession session, Player player, float targetX, float targetY) {
+        float px = centerX(player), py = centerY(player);
+        boolean alignedX = Math.abs(targetX - px) < ALIGN_TOLERANCE;
+        boolean alignedY = Math.abs(targetY - py) < ALIGN_TOLERANCE;
+        setDirections(session, !alignedY && targetY < py, !alignedY && targetY > py,
+                !alignedX && targetX < px, !alignedX && targetX > px);
+    }
+
+    // Melepas semua tombol arah.
+    protected void release(GameSession session) {
+        setDirections(session, false, false, false, false);
+    }
+
+    // Mengirim perintah gerak hanya untuk arah yang statusnya berubah, seperti menekan/melepas tombol.
+    protected void setDirections(GameSession session, boolean newUp, boolean newDown, boolean newLeft, boolean newRight) {
+        if (newUp != up) session.submit(GameCommand.move(GameCommand.Direction.UP, up = newUp));
+        if (newDown != down) session.submit(GameCommand.move(GameCommand.Direction.DOWN, down = newDown));
+        if (newLeft != left) session.submit(GameCommand.move(GameCommand.Direction.LEFT, left = newLeft));
+        if (newRight != right) session.submit(GameCommand.move(GameCommand.Direction.RIGHT, right = newRight));
+    }
+
+    // Mencari ikan (ghosts = false) atau hantu (ghosts = true) terdekat dari titik tertentu.
+    protected static GameObject nearest(List<GameObject> entities, float px, float py, boolean ghosts) {
+        GameObject best = null;
+        float bestDist = Float.MAX_VALUE;
+        for (GameObject entity : entities) {
+            boolean match = ghosts ? entity instanceof Ghost : entity instanceof Fish;
+            if (!match) continue;
+            float d = distance(px, py, centerX(entity), centerY(entity));
+            if (d < bestDist) {
+                bestDist = d;
+                best = entity;
+            }
+        }
+        return best;
+    }
+
+    // Titik tengah sebuah objek.
+    protected static float centerX(GameObject o) { return o.getX() + o.getWidth() / 2f; }
+    protected static float centerY(GameObject o) { return o.getY() + o.getHeight() / 2f; }
+
+    // Jarak Euclid antara dua titik.
+    protected static float distance(float x1, float y1, float x2, float y2) {
+        float dx = x2 - x1, dy = y2 - y1;
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+}
@@ -0,0 +1,39 @@
+package viewmodel;
+
+import model.GameObject;
+
+// Kelas ini adalah kamera horizontal dunia yang bergulir: posisinya adalah koordinat dunia sisi kiri layar.
+// Kamera mengikuti pemain dengan zona mati di tengah layar (pemain bebas bergerak sejauh CAMERA_DEADZONE dari
+// tengah tanpa menggeser layar), dan menyimpan posisi tick sebelumnya agar render bisa diinterpolasi seperti objek lain.
+public class Camera {
+    private float x;
+    private float prevX;
+
+    // Mengembalikan kamera ke awal dunia (sisi kiri layar di x = 0).
+    public void reset() {
+        x = 0;
+        prevX = 0;
+    }
+
+    // Menyimpan posisi saat ini sebagai posisi tick sebelumnya. Dipanggil di awal setiap tick simulasi.
+    public void storePreviousPosition() {
+        prevX = x;
+    }
+
+    // Menggeser kamera seperlunya agar titik tengah 'target' tetap di dalam zona mati.
+    public void follow(GameObject target) {
+        float offset = target.getX() + target.getWidth() / 2f - (x + Constants.GAME_WIDTH / 2f);
+        if (offset > Constants.CAMERA_DEADZONE) x += offset - Constants.CAMERA_DEADZONE;
+        else if (offset < -Constants.CAMERA_DEADZONE) x += offset + Constants.CAMERA_DEADZONE;
+    }
+
+    // Koordinat dunia sisi kiri dan kanan layar.
+    public float getX() { return x; }
+    public float getPrevX() { return prevX; }
+    public float getRightX() { return x + Constants.GAME_WIDTH; }
+
+    // Posisi render hasil interpolasi antara tick sebelumnya dan tick terbaru (alpha 0..1).
+    public float getRenderX(float alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+}
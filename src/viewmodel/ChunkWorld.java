@@ -0,0 +1,126 @@
+package viewmodel;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Kelas ini membagi dunia yang bergulir menjadi chunk selebar 'chunkWidth' piksel. Hanya chunk di sekitar kamera
+// (chunk kamera +- 'activeRadius', disebut jendela aktif) yang entitasnya disimulasikan penuh. Entitas yang keluar
+// dari jendela aktif dibekukan menjadi ringkasan: hanya jumlah per jenis di chunk tempatnya keluar, tanpa objek,
+// posisi, atau kecepatan. Saat chunk itu masuk lagi ke jendela aktif, ringkasannya dicairkan (EntityHandler
+// memunculkan entitas sebanyak itu di posisi acak dalam chunk). Ringkasan dibatasi 'summaryCapacity' chunk yang
+// paling baru dipakai dan 'chunkCapacity' entitas per chunk, jadi memori dan CPU tetap datar sejauh apa pun
+// pemain berenang. Kelas ini hanya dipakai dari thread simulasi.
+public class ChunkWorld {
+    // Indeks jenis entitas di ringkasan chunk.
+    public static final int FISH = 0, BIG_FISH = 1, DART_FISH = 2, GHOST = 3, SPECIES = 4;
+
+    private final int chunkWidth;
+    private final int activeRadius;
+    private final int chunkCapacity;
+    // Ringkasan chunk yang tidak aktif (indeks chunk -> jumlah per jenis), urut dari yang paling lama tidak dipakai.
+    private final LinkedHashMap<Integer, int[]> summaries;
+    private final ArrayDeque<int[]> spareSummaries = new ArrayDeque<>(); // Array ringkasan bekas untuk dipakai ulang.
+    private int centerChunk;
+    private long frozenCount, thawedCount, droppedCount;
+
+    // Konstruktor dengan ukuran chunk, radius jendela aktif, batas jumlah ringkasan, dan batas entitas per chunk.
+    public ChunkWorld(int chunkWidth, int activeRadius, int summaryCapacity, int chunkCapacity) {
+        this.chunkWidth = chunkWidth;
+        this.activeRadius = activeRadius;
+        this.chunkCapacity = Math.max(1, chunkCapacity);
+        this.summaries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, int[]> eldest) {
+                if (size() <= summaryCapacity) return false;
+                droppedCount += total(eldest.getValue()); // Chunk terlama dilupakan; isinya hilang.
+                spareSummaries.push(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    // Melupakan semua ringkasan dan memusatkan jendela aktif ke chunk 'center' (misal: saat sesi baru dimulai).
+    public void reset(int center) {
+        for (int[] counts : summaries.values()) spareSummaries.push(counts);
+        summaries.clear();
+        centerChunk = center;
+        frozenCount = thawedCount = droppedCount = 0;
+    }
+
+    // Memindahkan pusat jendela aktif ke chunk yang berisi titik 'x'. Mengembalikan chunk pusat sebelumnya;
+    // sama dengan getCenterChunk() jika jendela tidak bergeser.
+    public int recenter(float x) {
+        int previous = centerChunk;
+        centerChunk = chunkOf(x);
+        return previous;
+    }
+
+    // Indeks chunk yang berisi titik x.
+    public int chunkOf(float x) {
+        return (int) Math.floor(x / chunkWidth);
+    }
+
+    // true jika chunk termasuk jendela aktif.
+    public boolean isActive(int chunk) {
+        return Math.abs(chunk - centerChunk) <= activeRadius;
+    }
+
+    // Batas kiri dan kanan jendela aktif dalam koordinat dunia.
+    public float getActiveLeft() { return (float) (centerChunk - activeRadius) * chunkWidth; }
+    public float getActiveRight() { return (float) (centerChunk + activeRadius + 1) * chunkWidth; }
+    public int getActiveWidth() { return (2 * activeRadius + 1) * chunkWidth; }
+    public int getCenterChunk() { return centerChunk; }
+    public int getChunkWidth() { return chunkWidth; }
+
+    // Membekukan satu entitas jenis 'species' ke ringkasan chunk 'chunk'. Mengembalikan false jika chunk sudah penuh
+    // (entitasnya dilupakan saja).
+    public boolean freeze(int chunk, int species) {
+        int[] counts = summaries.get(chunk);
+        if (counts == null) {
+            counts = spareSummaries.isEmpty() ? new int[SPECIES] : spareSummaries.pop();
+            Arrays.fill(counts, 0);
+            summaries.put(chunk, counts);
+        }
+        if (total(counts) >= chunkCapacity) {
+            droppedCount++;
+            return false;
+        }
+        counts[species]++;
+        frozenCount++;
+        return true;
+    }
+
+    // Mengambil ringkasan chunk untuk dicairkan: jumlah per jenis disalin ke 'out' dan ringkasannya dihapus.
+    // Mengembalikan total entitasnya (0 jika chunk belum pernah berisi entitas beku).
+    public int thaw(int chunk, int[] out) {
+        int[] counts = summaries.remove(chunk);
+        if (counts == null) return 0;
+        System.arraycopy(counts, 0, out, 0, SPECIES);
+        spareSummaries.push(counts);
+        int total = total(counts);
+        thawedCount += total;
+        return total;
+    }
+
+    // Jumlah entitas beku di semua ringkasan.
+    public int getFrozenEntityCount() {
+        int total = 0;
+        for (int[] counts : summaries.values()) total += total(counts);
+        return total;
+    }
+
+    // Ringkasan penghitung dunia untuk laporan.
+    public String summary() {
+        return String.format("chunk: pusat %d, %d ringkasan (%d entitas beku), dibekukan %d, dicairkan %d, dilupakan %d",
+                centerChunk, summaries.size(), getFrozenEntityCount(), frozenCount, thawedCount, droppedCount);
+    }
+
+    // Total entitas di satu ringkasan.
+    private static int total(int[] counts) {
+        int total = 0;
+        for (int count : counts) total += count;
+        return total;
+    }
+}
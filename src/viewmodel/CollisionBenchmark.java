@@ -0,0 +1,125 @@
+package viewmodel;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import model.Fish;
+import model.GameObject;
+import model.Ghost;
+
+// Kelas ini membandingkan pemindaian linear (instanceof + intersects ke semua entitas) dengan SpatialHash
+// pada 100, 1.000, dan 10.000 entitas. Kepadatan entitas dibuat sama dengan permainan biasa
+// (luas dunia bertambah sebanding jumlah entitas). Dua skenario diukur:
+//  - "per tick": 2 query (harpun dan pemain) per tick; grid dibangun ulang setiap tick karena entitas bergerak.
+//  - "semua pasangan": setiap entitas mencari tetangganya, seperti yang dibutuhkan AI kawanan/tabrakan antar entitas.
+// Karena grid kalah pada skenario "per tick" di semua ukuran, EntityHandler memindai secara linear dan baru membangun
+// grid setelah beberapa query pada posisi entitas yang sama.
+public class CollisionBenchmark {
+    private static final int[] ENTITY_COUNTS = {100, 1_000, 10_000};
+    private static final double AREA_PER_ENTITY = 60_000; // Kira-kira 800x600 piksel per 8 entitas.
+    private static final long MIN_MEASURE_NS = 500_000_000L; // Setiap pengukuran berjalan minimal 0,5 detik.
+
+    private static long sink; // Mencegah JIT membuang hasil perhitungan.
+
+    // Menjalankan semua skenario dan mencetak hasilnya.
+    public static void run(long seed) {
+        System.out.println("Benchmark tabrakan (waktu per operasi, lebih kecil lebih baik), seed " + seed);
+        for (int n : ENTITY_COUNTS) {
+            List<GameObject> entities = createEntities(n, new SplittableRandom(seed));
+            SpatialHash grid = new SpatialHash(64, n);
+            Rectangle harpoonTip = new Rectangle(0, 0, 10, 10);
+            Rectangle playerBox = new Rectangle(0, 0, 32, 48);
+            List<GameObject> out = new ArrayList<>();
+            SplittableRandom queryRandom = new SplittableRandom(seed + 1);
+            int worldSize = worldSize(n);
+
+            double linearTick = measure(() -> {
+                moveQueries(queryRandom, worldSize, harpoonTip, playerBox);
+                sink += linearQuery(entities, harpoonTip, true) + linearQuery(entities, playerBox, false);
+            });
+            double gridTick = measure(() -> {
+                moveQueries(queryRandom, worldSize, harpoonTip, playerBox);
+                rebuild(grid, entities);
+                sink += grid.query(harpoonTip, CollisionLayer.HARPOON.collisionMask(), out);
+                sink += grid.query(playerBox, CollisionLayer.PLAYER.collisionMask(), out);
+            });
+            double linearPairs = measure(() -> {
+                for (GameObject e : entities) sink += linearQuery(entities, e.getCollisionBox(), e instanceof Fish);
+            });
+            double gridPairs = measure(() -> {
+                rebuild(grid, entities);
+                int mask = CollisionLayer.FISH.bit | CollisionLayer.GHOST.bit;
+                for (GameObject e : entities) sink += grid.query(e.getCollisionBox(), mask, out);
+            });
+
+            System.out.printf("  %6d entitas | per tick: linear %9.1f us, grid %9.1f us (%.1fx) | semua pasangan: linear %10.2f ms, grid %8.2f ms (%.1fx)%n",
+                    n, linearTick / 1e3, gridTick / 1e3, linearTick / gridTick,
+                    linearPairs / 1e6, gridPairs / 1e6, linearPairs / gridPairs);
+        }
+        if (sink == 42) System.out.println(); // Hanya agar 'sink' terbaca.
+    }
+
+    // Membuat n entitas (campuran ikan dan hantu seperti permainan) tersebar acak di dunia berukuran sesuai n.
+    private static List<GameObject> createEntities(int n, SplittableRandom random) {
+        GameClock clock = new GameClock(Constants.TICKS_PER_SECOND);
+        int worldSize = worldSize(n);
+        List<GameObject> entities = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            float x = random.nextInt(worldSize);
+            float y = random.nextInt(worldSize);
+            boolean leftToRight = random.nextBoolean();
+            GameObject entity = random.nextInt(4) == 0
+                    ? new Ghost(clock, x, y, "/assets/images/ghost.png", leftToRight, random)
+                    : new Fish(clock, x, y, "/assets/images/fish.png", leftToRight, random);
+            entity.update(); // Menyelaraskan collision box dengan posisi.
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    // Panjang sisi dunia persegi untuk n entitas dengan kepadatan tetap.
+    private static int worldSize(int n) {
+        return (int) Math.sqrt(n * AREA_PER_ENTITY);
+    }
+
+    // Memindahkan area query ke posisi acak (seperti harpun dan pemain yang bergerak).
+    private static void moveQueries(SplittableRandom random, int worldSize, Rectangle harpoonTip, Rectangle playerBox) {
+        harpoonTip.setLocation(random.nextInt(worldSize), random.nextInt(worldSize));
+        playerBox.setLocation(random.nextInt(worldSize), random.nextInt(worldSize));
+    }
+
+    // Cara lama: periksa semua entitas, filter dengan instanceof, lalu uji kotaknya.
+    private static int linearQuery(List<GameObject> entities, Rectangle area, boolean wantFish) {
+        int count = 0;
+        for (GameObject entity : entities) {
+            boolean match = wantFish ? entity instanceof Fish : entity instanceof Ghost;
+            if (match && entity.getCollisionBox().intersects(area)) count++;
+        }
+        return count;
+    }
+
+    // Membangun ulang grid dari daftar entitas.
+    private static void rebuild(SpatialHash grid, List<GameObject> entities) {
+        grid.clear(entities.size());
+        for (GameObject entity : entities) {
+            grid.insert(entity, entity instanceof Ghost ? CollisionLayer.GHOST : CollisionLayer.FISH);
+        }
+    }
+
+    // Menjalankan 'operation' berulang (setelah pemanasan) dan mengembalikan rata-rata nanodetik per operasi.
+    private static double measure(Runnable operation) {
+        long warmupEnd = System.nanoTime() + MIN_MEASURE_NS / 2;
+        while (System.nanoTime() < warmupEnd) operation.run();
+
+        long iterations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            operation.run();
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MIN_MEASURE_NS || iterations < 3);
+        return (double) elapsed / iterations;
+    }
+}
@@ -0,0 +1,25 @@
+package viewmodel;
+
+// Enum ini mendefinisikan lapisan tabrakan. Setiap objek berada di satu lapisan (bit) dan hanya
+// bertabrakan dengan lapisan yang ada di collisionMask()-nya, sehingga query tidak perlu memfilter dengan instanceof.
+public enum CollisionLayer {
+    PLAYER, HARPOON, FISH, GHOST, JAR;
+
+    public final int bit; // Bit lapisan ini di dalam mask.
+
+    CollisionLayer() {
+        this.bit = 1 << ordinal();
+    }
+
+    // Mask lapisan lain yang bisa bertabrakan dengan lapisan ini.
+    public int collisionMask() {
+        switch (this) {
+            case PLAYER: return GHOST.bit;            // Pemain terluka oleh hantu.
+            case HARPOON: return FISH.bit;            // Harpun hanya bisa mengait ikan.
+            case FISH: return HARPOON.bit | JAR.bit;  // Ikan dikait harpun dan masuk keranjang.
+            case GHOST: return PLAYER.bit;
+            case JAR: return FISH.bit;
+            default: return 0;
+        }
+    }
+}
@@ -7,6 +7,37 @@ public class Constants {
     public static final int GAME_WIDTH = 800; // Lebar layar permainan dalam piksel.
     public static final int GAME_HEIGHT = 600; // Tinggi layar permainan dalam piksel.
 
+    // ==== PENGATURAN GAME LOOP ====
+    public static final int TICKS_PER_SECOND = 60; // Laju simulasi tetap (tick per detik), tidak bergantung pada FPS.
+    public static final int DEFAULT_FRAMES_PER_SECOND = 60; // Laju render jika refresh rate layar tidak diketahui.
+
+    // ==== PEMBARUAN ENTITAS ====
+    public static final int PARALLEL_UPDATE_THRESHOLD = 4096; // Jumlah entitas minimum sebelum update dipecah ke banyak core.
+    public static final int PARALLEL_UPDATE_CHUNK_SIZE = 2048; // Jumlah entitas per tugas fork/join.
+    public static final int FLOCK_SEARCH_RADIUS = 110; // Radius pencarian tetangga gerombol (radius persepsi terbesar, BigFish).
+    public static final int FLOCK_GRID_THRESHOLD = 128; // Di bawah jumlah entitas ini, tetangga gerombol dicari tanpa grid.
+    public static final int FLOW_FIELD_CELL_SIZE = 40; // Ukuran sel flow field pemburu hantu (28x15 sel untuk layar beserta tepinya).
+    public static final int HUNT_FIELD_MARGIN = 160; // Lebar flow field di luar sisi kiri/kanan layar (dunia bergulir).
+    public static final int FLOW_FIELD_OBSTACLE_MARGIN = 24; // Pelebaran penghalang agar badan hantu tidak menyerempet.
+    public static final int WATER_BOTTOM_RESERVE = 60; // Tinggi area bawah layar yang tidak dipakai ikan saat muncul dan bergerombol.
+
+    // ==== DUNIA BERGULIR ====
+    public static final int CHUNK_WIDTH = GAME_WIDTH; // Lebar satu chunk dunia (satu layar).
+    public static final int ACTIVE_CHUNK_RADIUS = 1; // Chunk di kiri/kanan chunk kamera yang tetap disimulasikan penuh.
+    public static final int CHUNK_SUMMARY_CAPACITY = 256; // Jumlah maksimum chunk jauh yang ringkasan entitasnya diingat.
+    public static final float WORLD_LIMIT_X = 1_000_000f; // Batas renang pemain ke kiri/kanan (presisi float tetap cukup).
+    public static final float CAMERA_DEADZONE = 120f; // Jarak pemain dari tengah layar sebelum kamera ikut bergeser.
+
+    // ==== RENDER ====
+    public static final int ATLAS_PAGE_SIZE = 1024; // Sisi satu halaman atlas sprite (piksel).
+
+    // ==== PENGATURAN HEMAT DAYA ====
+    public static final int UNFOCUSED_FRAMES_PER_SECOND = 10; // Laju render saat window tidak fokus.
+    public static final int HIDDEN_FRAMES_PER_SECOND = 1;     // Laju render saat window di-minimize.
+    public static final int MENU_ANIMATION_DELAY_MS = 120;          // Jeda antar frame animasi menu (normal).
+    public static final int MENU_ANIMATION_LOW_POWER_DELAY_MS = 480; // Jeda animasi menu saat tidak fokus atau idle.
+    public static final long MENU_IDLE_TIMEOUT_MS = 30_000;         // Lama tanpa input sebelum menu dianggap idle.
+
     // ==== PENGATURAN PEMAIN ====
     public static final int PLAYER_WIDTH = 100;    // Lebar gambar pemain saat dirender.
     public static final int PLAYER_HEIGHT = 100;   // Tinggi gambar pemain saat dirender.
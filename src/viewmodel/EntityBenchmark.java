@@ -0,0 +1,136 @@
+package viewmodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import model.EntityComponents;
+import model.Fish;
+import model.GameObject;
+import model.Ghost;
+
+// Kelas ini membandingkan dua desain update entitas pada 100, 1.000, dan 10.000 entitas:
+//  - "objek": cara lama, update() virtual per objek lalu cek keluar layar dengan instanceof;
+//  - "SoA": sistem gerak, animasi, kotak tabrakan, dan batas layar sebagai loop di atas array EntityComponents;
+//  - "paralel": sistem yang sama dipecah ke semua core dengan ParallelEntityUpdater (dipaksa paralel di semua ukuran).
+// Satu operasi = satu tick. Entitas yang keluar layar dimunculkan lagi di sisi seberang (seperti spawn dari pool),
+// sehingga jumlah entitas tetap dan beban yang diukur sama dengan permainan biasa.
+public class EntityBenchmark {
+    private static final int[] ENTITY_COUNTS = {100, 1_000, 10_000};
+    private static final int PARALLEL_CHUNK_SIZE = 1024; // Lebih kecil dari default agar 10.000 entitas terbagi ke banyak core.
+    // Jarak di luar layar sebelum entitas dimunculkan ulang (lebih jauh dari titik munculnya di -60).
+    private static final int RESPAWN_MARGIN = 60;
+    private static final long MIN_MEASURE_NS = 500_000_000L; // Setiap pengukuran berjalan minimal 0,5 detik.
+
+    private static long sink; // Mencegah JIT membuang hasil perhitungan.
+
+    // Menjalankan semua ukuran dan mencetak hasilnya.
+    public static void run(long seed) {
+        System.out.println("Benchmark update entitas (waktu per tick, lebih kecil lebih baik), seed " + seed
+                + ", " + ForkJoinPool.getCommonPoolParallelism() + " thread paralel");
+        for (int n : ENTITY_COUNTS) {
+            // Objek untuk desain lama (tidak terpasang) dan desain SoA (terpasang), dengan isi awal yang sama.
+            GameClock objectClock = new GameClock(Constants.TICKS_PER_SECOND);
+            List<GameObject> objects = createEntities(objectClock, n, new SplittableRandom(seed));
+            SplittableRandom objectRespawn = new SplittableRandom(seed + 1);
+
+            GameClock componentClock = new GameClock(Constants.TICKS_PER_SECOND);
+            List<GameObject> views = createEntities(componentClock, n, new SplittableRandom(seed));
+            SplittableRandom componentRespawn = new SplittableRandom(seed + 1);
+            EntityComponents components = new EntityComponents(n);
+            for (GameObject view : views) components.attach(view);
+            List<GameObject> leaving = new ArrayList<>();
+
+            GameClock parallelClock = new GameClock(Constants.TICKS_PER_SECOND);
+            List<GameObject> parallelViews = createEntities(parallelClock, n, new SplittableRandom(seed));
+            SplittableRandom parallelRespawn = new SplittableRandom(seed + 1);
+            EntityComponents parallelComponents = new EntityComponents(n);
+            for (GameObject view : parallelViews) parallelComponents.attach(view);
+            ParallelEntityUpdater updater = new ParallelEntityUpdater(1, PARALLEL_CHUNK_SIZE);
+            List<GameObject> parallelLeaving = new ArrayList<>();
+
+            double objectTick = measure(() -> {
+                objectClock.advance();
+                for (GameObject entity : objects) {
+                    entity.update();
+                    boolean out = entity instanceof Fish ? ((Fish) entity).isOutOfBounds()
+                            : entity instanceof Ghost && ((Ghost) entity).isOutOfBounds();
+                    if (out) respawn(entity, objectRespawn);
+                }
+                sink += objects.get(0).getCollisionBox().x;
+            });
+            double componentTick = measure(() -> {
+                componentClock.advance();
+                components.move();
+                components.animate(componentClock.millis());
+                components.updateBounds();
+                if (components.collectOutOfBounds(0, Constants.GAME_WIDTH, RESPAWN_MARGIN, leaving) > 0) {
+                    for (GameObject entity : leaving) {
+                        components.detach(entity);
+                        respawn(entity, componentRespawn);
+                        components.attach(entity);
+                    }
+                }
+                sink += views.get(0).getCollisionBox().x;
+            });
+            double parallelTick = measure(() -> {
+                parallelClock.advance();
+                if (updater.update(parallelComponents, parallelClock.millis(), 0, Constants.GAME_WIDTH, RESPAWN_MARGIN, parallelLeaving) > 0) {
+                    for (GameObject entity : parallelLeaving) {
+                        parallelComponents.detach(entity);
+                        respawn(entity, parallelRespawn);
+                        parallelComponents.attach(entity);
+                    }
+                }
+                sink += parallelViews.get(0).getCollisionBox().x;
+            });
+
+            System.out.printf("  %6d entitas | objek %9.1f us, SoA %9.1f us (%.1fx), paralel %9.1f us (%.1fx)%n",
+                    n, objectTick / 1e3, componentTick / 1e3, objectTick / componentTick,
+                    parallelTick / 1e3, objectTick / parallelTick);
+        }
+        if (sink == 42) System.out.println(); // Hanya agar 'sink' terbaca.
+    }
+
+    // Membuat n entitas (campuran ikan dan hantu seperti permainan) tersebar acak di layar.
+    private static List<GameObject> createEntities(GameClock clock, int n, SplittableRandom random) {
+        List<GameObject> entities = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            float x = random.nextInt(Constants.GAME_WIDTH);
+            float y = random.nextInt(Constants.GAME_HEIGHT);
+            boolean leftToRight = random.nextBoolean();
+            entities.add(random.nextInt(4) == 0
+                    ? new Ghost(clock, x, y, "/assets/images/ghost.png", leftToRight, random)
+                    : new Fish(clock, x, y, "/assets/images/fish.png", leftToRight, random));
+        }
+        return entities;
+    }
+
+    // Memunculkan ulang entitas yang keluar layar di sisi seberang dengan arah dan kecepatan acak baru.
+    private static void respawn(GameObject entity, SplittableRandom random) {
+        boolean leftToRight = random.nextBoolean();
+        float x = leftToRight ? -60 : Constants.GAME_WIDTH + 20;
+        float y = random.nextInt(Constants.GAME_HEIGHT);
+        if (entity instanceof Ghost) {
+            ((Ghost) entity).reset(x, y, leftToRight, random);
+        } else {
+            ((Fish) entity).reset(x, y, leftToRight, random);
+        }
+    }
+
+    // Menjalankan 'operation' berulang (setelah pemanasan) dan mengembalikan rata-rata nanodetik per operasi.
+    private static double measure(Runnable operation) {
+        long warmupEnd = System.nanoTime() + MIN_MEASURE_NS / 2;
+        while (System.nanoTime() < warmupEnd) operation.run();
+
+        long iterations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            operation.run();
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MIN_MEASURE_NS || iterations < 3);
+        return (double) elapsed / iterations;
+    }
+}
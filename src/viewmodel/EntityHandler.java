@@ -1,155 +1,461 @@
 package viewmodel;
 
-import java.awt.Graphics;
+import java.awt.Rectangle;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 import model.BigFish;
 import model.DartFish;
+import model.EntityComponents;
 import model.Fish;
+import model.FlockingSystem;
+import model.FlowField;
 import model.GameObject;
 import model.Ghost;
 
 // Kelas ini bertanggung jawab untuk mengelola semua entitas dinamis (ikan dan hantu) di dalam game.
+// Semua perubahan daftar entitas terjadi di thread simulasi; pembaca lain memakai snapshot dari EntityStore.
+// State inti entitas aktif (posisi, kecepatan, animasi, kotak tabrakan) ada di EntityComponents dan diupdate oleh
+// sistem-sistemnya sekaligus; objek Fish/Ghost di daftar hanyalah view dari slot masing-masing.
+// Dunia bergulir horizontal mengikuti kamera: hanya entitas di jendela aktif ChunkWorld (chunk kamera dan
+// tetangganya) yang ada di daftar; yang keluar dari jendela dibekukan menjadi ringkasan per chunk dan dicairkan
+// lagi saat chunk-nya kembali ke jendela aktif, sehingga jumlah entitas yang disimulasikan tetap terbatas.
 public class EntityHandler {
-    // Daftar semua entitas yang aktif di layar. Dibuat thread-safe dengan synchronizedList.
-    private final List<GameObject> entities; 
-    private Random random = new Random();
+    // Sprite sheet untuk setiap jenis entitas.
+    private static final String FISH_SHEET = "/assets/images/fish.png";
+    private static final String BIG_FISH_SHEET = "/assets/images/fish-big.png";
+    private static final String DART_FISH_SHEET = "/assets/images/fish-dart.png";
+    private static final String GHOST_SHEET = "/assets/images/ghost.png";
+    // Kapasitas minimum setiap pool entitas (cukup untuk satu layar penuh dari satu jenis beserta cadangannya);
+    // jika batas entitas di GameRules lebih besar (skenario akuarium), kapasitas pool mengikuti batas itu.
+    private static final int POOL_CAPACITY = 16;
+    // Ukuran sel grid tabrakan (sedikit lebih besar dari entitas terbesar).
+    private static final int COLLISION_CELL_SIZE = 64;
+    // Jumlah query tabrakan pada posisi entitas yang sama sebelum grid dibangun. Permainan biasa hanya melakukan
+    // dua query per tick (harpun dan pemain); untuk itu pemindaian linear lebih murah daripada membangun grid,
+    // di semua ukuran populasi (lihat --bench=collision). Grid baru menguntungkan jika query lebih banyak.
+    private static final int COLLISION_GRID_MIN_QUERIES = 4;
+    // Jarak (piksel) di luar sisi kiri/kanan jendela aktif sebelum entitas dianggap keluar.
+    private static final int OUT_OF_BOUNDS_MARGIN = 20;
+    // Lebar jendela aktif (chunk kamera dan tetangganya), yaitu area yang dicakup grid gerombol.
+    private static final int ACTIVE_WIDTH = (2 * Constants.ACTIVE_CHUNK_RADIUS + 1) * Constants.CHUNK_WIDTH;
+
+    // Semua entitas di jendela aktif (satu penulis, banyak pembaca tanpa lock).
+    private final EntityStore<GameObject> entities = new EntityStore<>();
+    // State inti semua entitas di daftar dalam bentuk struct-of-arrays.
+    private final EntityComponents components = new EntityComponents(POOL_CAPACITY);
+    private final List<GameObject> leaving = new ArrayList<>(); // Buffer entitas yang keluar jendela aktif pada tick ini.
+    // Menjalankan sistem-sistem komponen; paralel hanya jika jumlah entitas melewati batas --parallel-threshold.
+    private final ParallelEntityUpdater updater =
+            new ParallelEntityUpdater(GameConfig.getParallelThreshold(), Constants.PARALLEL_UPDATE_CHUNK_SIZE);
+    // Sistem gerombol ikan (boids) dengan grid tetangga seragam; mengubah kecepatan sebelum sistem gerak.
+    private final FlockingSystem flocking = new FlockingSystem(ACTIVE_WIDTH, Constants.GAME_HEIGHT,
+            Constants.WATER_BOTTOM_RESERVE, Constants.FLOCK_SEARCH_RADIUS, Constants.FLOCK_GRID_THRESHOLD);
+    // Medan arah menuju pemain untuk hantu yang sedang berburu; dihitung ulang hanya saat pemain pindah sel.
+    // Medan hanya mencakup layar ditambah HUNT_FIELD_MARGIN di kiri/kanan; pemburu yang lebih jauh memakai sel tepi.
+    private final FlowField huntField = new FlowField(Constants.GAME_WIDTH + 2 * Constants.HUNT_FIELD_MARGIN,
+            Constants.GAME_HEIGHT, Constants.FLOW_FIELD_CELL_SIZE);
+    private Rectangle[] obstacles = new Rectangle[0]; // Penghalang flow field (koordinat dunia, boleh berubah tiap tick).
+    // Chunk dunia: jendela aktif di sekitar kamera dan ringkasan entitas beku di chunk yang jauh.
+    private final ChunkWorld world;
+    private final int[] thawCounts = new int[ChunkWorld.SPECIES]; // Buffer jumlah per jenis saat mencairkan chunk.
+    private float viewLeft, viewRight = Constants.GAME_WIDTH; // Batas layar (koordinat dunia) pada tick ini.
+    private GameRandom random; // Aliran acak (jadwal/jenis, posisi, kecepatan) untuk sesi yang sedang berjalan.
+    private final GameClock clock; // Jam simulasi untuk mengatur jadwal kemunculan entitas.
+    private final GameRules rules; // Campuran spawn, interval, dan batas entitas.
     
     // Variabel untuk mengatur interval waktu kemunculan entitas secara acak.
-    private long lastSpawnTime = 0;
-    private long spawnIntervalMinMs = 1200; 
-    private long spawnIntervalVarMs = 2000; 
+    // Nilai awal sangat kecil agar entitas pertama langsung muncul di awal sesi (waktu simulasi dimulai dari 0).
+    private long lastSpawnTime = Long.MIN_VALUE / 2;
     private long currentSpawnInterval;
     
-    // Batas jumlah maksimum entitas di layar untuk menjaga performa.
-    private int maxEntitiesOnScreen = 8; 
+    // Faktor pengali batas di atas, diturunkan oleh QualityGovernor pada mesin yang lemah.
+    private float spawnDensity = 1.0f;
 
-    // Konstruktor, menginisialisasi daftar entitas dan interval spawn pertama.
-    public EntityHandler() {
-        this.entities = Collections.synchronizedList(new ArrayList<>());
-        setNextSpawnInterval();
+    // Pool per jenis entitas; entitas yang keluar layar atau ditangkap dikembalikan ke sini untuk dipakai ulang.
+    private final EntityPool<Fish> fishPool;
+    private final EntityPool<BigFish> bigFishPool;
+    private final EntityPool<DartFish> dartFishPool;
+    private final EntityPool<Ghost> ghostPool;
+    // Entitas yang sedang dipakai di luar daftar (dikait harpun, di-struggle, atau menuju keranjang).
+    // Entitas ini tidak dikembalikan ke pool walaupun keluar layar, sampai releaseHold() dipanggil.
+    private GameObject held;
+
+    // Broadphase tabrakan; dibangun ulang paling banyak sekali per tick, hanya saat query pada posisi yang sama
+    // sudah mencapai COLLISION_GRID_MIN_QUERIES. Sebelum itu query memindai daftar entitas secara linear.
+    private final SpatialHash collisionGrid = new SpatialHash(COLLISION_CELL_SIZE, POOL_CAPACITY);
+    private boolean collisionGridDirty = true;
+    private int queriesSinceChange; // Query sejak posisi atau daftar entitas terakhir berubah.
+    private final Rectangle segmentBox = new Rectangle(); // Kotak pembatas segmen untuk pemindaian linear.
+
+    // Konstruktor, menginisialisasi daftar entitas. Handler dipakai ulang antar sesi (beserta pool-nya);
+    // reset(GameRandom) harus dipanggil di awal setiap sesi.
+    public EntityHandler(GameClock clock, GameRules rules) {
+        this.clock = clock;
+        this.rules = rules;
+        int poolCapacity = Math.max(POOL_CAPACITY, rules.maxEntitiesOnScreen);
+        this.fishPool = new EntityPool<>("ikan", poolCapacity);
+        this.bigFishPool = new EntityPool<>("ikan besar", poolCapacity);
+        this.dartFishPool = new EntityPool<>("ikan panah", poolCapacity);
+        this.ghostPool = new EntityPool<>("hantu", poolCapacity);
+        this.world = new ChunkWorld(Constants.CHUNK_WIDTH, Constants.ACTIVE_CHUNK_RADIUS,
+                Constants.CHUNK_SUMMARY_CAPACITY, rules.maxEntitiesOnScreen);
+        // Decode semua sprite sheet sekarang, bukan di tengah frame saat entitas pertama muncul.
+        SpriteCache.preload(FISH_SHEET, BIG_FISH_SHEET, DART_FISH_SHEET, GHOST_SHEET);
+        // Panggang juga frame render setiap jenis pada ukurannya sekarang. Contoh entitasnya dibuang dan memakai
+        // sumber acak sendiri, jadi aliran acak sesi (dan hasil simulasinya) tidak berubah.
+        SplittableRandom templateRandom = new SplittableRandom(0);
+        new Fish(clock, 0, 0, FISH_SHEET, true, templateRandom).prebake();
+        new BigFish(clock, 0, 0, BIG_FISH_SHEET, true, templateRandom).prebake();
+        new DartFish(clock, 0, 0, DART_FISH_SHEET, true, templateRandom).prebake();
+        new Ghost(clock, 0, 0, GHOST_SHEET, true, templateRandom).prebake();
     }
     
     // Mengatur waktu acak untuk kemunculan entitas berikutnya.
     private void setNextSpawnInterval() {
-        currentSpawnInterval = spawnIntervalMinMs + random.nextInt((int)spawnIntervalVarMs + 1);
+        currentSpawnInterval = rules.spawnIntervalMinMs + random.spawnType().nextInt((int)rules.spawnIntervalVarMs + 1);
+    }
+
+    // Mengatur penghalang yang dihindari hantu saat berburu (misal: keranjang). Persegi panjangnya dibaca ulang
+    // setiap tick, jadi pemanggil boleh menggesernya (misal: mengikuti kamera) tanpa memanggil metode ini lagi.
+    public void setObstacles(Rectangle... obstacles) {
+        this.obstacles = obstacles;
     }
 
     // Metode utama yang dipanggil di setiap frame dari game loop untuk mengupdate semua entitas.
-    public void updateEntities() { 
+    // 'prey' adalah objek yang diburu hantu (pemain), atau null jika saat ini tidak bisa diserang.
+    // 'camera' menentukan layar (tempat entitas baru muncul) dan jendela aktif dunia.
+    public void updateEntities(GameObject prey, Camera camera) {
+        viewLeft = camera.getX();
+        viewRight = camera.getRightX();
+        int previousCenter = world.recenter(viewLeft + Constants.GAME_WIDTH / 2f);
+        if (previousCenter != world.getCenterChunk()) thawEnteringChunks(previousCenter);
+
         trySpawnNewEntity(); // Coba untuk memunculkan entitas baru.
-        
-        // Menggunakan 'synchronized' untuk menghindari error saat mengakses list dari thread yang berbeda.
-        synchronized (entities) { 
-            // Menggunakan Iterator agar aman saat menghapus entitas dari list selagi iterasi berjalan.
-            Iterator<GameObject> iterator = entities.iterator();
-            while (iterator.hasNext()) {
-                GameObject entity = iterator.next();
-                entity.update(); // Panggil metode update dari masing-masing entitas.
-
-                // Cek apakah entitas sudah keluar dari batas layar.
-                boolean remove = false;
-                if (entity instanceof Fish) { 
-                    if (((Fish) entity).isOutOfBounds()) {
-                        remove = true;
-                    }
-                } else if (entity instanceof Ghost) {
-                    if (((Ghost) entity).isOutOfBounds()) {
-                        remove = true;
-                    }
+
+        float activeLeft = world.getActiveLeft();
+        // Ikan yang bergerombol menyesuaikan kecepatannya dengan tetangga sejenis (paralel jika entitasnya banyak).
+        updater.flock(flocking, components, activeLeft);
+        // Hantu yang berburu mengikuti flow field ke arah pemain (biaya per hantu tetap, berapa pun jumlahnya).
+        if (prey != null) {
+            float preyX = prey.getX() + prey.getWidth() / 2f;
+            float preyY = prey.getY() + prey.getHeight() / 2f;
+            huntField.setOrigin(viewLeft - Constants.HUNT_FIELD_MARGIN);
+            huntField.setObstacles(Constants.FLOW_FIELD_OBSTACLE_MARGIN, obstacles);
+            huntField.update(preyX, preyY);
+            components.hunt(huntField, clock.millis(), preyX, preyY, Ghost.HUNT_TURN_RATE);
+        } else {
+            components.hunt(null, clock.millis(), 0, 0, Ghost.HUNT_TURN_RATE);
+        }
+
+        // Jalankan sistem gerak, animasi, kotak tabrakan, dan batas jendela aktif di atas array komponen
+        // (dipecah ke beberapa core jika entitasnya banyak). Fase ini tidak mengubah daftar entitas.
+        int leavingCount = updater.update(components, clock.millis(), activeLeft, world.getActiveRight(),
+                OUT_OF_BOUNDS_MARGIN, leaving);
+
+        // Langkah merge (sekuensial): entitas yang keluar jendela aktif dihapus dari daftar, dibekukan ke ringkasan
+        // chunk tempatnya keluar, dan objeknya dikembalikan ke pool (kecuali masih dipegang).
+        if (leavingCount > 0) {
+            for (GameObject entity : leaving) {
+                entities.remove(entity);
+                components.detach(entity);
+                if (entity != held) {
+                    world.freeze(world.chunkOf(entity.getX() + entity.getWidth() / 2f), speciesOf(entity));
+                    recycle(entity);
                 }
-                // Jika sudah keluar batas, hapus dari daftar.
-                if (remove) {
-                    iterator.remove();
+            }
+            leaving.clear();
+        }
+        entities.publish();
+        invalidateCollisionGrid(); // Posisi entitas berubah.
+    }
+
+    // Mencairkan ringkasan chunk yang baru masuk ke jendela aktif: entitasnya dimunculkan di posisi acak dalam chunk.
+    private void thawEnteringChunks(int previousCenter) {
+        int radius = Constants.ACTIVE_CHUNK_RADIUS;
+        int center = world.getCenterChunk();
+        for (int chunk = center - radius; chunk <= center + radius; chunk++) {
+            if (Math.abs(chunk - previousCenter) <= radius) continue; // Sudah aktif sebelumnya.
+            if (world.thaw(chunk, thawCounts) == 0) continue;
+            float chunkLeft = (float) chunk * world.getChunkWidth();
+            for (int species = 0; species < ChunkWorld.SPECIES; species++) {
+                for (int k = 0; k < thawCounts[species]; k++) {
+                    boolean movesLeftToRight = random.spawnPosition().nextBoolean();
+                    spawnEntity(species, chunkLeft + random.spawnPosition().nextInt(world.getChunkWidth()), movesLeftToRight);
                 }
             }
         }
     }
 
+    // Mengisi 'out' dengan entitas yang bisa bertabrakan dengan 'layer' dan kotaknya bersinggungan dengan 'area',
+    // urut sesuai daftar entitas. Hasilnya sama baik lewat grid maupun pemindaian linear.
+    public int queryCollisions(Rectangle area, CollisionLayer layer, List<GameObject> out) {
+        int mask = layer.collisionMask();
+        if (useCollisionGrid()) return collisionGrid.query(area, mask, out);
+        out.clear();
+        List<GameObject> snapshot = entities.snapshot();
+        for (int i = 0; i < snapshot.size(); i++) {
+            GameObject entity = snapshot.get(i);
+            if ((layerOf(entity).bit & mask) != 0 && entity.getCollisionBox().intersects(area)) out.add(entity);
+        }
+        return out.size();
+    }
+
+    // Mengisi 'out' dengan entitas yang disentuh kotak berjari-jari 'radius' sepanjang segmen (x0, y0)-(x1, y1),
+    // diurutkan dari yang paling awal disentuh (seri diurutkan sesuai daftar entitas). Dipakai untuk tes tabrakan
+    // kontinu ujung harpun.
+    public int querySegment(float x0, float y0, float x1, float y1, float radius, CollisionLayer layer, List<GameObject> out) {
+        int mask = layer.collisionMask();
+        if (useCollisionGrid()) return collisionGrid.querySegment(x0, y0, x1, y1, radius, mask, out);
+        out.clear();
+        // Kotak pembatas segmen yang diperlebar radius (ditambah satu piksel, karena intersects() tidak menghitung
+        // sisi yang hanya bersentuhan) menolak sebagian besar entitas sebelum uji slab.
+        int minX = (int) Math.floor(Math.min(x0, x1) - radius) - 1;
+        int minY = (int) Math.floor(Math.min(y0, y1) - radius) - 1;
+        segmentBox.setBounds(minX, minY, (int) Math.ceil(Math.max(x0, x1) + radius) + 2 - minX,
+                (int) Math.ceil(Math.max(y0, y1) + radius) + 2 - minY);
+        float dx = x1 - x0;
+        float dy = y1 - y0;
+        List<GameObject> snapshot = entities.snapshot();
+        for (int i = 0; i < snapshot.size(); i++) {
+            GameObject entity = snapshot.get(i);
+            if ((layerOf(entity).bit & mask) == 0) continue;
+            Rectangle box = entity.getCollisionBox();
+            if (!box.intersects(segmentBox)) continue;
+            float t = SpatialHash.segmentEntryTime(box, radius, x0, y0, dx, dy);
+            if (t < 0) continue;
+            // Sisipkan sambil menjaga urutan waktu masuk; hasil dengan waktu sama tetap sesuai urutan daftar.
+            int index = out.size();
+            while (index > 0 && segmentEntryTime(out.get(index - 1), radius, x0, y0, dx, dy) > t) index--;
+            out.add(index, entity);
+        }
+        return out.size();
+    }
+
+    // Waktu masuk segmen ke kotak entitas (lihat SpatialHash.segmentEntryTime).
+    private static float segmentEntryTime(GameObject entity, float radius, float x0, float y0, float dx, float dy) {
+        return SpatialHash.segmentEntryTime(entity.getCollisionBox(), radius, x0, y0, dx, dy);
+    }
+
+    // Menentukan apakah query ini memakai grid. Grid dibangun (dari snapshot terbaru) hanya setelah cukup banyak
+    // query pada posisi entitas yang sama; sampai saat itu pemindaian linear lebih murah.
+    private boolean useCollisionGrid() {
+        if (!collisionGridDirty) return true;
+        if (++queriesSinceChange < COLLISION_GRID_MIN_QUERIES) return false;
+        List<GameObject> snapshot = entities.snapshot();
+        collisionGrid.clear(snapshot.size());
+        for (GameObject entity : snapshot) {
+            collisionGrid.insert(entity, layerOf(entity));
+        }
+        collisionGridDirty = false;
+        return true;
+    }
+
+    // Menandai grid tabrakan usang karena posisi atau daftar entitas berubah.
+    private void invalidateCollisionGrid() {
+        collisionGridDirty = true;
+        queriesSinceChange = 0;
+    }
+
+    // Lapisan tabrakan sebuah entitas di daftar.
+    private static CollisionLayer layerOf(GameObject entity) {
+        return entity instanceof Ghost ? CollisionLayer.GHOST : CollisionLayer.FISH;
+    }
+
     // Cek apakah sudah waktunya untuk memunculkan entitas baru.
     private void trySpawnNewEntity() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.millis();
         
-        // Spawn jika waktu interval sudah terlewati dan jumlah entitas di layar belum maksimal.
-        if (currentTime - lastSpawnTime > currentSpawnInterval && entities.size() < maxEntitiesOnScreen) {
-            spawnRandomEntity(); 
+        // Spawn jika waktu interval sudah terlewati dan jumlah entitas belum maksimal. Yang dihitung adalah seluruh
+        // jendela aktif (semua entitas yang masih disimulasikan), bukan hanya yang terlihat di layar, agar populasi
+        // tidak terus bertambah di chunk tetangga yang di luar layar.
+        if (currentTime - lastSpawnTime > currentSpawnInterval && components.size() < getEffectiveMaxEntities()) {
+            spawnRandomEntity(false);
             lastSpawnTime = currentTime; // Catat waktu spawn terakhir.
             setNextSpawnInterval(); // Tentukan interval waktu untuk spawn berikutnya.
         }
     }
 
-    // Logika untuk membuat entitas baru secara acak (jenis ikan atau hantu).
-    private void spawnRandomEntity() {
-        float spawnY;
-        boolean movesLeftToRight = random.nextBoolean(); 
+    // Logika untuk membuat entitas baru secara acak (jenis ikan atau hantu) di tepi layar.
+    // Jika 'scattered', entitas muncul di posisi acak sepanjang lebar layar, bukan dari tepi.
+    private void spawnRandomEntity(boolean scattered) {
+        boolean movesLeftToRight = random.spawnPosition().nextBoolean();
         
         float entityRenderWidthMaxPlaceholder = 60; 
-        float spawnX = movesLeftToRight ? 0 - entityRenderWidthMaxPlaceholder : Constants.GAME_WIDTH + 20;
+        float spawnX = movesLeftToRight ? viewLeft - entityRenderWidthMaxPlaceholder : viewRight + 20;
+        if (scattered) spawnX = viewLeft + random.spawnPosition().nextInt(Constants.GAME_WIDTH);
 
+        // Tentukan tipe entitas yang akan di-spawn sesuai bobot pada GameRules (default 35/20/20/25).
+        int type = random.spawnType().nextInt(rules.totalSpawnWeight());
+        int species;
+        if (type < rules.fishWeight) species = ChunkWorld.FISH;
+        else if (type < rules.fishWeight + rules.bigFishWeight) species = ChunkWorld.BIG_FISH;
+        else if (type < rules.fishWeight + rules.bigFishWeight + rules.dartFishWeight) species = ChunkWorld.DART_FISH;
+        else species = ChunkWorld.GHOST;
+        spawnEntity(species, spawnX, movesLeftToRight);
+    }
+
+    // Memunculkan satu entitas jenis 'species' (indeks ChunkWorld) di x tertentu dengan posisi vertikal acak
+    // di pita airnya, lalu memasukkannya ke daftar.
+    private void spawnEntity(int species, float spawnX, boolean movesLeftToRight) {
+        float spawnY;
         String spriteSheetPath;
         GameObject newEntity = null;
 
-        // Tentukan tipe entitas yang akan di-spawn dengan probabilitas tertentu.
-        int type = random.nextInt(100); 
-
-        if (type < 35) { // 35% Fish
-            spriteSheetPath = "/assets/images/fish.png"; 
-            spawnY = 32 + random.nextInt(Constants.GAME_HEIGHT - (32 * 2) - 60);
-            newEntity = new Fish(spawnX, spawnY, spriteSheetPath, movesLeftToRight);
-        } else if (type < 55) { // 20% BigFish
-            spriteSheetPath = "/assets/images/fish-big.png"; 
-            spawnY = 49 + random.nextInt(Constants.GAME_HEIGHT - (49 * 2) - 60);
-            newEntity = new BigFish(spawnX, spawnY, spriteSheetPath, movesLeftToRight);
-        } else if (type < 75) { // 20% DartFish
-            spriteSheetPath = "/assets/images/fish-dart.png"; 
-            spawnY = 20 + random.nextInt(Constants.GAME_HEIGHT - (20 * 2) - 60);
-            newEntity = new DartFish(spawnX, spawnY, spriteSheetPath, movesLeftToRight);
-        } else { // 25% Ghost
-            spriteSheetPath = "/assets/images/ghost.png"; 
-            spawnY = 66 + random.nextInt(Constants.GAME_HEIGHT - (66 * 2) - 60);
-            newEntity = new Ghost(spawnX, spawnY, spriteSheetPath, movesLeftToRight);
+        // Ambil objek bekas dari pool jenis yang sesuai; buat baru hanya jika pool kosong.
+        if (species == ChunkWorld.FISH) {
+            spriteSheetPath = FISH_SHEET;
+            spawnY = 32 + random.spawnPosition().nextInt(Constants.GAME_HEIGHT - (32 * 2) - Constants.WATER_BOTTOM_RESERVE);
+            Fish fish = fishPool.acquire();
+            if (fish == null) fish = new Fish(clock, spawnX, spawnY, spriteSheetPath, movesLeftToRight, random.speed());
+            else fish.reset(spawnX, spawnY, movesLeftToRight, random.speed());
+            newEntity = fish;
+        } else if (species == ChunkWorld.BIG_FISH) {
+            spriteSheetPath = BIG_FISH_SHEET;
+            spawnY = 49 + random.spawnPosition().nextInt(Constants.GAME_HEIGHT - (49 * 2) - Constants.WATER_BOTTOM_RESERVE);
+            BigFish bigFish = bigFishPool.acquire();
+            if (bigFish == null) bigFish = new BigFish(clock, spawnX, spawnY, spriteSheetPath, movesLeftToRight, random.speed());
+            else bigFish.reset(spawnX, spawnY, movesLeftToRight, random.speed());
+            newEntity = bigFish;
+        } else if (species == ChunkWorld.DART_FISH) {
+            spriteSheetPath = DART_FISH_SHEET;
+            spawnY = 20 + random.spawnPosition().nextInt(Constants.GAME_HEIGHT - (20 * 2) - Constants.WATER_BOTTOM_RESERVE);
+            DartFish dartFish = dartFishPool.acquire();
+            if (dartFish == null) dartFish = new DartFish(clock, spawnX, spawnY, spriteSheetPath, movesLeftToRight, random.speed());
+            else dartFish.reset(spawnX, spawnY, movesLeftToRight, random.speed());
+            newEntity = dartFish;
+        } else { // Ghost
+            spriteSheetPath = GHOST_SHEET;
+            spawnY = 66 + random.spawnPosition().nextInt(Constants.GAME_HEIGHT - (66 * 2) - Constants.WATER_BOTTOM_RESERVE);
+            Ghost ghost = ghostPool.acquire();
+            if (ghost == null) ghost = new Ghost(clock, spawnX, spawnY, spriteSheetPath, movesLeftToRight, random.speed());
+            else ghost.reset(spawnX, spawnY, movesLeftToRight, random.speed());
+            newEntity = ghost;
         }
         
         // Tambahkan entitas baru ke dalam daftar jika berhasil dibuat.
         if (newEntity != null) {
-            synchronized (entities) {
-                entities.add(newEntity);
-            }
+            entities.add(newEntity);
+            components.attach(newEntity);
         }
     }
     
-    // Menghapus satu entitas spesifik dari daftar (misal: setelah ikan ditangkap).
-    public void removeEntity(GameObject entity) {
-        synchronized (entities) {
-            entities.remove(entity);
+    // Mengisi daftar sampai berisi 'target' entitas sekaligus (dipakai skenario akuarium), tanpa memperhatikan
+    // jadwal spawn dan batas maxEntitiesOnScreen. Lihat spawnRandomEntity untuk arti 'scattered'.
+    public void populate(int target, boolean scattered) {
+        if (entities.size() >= target) return;
+        while (entities.size() < target) {
+            spawnRandomEntity(scattered);
         }
+        entities.publish();
+        invalidateCollisionGrid();
     }
 
-    // Menggambar semua entitas yang ada di dalam daftar ke layar.
-    public void renderEntities(Graphics g) { 
-        synchronized (entities) { 
-            for (GameObject entity : entities) { 
-                entity.render(g);
-            }
+    // Jumlah entitas di daftar saat ini.
+    public int getEntityCount() {
+        return entities.size();
+    }
+
+    // Mengatur faktor kepadatan spawn (1.0 = normal).
+    public void setSpawnDensity(float spawnDensity) {
+        this.spawnDensity = spawnDensity;
+    }
+
+    // Batas entitas di jendela aktif setelah dikalikan faktor kepadatan (minimal 1).
+    public int getEffectiveMaxEntities() {
+        return Math.max(1, Math.round(rules.maxEntitiesOnScreen * spawnDensity));
+    }
+
+    // Menghapus satu entitas spesifik dari daftar (misal: setelah ikan ditangkap) tanpa mengembalikannya ke pool.
+    public void removeEntity(GameObject entity) {
+        entities.remove(entity);
+        components.detach(entity); // State disalin kembali ke objeknya agar objek bisa dipakai di luar daftar.
+        entities.publish();
+        invalidateCollisionGrid();
+    }
+
+    // Menghapus entitas dari daftar sekaligus mengembalikannya ke pool (misal: hantu yang menabrak pemain).
+    public void despawn(GameObject entity) {
+        removeEntity(entity);
+        recycle(entity);
+    }
+
+    // Menandai entitas yang sedang dipakai di luar daftar (misal: ikan yang dikait harpun) agar tidak dipakai ulang.
+    public void hold(GameObject entity) {
+        this.held = entity;
+    }
+
+    // Melepas entitas yang dipegang. Jika entitas itu sudah tidak ada di daftar (ditangkap atau keluar layar),
+    // objeknya dikembalikan ke pool; jika masih ada, entitas tetap hidup seperti biasa.
+    public void releaseHold() {
+        if (held == null) return;
+        if (!entities.contains(held)) recycle(held);
+        held = null;
+    }
+
+    // Indeks jenis entitas untuk ringkasan chunk (subclass dicek lebih dulu, sama seperti recycle).
+    private static int speciesOf(GameObject entity) {
+        if (entity instanceof BigFish) return ChunkWorld.BIG_FISH;
+        if (entity instanceof DartFish) return ChunkWorld.DART_FISH;
+        if (entity instanceof Fish) return ChunkWorld.FISH;
+        return ChunkWorld.GHOST;
+    }
+
+    // Mengembalikan entitas yang sudah tidak dipakai ke pool jenisnya. Pemanggil tidak boleh memakainya lagi.
+    private void recycle(GameObject entity) {
+        // Cek subclass lebih dulu karena BigFish dan DartFish juga merupakan Fish.
+        if (entity instanceof BigFish) {
+            bigFishPool.release((BigFish) entity);
+        } else if (entity instanceof DartFish) {
+            dartFishPool.release((DartFish) entity);
+        } else if (entity instanceof Fish) {
+            fishPool.release((Fish) entity);
+        } else if (entity instanceof Ghost) {
+            ghostPool.release((Ghost) entity);
         }
     }
 
-    // Mengembalikan salinan dari daftar entitas agar kelas lain bisa membacanya tanpa mengubah daftar asli.
+    // Ringkasan penghitung semua pool entitas.
+    public String getPoolSummary() {
+        return fishPool.summary() + "; " + bigFishPool.summary() + "; "
+                + dartFishPool.summary() + "; " + ghostPool.summary();
+    }
+
+    // Ringkasan chunk dunia (jendela aktif dan entitas beku).
+    public String getWorldSummary() {
+        return world.summary();
+    }
+
+    // Menyimpan posisi semua entitas sebagai posisi tick sebelumnya (untuk interpolasi render).
+    public void storePreviousPositions() {
+        components.storePreviousPositions();
+    }
+
+    // Mengembalikan snapshot daftar entitas (tidak bisa diubah, tanpa salinan dan tanpa lock).
     public List<GameObject> getEntities() { 
-        synchronized (entities) {
-            return new ArrayList<>(entities); 
-        }
+        return entities.snapshot();
+    }
+
+    // Jumlah snapshot yang dibuat sejak awal (satu per tick yang mengubah daftar, bukan satu per pembaca).
+    public long getSnapshotCount() {
+        return entities.getPublishCount();
     }
     
-    // Menghapus semua entitas dari daftar (digunakan saat memulai game baru).
-    public void reset() { 
-        synchronized (entities) {
-            entities.clear();
+    // Menghapus semua entitas dari daftar (digunakan saat memulai game baru) dan memakai aliran acak sesi yang baru.
+    public void reset(GameRandom random) { 
+        this.random = random;
+        releaseHold(); // Entitas yang dipegang di luar daftar dikembalikan ke pool, bukan dibuang.
+        components.clear();
+        for (GameObject entity : entities.snapshot()) {
+            recycle(entity);
         }
-        lastSpawnTime = 0; // Reset timer spawn.
+        entities.clear();
+        entities.publish();
+        invalidateCollisionGrid();
+        world.reset(0); // Kamera sesi baru mulai di chunk 0.
+        viewLeft = 0;
+        viewRight = Constants.GAME_WIDTH;
+        lastSpawnTime = Long.MIN_VALUE / 2; // Reset timer spawn.
         setNextSpawnInterval();
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package viewmodel;
+
+import java.util.ArrayDeque;
+import model.GameObject;
+
+// Kelas ini adalah pool objek untuk satu jenis entitas, agar spawn/despawn memakai ulang instance yang sama
+// alih-alih membuat objek baru dan membuang yang lama ke garbage collector.
+// acquire() mengembalikan null jika pool kosong; pemanggil lalu membuat objek baru (miss) atau
+// memanggil metode reset milik objek tersebut (hit). Hanya dipakai dari thread simulasi, jadi tidak disinkronkan.
+public class EntityPool<T extends GameObject> {
+    private final String name;     // Nama singkat untuk laporan.
+    private final int capacity;    // Jumlah maksimal objek yang disimpan; sisanya dibiarkan untuk GC.
+    private final ArrayDeque<T> free;
+
+    // Penghitung untuk laporan.
+    private long hits, misses, discarded;
+
+    // Konstruktor, menentukan nama dan kapasitas pool.
+    public EntityPool(String name, int capacity) {
+        this.name = name;
+        this.capacity = capacity;
+        this.free = new ArrayDeque<>(capacity);
+    }
+
+    // Mengambil objek bekas dari pool, atau null jika pool kosong.
+    public T acquire() {
+        T object = free.pollLast();
+        if (object != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return object;
+    }
+
+    // Mengembalikan objek yang sudah tidak dipakai ke pool. Objek tidak boleh dipakai lagi oleh pemanggil.
+    public void release(T object) {
+        if (free.size() < capacity) {
+            free.addLast(object);
+        } else {
+            discarded++;
+        }
+    }
+
+    // Getter untuk penghitung pool.
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getDiscarded() { return discarded; }
+    public int getFreeCount() { return free.size(); }
+
+    // Persentase acquire() yang terlayani dari pool.
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : 100.0 * hits / total;
+    }
+
+    // Ringkasan satu baris untuk log.
+    public String summary() {
+        return String.format("%s %d hit/%d miss (%.0f%%), %d dibuang, %d siap", name, hits, misses, getHitRate(), discarded, free.size());
+    }
+}
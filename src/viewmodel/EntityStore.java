@@ -0,0 +1,118 @@
+package viewmodel;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import model.GameObject;
+
+// Kelas ini adalah wadah entitas untuk satu penulis (thread simulasi) dan banyak pembaca (render, tabrakan, bot).
+// Penulis mengubah array kerja (add/remove/clear) lalu memanggil publish(); pembaca hanya melihat snapshot
+// terakhir yang sudah dipublikasikan lewat field volatile, tanpa lock dan tanpa menyalin daftar.
+// Snapshot tidak pernah berubah setelah dipublikasikan, jadi iterasi selalu stabil walaupun entitas
+// ditambah/dihapus di tengah tick; perubahan baru terlihat setelah publish() berikutnya.
+// Setiap entitas menyimpan posisinya di array kerja (GameObject.getStoreIndex), sehingga remove() dan contains()
+// O(1): entitas terakhir dipindah ke lubang yang ditinggalkan (urutan tidak dipertahankan). Satu entitas hanya
+// boleh tersimpan di satu EntityStore pada satu waktu.
+public class EntityStore<T extends GameObject> {
+    private T[] working; // Array kerja, hanya disentuh oleh thread penulis.
+    private int size;
+    private boolean dirty; // true jika array kerja berubah sejak publish() terakhir.
+    private volatile List<T> snapshot = Collections.emptyList();
+    private long publishCount; // Jumlah snapshot baru yang benar-benar dibuat (untuk pengukuran).
+
+    // Snapshot immutable yang bisa dibaca dari thread mana pun.
+    private static final class Snapshot<T> extends AbstractList<T> implements RandomAccess {
+        private final T[] items;
+
+        Snapshot(T[] items) {
+            this.items = items;
+        }
+
+        @Override
+        public T get(int index) {
+            return items[index];
+        }
+
+        @Override
+        public int size() {
+            return items.length;
+        }
+    }
+
+    // Konstruktor, membuat array kerja awal.
+    @SuppressWarnings("unchecked")
+    public EntityStore() {
+        // Array dibuat sebagai GameObject[] (batas atas T), jadi aman dipakai sebagai T[] selama tidak keluar dari kelas ini.
+        working = (T[]) new GameObject[16];
+    }
+
+    // Menambahkan entitas di akhir array kerja. Entitas yang sudah ada tidak ditambahkan lagi; mengembalikan false
+    // jika begitu, karena duplikat akan membuat indeks salah satunya tidak lagi menunjuk ke posisinya.
+    public boolean add(T entity) {
+        if (contains(entity)) return false;
+        if (size == working.length) {
+            working = Arrays.copyOf(working, size * 2);
+        }
+        entity.setStoreIndex(size);
+        working[size++] = entity;
+        dirty = true;
+        return true;
+    }
+
+    // Menghapus entitas dari array kerja dalam O(1) dengan memindahkan entitas terakhir ke posisinya.
+    // Mengembalikan false jika tidak ada.
+    public boolean remove(T entity) {
+        if (!contains(entity)) return false;
+        int i = entity.getStoreIndex();
+        int last = --size;
+        if (i != last) {
+            T moved = working[last];
+            working[i] = moved;
+            moved.setStoreIndex(i);
+        }
+        working[last] = null;
+        entity.setStoreIndex(-1);
+        dirty = true;
+        return true;
+    }
+
+    // Mengosongkan array kerja.
+    public void clear() {
+        if (size == 0) return;
+        for (int i = 0; i < size; i++) {
+            working[i].setStoreIndex(-1);
+        }
+        Arrays.fill(working, 0, size, null);
+        size = 0;
+        dirty = true;
+    }
+
+    // Mengecek apakah entitas ada di array kerja dalam O(1) (dipakai oleh thread penulis).
+    public boolean contains(T entity) {
+        int i = entity.getStoreIndex();
+        return i >= 0 && i < size && working[i] == entity;
+    }
+
+    // Jumlah entitas di array kerja (dipakai oleh thread penulis).
+    public int size() {
+        return size;
+    }
+
+    // Mempublikasikan isi array kerja sebagai snapshot baru, hanya jika ada perubahan.
+    public void publish() {
+        if (!dirty) return;
+        snapshot = size == 0 ? Collections.emptyList() : new Snapshot<>(Arrays.copyOf(working, size));
+        dirty = false;
+        publishCount++;
+    }
+
+    // Snapshot terakhir yang dipublikasikan; tidak bisa diubah dan aman dibaca tanpa lock.
+    public List<T> snapshot() {
+        return snapshot;
+    }
+
+    // Getter untuk jumlah snapshot yang sudah dibuat.
+    public long getPublishCount() { return publishCount; }
+}
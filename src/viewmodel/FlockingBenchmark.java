@@ -0,0 +1,107 @@
+package viewmodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import model.BigFish;
+import model.DartFish;
+import model.EntityComponents;
+import model.Fish;
+import model.FlockingSystem;
+import model.GameObject;
+
+// Kelas ini mengukur biaya sistem gerombol (FlockingSystem) pada 100 sampai 20.000 ikan di satu layar:
+//  - "grid": pencarian tetangga lewat grid seragam (yang dipakai permainan);
+//  - "semua pasangan": setiap ikan memeriksa semua ikan lain (O(n^2)), sebagai pembanding (sampai 3.000 ikan).
+// Kedua jalur memilih tetangga terdekat yang sama, jadi yang dibandingkan hanya biaya pencariannya.
+// Satu operasi = satu tick (gerombol + gerak + batas layar) di satu thread. Ikan yang keluar layar dimunculkan lagi
+// di sisi seberang sehingga populasinya tetap. Kolom terakhir adalah persentase anggaran satu tick pada 60 Hz.
+public class FlockingBenchmark {
+    private static final int[] FISH_COUNTS = {100, 300, 1_000, 3_000, 10_000, 20_000};
+    private static final int MAX_ALL_PAIRS_FISH = 3_000; // Di atas ini pembanding O(n^2) terlalu lama untuk diukur.
+    // Jarak di luar layar sebelum entitas dimunculkan ulang (lebih jauh dari titik munculnya di -60).
+    private static final int RESPAWN_MARGIN = 60;
+    private static final long MIN_MEASURE_NS = 500_000_000L; // Setiap pengukuran berjalan minimal 0,5 detik.
+    private static final double TICK_BUDGET_NS = 1_000_000_000.0 / Constants.TICKS_PER_SECOND;
+
+    private static long sink; // Mencegah JIT membuang hasil perhitungan.
+
+    // Menjalankan semua ukuran dan mencetak hasilnya.
+    public static void run(long seed) {
+        System.out.println("Benchmark gerombol ikan (waktu per tick, lebih kecil lebih baik), seed " + seed);
+        for (int n : FISH_COUNTS) {
+            double gridTick = measure(n, seed, 0);
+            if (n > MAX_ALL_PAIRS_FISH) {
+                System.out.printf("  %5d ikan | grid %9.1f us (%5.1f%% anggaran 60 Hz), semua pasangan -%n",
+                        n, gridTick / 1e3, 100 * gridTick / TICK_BUDGET_NS);
+                continue;
+            }
+            double pairsTick = measure(n, seed, Integer.MAX_VALUE);
+            System.out.printf("  %5d ikan | grid %9.1f us (%5.1f%% anggaran 60 Hz), semua pasangan %9.1f us (%5.1f%%), grid %.1fx lebih cepat%n",
+                    n, gridTick / 1e3, 100 * gridTick / TICK_BUDGET_NS,
+                    pairsTick / 1e3, 100 * pairsTick / TICK_BUDGET_NS, pairsTick / gridTick);
+        }
+        if (sink == 42) System.out.println(); // Hanya agar 'sink' terbaca.
+    }
+
+    // Menyiapkan n ikan dan mengembalikan rata-rata nanodetik per tick dengan batas grid tertentu.
+    private static double measure(int n, long seed, int gridThreshold) {
+        GameClock clock = new GameClock(Constants.TICKS_PER_SECOND);
+        SplittableRandom random = new SplittableRandom(seed);
+        SplittableRandom respawnRandom = new SplittableRandom(seed + 1);
+        EntityComponents components = new EntityComponents(n);
+        for (int i = 0; i < n; i++) components.attach(createFish(clock, random));
+        FlockingSystem flocking = new FlockingSystem(Constants.GAME_WIDTH, Constants.GAME_HEIGHT,
+                Constants.WATER_BOTTOM_RESERVE, Constants.FLOCK_SEARCH_RADIUS, gridThreshold);
+        List<GameObject> leaving = new ArrayList<>();
+
+        Runnable tick = () -> {
+            clock.advance();
+            flocking.update(components, 0);
+            components.move();
+            components.animate(clock.millis());
+            components.updateBounds();
+            if (components.collectOutOfBounds(0, Constants.GAME_WIDTH, RESPAWN_MARGIN, leaving) > 0) {
+                for (GameObject fish : leaving) {
+                    components.detach(fish);
+                    boolean leftToRight = respawnRandom.nextBoolean();
+                    ((Fish) fish).reset(leftToRight ? -60 : Constants.GAME_WIDTH + 20,
+                            spawnY(fish.getHeight(), respawnRandom), leftToRight, respawnRandom);
+                    components.attach(fish);
+                }
+            }
+            sink += components.size();
+        };
+
+        long warmupEnd = System.nanoTime() + MIN_MEASURE_NS / 2;
+        while (System.nanoTime() < warmupEnd) tick.run();
+        long iterations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            tick.run();
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MIN_MEASURE_NS || iterations < 3);
+        return (double) elapsed / iterations;
+    }
+
+    // Membuat satu ikan acak (campuran jenis seperti bobot spawn standar) tersebar di pita airnya.
+    private static Fish createFish(GameClock clock, SplittableRandom random) {
+        float x = random.nextInt(Constants.GAME_WIDTH);
+        boolean leftToRight = random.nextBoolean();
+        int type = random.nextInt(GameRules.DEFAULT.fishWeight + GameRules.DEFAULT.bigFishWeight + GameRules.DEFAULT.dartFishWeight);
+        if (type < GameRules.DEFAULT.fishWeight) {
+            return new Fish(clock, x, spawnY(32, random), "/assets/images/fish.png", leftToRight, random);
+        }
+        if (type < GameRules.DEFAULT.fishWeight + GameRules.DEFAULT.bigFishWeight) {
+            return new BigFish(clock, x, spawnY(49, random), "/assets/images/fish-big.png", leftToRight, random);
+        }
+        return new DartFish(clock, x, spawnY(20, random), "/assets/images/fish-dart.png", leftToRight, random);
+    }
+
+    // Posisi vertikal acak di pita air untuk ikan setinggi 'height' (sama seperti EntityHandler).
+    private static float spawnY(int height, SplittableRandom random) {
+        return height + random.nextInt(Constants.GAME_HEIGHT - height * 2 - Constants.WATER_BOTTOM_RESERVE);
+    }
+}
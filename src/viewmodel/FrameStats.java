@@ -0,0 +1,67 @@
+package viewmodel;
+
+import java.util.Arrays;
+
+// Kelas ini mencatat durasi frame (dalam nanodetik) dan menghitung persentilnya,
+// misalnya untuk membandingkan kelancaran backend render yang berbeda.
+public class FrameStats {
+    private final long[] samples; // Ring buffer durasi frame.
+    private int count;            // Jumlah sampel yang valid di dalam buffer.
+    private int nextIndex;        // Posisi tulis berikutnya.
+    private long lastFrameStartNs = -1;
+
+    // Konstruktor, kapasitas menentukan berapa banyak frame terakhir yang disimpan.
+    public FrameStats(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    // Dipanggil di awal setiap frame; mencatat jarak waktu dari awal frame sebelumnya.
+    public synchronized void markFrameStart() {
+        long now = System.nanoTime();
+        if (lastFrameStartNs >= 0) {
+            record(now - lastFrameStartNs);
+        }
+        lastFrameStartNs = now;
+    }
+
+    // Menambahkan satu sampel durasi frame.
+    public synchronized void record(long durationNs) {
+        samples[nextIndex] = durationNs;
+        nextIndex = (nextIndex + 1) % samples.length;
+        if (count < samples.length) count++;
+    }
+
+    // Mengembalikan nilai persentil (0..100) dalam milidetik, atau 0 jika belum ada sampel.
+    public synchronized double percentileMs(double percentile) {
+        if (count == 0) return 0;
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        index = Math.max(0, Math.min(count - 1, index));
+        return sorted[index] / 1_000_000.0;
+    }
+
+    // Mengembalikan rata-rata durasi frame dalam milidetik.
+    public synchronized double averageMs() {
+        if (count == 0) return 0;
+        long total = 0;
+        for (int i = 0; i < count; i++) total += samples[i];
+        return total / (double) count / 1_000_000.0;
+    }
+
+    // Jumlah sampel yang tersimpan.
+    public synchronized int getCount() { return count; }
+
+    // Menghapus semua sampel.
+    public synchronized void reset() {
+        count = 0;
+        nextIndex = 0;
+        lastFrameStartNs = -1;
+    }
+
+    // Ringkasan satu baris untuk dicetak ke konsol.
+    public String summary() {
+        return String.format("n=%d avg=%.2fms p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                getCount(), averageMs(), percentileMs(50), percentileMs(95), percentileMs(99), percentileMs(100));
+    }
+}
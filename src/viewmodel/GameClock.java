@@ -0,0 +1,68 @@
+package viewmodel;
+
+// Kelas ini adalah satu-satunya sumber waktu simulasi permainan.
+// Waktu hanya maju saat advance() dipanggil (sekali per tick), sehingga semua model membaca waktu yang sama
+// dan permainan bisa dijeda, diperlambat, dipercepat, atau dijalankan langkah demi langkah secara konsisten.
+public class GameClock {
+    private final long tickDurationNs; // Durasi satu tick dalam waktu simulasi.
+    // Jumlah tick yang sudah dijalankan sejak reset. Hanya ditulis oleh thread game loop, tetapi millis() juga dibaca
+    // dari thread lain (EDT, PowerManager), jadi volatile agar nilai terbarunya selalu terlihat.
+    private volatile long tickCount;
+
+    // Skala waktu terhadap waktu nyata (1.0 = normal, 0.5 = lambat, 2.0 = cepat). Dibaca oleh GameLoop.
+    private volatile double timeScale = 1.0;
+    private volatile boolean paused;
+    private int pendingSteps; // Jumlah tick manual yang diminta saat jam dijeda.
+
+    // Konstruktor, menentukan laju tick simulasi.
+    public GameClock(int ticksPerSecond) {
+        this.tickDurationNs = 1_000_000_000L / ticksPerSecond;
+    }
+
+    // Memajukan waktu simulasi tepat satu tick.
+    public void advance() {
+        tickCount = tickCount + 1; // Satu penulis saja, jadi tidak perlu increment atomik.
+    }
+
+    // Waktu simulasi sejak reset, dalam milidetik.
+    public long millis() {
+        return tickCount * tickDurationNs / 1_000_000L;
+    }
+
+    // Mengembalikan waktu simulasi ke nol (digunakan saat memulai sesi baru).
+    public synchronized void reset() {
+        tickCount = 0;
+        pendingSteps = 0;
+        paused = false;
+    }
+
+    // Menjeda dan melanjutkan waktu simulasi.
+    public void pause() { paused = true; }
+    public synchronized void resume() {
+        paused = false;
+        pendingSteps = 0;
+    }
+    public boolean isPaused() { return paused; }
+
+    // Meminta sejumlah tick dijalankan secara manual saat jam sedang dijeda.
+    public synchronized void step(int ticks) {
+        if (paused && ticks > 0) pendingSteps += ticks;
+    }
+
+    // Mengambil satu permintaan tick manual (dipanggil oleh GameLoop). Mengembalikan true jika ada.
+    public synchronized boolean consumeStep() {
+        if (pendingSteps <= 0) return false;
+        pendingSteps--;
+        return true;
+    }
+
+    // Mengatur skala waktu; nilai di luar rentang wajar dibatasi.
+    public void setTimeScale(double scale) {
+        this.timeScale = Math.max(0.05, Math.min(16.0, scale));
+    }
+
+    // Kumpulan getter.
+    public double getTimeScale() { return timeScale; }
+    public long getTickCount() { return tickCount; }
+    public long getTickDurationNs() { return tickDurationNs; }
+}
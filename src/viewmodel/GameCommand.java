@@ -0,0 +1,56 @@
+package viewmodel;
+
+// Kelas ini merepresentasikan satu perintah input untuk GameSession (gerak, tembak, atau struggle).
+// Perintah dibuat oleh sumber input mana pun (keyboard, mouse, bot, skrip) lalu diantrikan ke sesi,
+// dan baru dijalankan di awal tick simulasi berikutnya pada thread simulasi.
+public final class GameCommand {
+    // Jenis-jenis perintah yang dikenali sesi.
+    public enum Type { MOVE, STOP_MOVING, FIRE, STRUGGLE }
+
+    // Arah gerak pemain.
+    public enum Direction { UP, DOWN, LEFT, RIGHT }
+
+    private final Type type;
+    private final Direction direction; // Untuk MOVE.
+    private final boolean pressed;     // Untuk MOVE: true = mulai bergerak, false = berhenti.
+    private final float x, y;          // Untuk FIRE: koordinat target.
+    private final char key;            // Untuk STRUGGLE: 'Q' atau 'E'.
+
+    // Konstruktor privat; gunakan metode pabrik di bawah.
+    private GameCommand(Type type, Direction direction, boolean pressed, float x, float y, char key) {
+        this.type = type;
+        this.direction = direction;
+        this.pressed = pressed;
+        this.x = x;
+        this.y = y;
+        this.key = key;
+    }
+
+    // Perintah mulai/berhenti bergerak ke satu arah.
+    public static GameCommand move(Direction direction, boolean pressed) {
+        return new GameCommand(Type.MOVE, direction, pressed, 0, 0, '\0');
+    }
+
+    // Perintah berhenti bergerak ke semua arah.
+    public static GameCommand stopMoving() {
+        return new GameCommand(Type.STOP_MOVING, null, false, 0, 0, '\0');
+    }
+
+    // Perintah menembakkan harpun ke koordinat tertentu.
+    public static GameCommand fire(float targetX, float targetY) {
+        return new GameCommand(Type.FIRE, null, false, targetX, targetY, '\0');
+    }
+
+    // Perintah menekan tombol struggle ('Q' atau 'E').
+    public static GameCommand struggle(char key) {
+        return new GameCommand(Type.STRUGGLE, null, false, 0, 0, Character.toUpperCase(key));
+    }
+
+    // Kumpulan getter.
+    public Type getType() { return type; }
+    public Direction getDirection() { return direction; }
+    public boolean isPressed() { return pressed; }
+    public float getX() { return x; }
+    public float getY() { return y; }
+    public char getKey() { return key; }
+}
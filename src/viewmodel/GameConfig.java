@@ -0,0 +1,155 @@
+package viewmodel;
+
+// Kelas ini menyimpan pilihan konfigurasi yang ditentukan saat aplikasi dijalankan (argumen command-line).
+public class GameConfig {
+    // Pilihan backend render untuk layar permainan.
+    public enum RenderBackend {
+        SWING,  // JPanel + repaint() (jalur Swing standar).
+        ACTIVE  // Canvas + BufferStrategy (active rendering dengan page flipping).
+    }
+
+    private static RenderBackend renderBackend = RenderBackend.SWING;
+    // Tier kualitas grafis yang dikunci; null = diatur otomatis oleh QualityGovernor.
+    private static QualityGovernor.QualityTier fixedQualityTier = null;
+    // Mode headless: jalankan simulasi tanpa tampilan sebanyak 'headlessTicks' tick lalu keluar.
+    private static boolean headless = false;
+    private static long headlessTicks = 100_000;
+    // Mode balancing: jalankan banyak sesi paralel dengan pemain otomatis lalu tulis laporan.
+    private static boolean balance = false;
+    private static int balanceSessions = 200;
+    private static int threads = Runtime.getRuntime().availableProcessors();
+    private static String reportPath = "balance-report.txt";
+    // Nama micro-benchmark yang dijalankan (argumen --bench), atau null.
+    private static String benchmark = null;
+    // Nama bot (PlayerPolicy) yang mengendalikan pemain; null = dikendalikan keyboard/mouse.
+    private static String botName = null;
+    // Jumlah entitas minimum untuk update paralel (argumen --parallel-threshold).
+    private static int parallelThreshold = Constants.PARALLEL_UPDATE_THRESHOLD;
+    // Skenario akuarium (argumen --aquarium=N): jumlah entitas (0 = tidak aktif) dan lama skenario dalam detik.
+    // --aquarium tanpa angka memakai DEFAULT_AQUARIUM_POPULATION.
+    private static final int DEFAULT_AQUARIUM_POPULATION = 10_000;
+    private static int aquariumPopulation = 0;
+    private static int aquariumDurationSeconds = 30;
+    // Skala waktu simulasi terhadap waktu nyata (argumen --time-scale, 1 = normal). Di mode headless, skala
+    // yang diatur membuat tick dijalankan dengan laju waktu nyata dikali skala, bukan secepat mungkin.
+    private static double timeScale = 1.0;
+    private static boolean timeScaleSet = false;
+    // Seed untuk semua keacakan gameplay; tanpa --seed diambil dari waktu sistem (dicetak agar bisa diulang).
+    private static long seed = System.nanoTime();
+
+    // Membaca argumen command-line dan mengisi konfigurasi. Argumen yang tidak dikenal diabaikan.
+    public static void parseArgs(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--renderer=")) {
+                String value = arg.substring("--renderer=".length());
+                try {
+                    renderBackend = RenderBackend.valueOf(value.toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Renderer tidak dikenal: " + value + " (gunakan 'swing' atau 'active').");
+                }
+            } else if (arg.startsWith("--quality=")) {
+                String value = arg.substring("--quality=".length());
+                try {
+                    fixedQualityTier = value.equalsIgnoreCase("auto") ? null : QualityGovernor.QualityTier.valueOf(value.toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Kualitas tidak dikenal: " + value + " (gunakan auto/high/medium/low/minimal).");
+                }
+            } else if (arg.equals("--headless")) {
+                headless = true;
+            } else if (arg.equals("--balance")) {
+                balance = true;
+            } else if (arg.startsWith("--sessions=")) {
+                balanceSessions = Math.max(1, parseInt(arg.substring("--sessions=".length()), balanceSessions));
+            } else if (arg.startsWith("--threads=")) {
+                threads = Math.max(1, parseInt(arg.substring("--threads=".length()), threads));
+            } else if (arg.startsWith("--report=")) {
+                reportPath = arg.substring("--report=".length());
+            } else if (arg.startsWith("--bench=")) {
+                benchmark = arg.substring("--bench=".length());
+            } else if (arg.startsWith("--bot=")) {
+                String value = arg.substring("--bot=".length());
+                if (PlayerPolicy.create(value) != null) {
+                    botName = value;
+                } else {
+                    System.err.println("Bot tidak dikenal: " + value + " (gunakan greedy/avoid/scripted).");
+                }
+            } else if (arg.startsWith("--seed=")) {
+                String value = arg.substring("--seed=".length());
+                try {
+                    seed = Long.parseLong(value);
+                } catch (NumberFormatException e) {
+                    System.err.println("Seed tidak valid: " + value);
+                }
+            } else if (arg.startsWith("--parallel-threshold=")) {
+                parallelThreshold = Math.max(1, parseInt(arg.substring("--parallel-threshold=".length()), parallelThreshold));
+            } else if (arg.equals("--aquarium")) {
+                aquariumPopulation = DEFAULT_AQUARIUM_POPULATION;
+            } else if (arg.startsWith("--aquarium=")) {
+                aquariumPopulation = Math.max(0, parseInt(arg.substring("--aquarium=".length()), aquariumPopulation));
+            } else if (arg.startsWith("--duration=")) {
+                aquariumDurationSeconds = Math.max(1, parseInt(arg.substring("--duration=".length()), aquariumDurationSeconds));
+            } else if (arg.startsWith("--time-scale=")) {
+                String value = arg.substring("--time-scale=".length());
+                try {
+                    timeScale = Double.parseDouble(value);
+                    timeScaleSet = timeScale > 0;
+                    if (!timeScaleSet) {
+                        System.err.println("Skala waktu harus lebih dari 0: " + value);
+                        timeScale = 1.0;
+                    }
+                } catch (NumberFormatException e) {
+                    System.err.println("Skala waktu tidak valid: " + value);
+                }
+            } else if (arg.startsWith("--ticks=")) {
+                String value = arg.substring("--ticks=".length());
+                try {
+                    headlessTicks = Math.max(1, Long.parseLong(value));
+                } catch (NumberFormatException e) {
+                    System.err.println("Jumlah tick tidak valid: " + value);
+                }
+            }
+        }
+        if (!headless && !balance && benchmark == null) System.out.println("Renderer: " + renderBackend.name().toLowerCase());
+    }
+
+    // Getter untuk backend render yang dipilih.
+    public static RenderBackend getRenderBackend() { return renderBackend; }
+    // Getter untuk tier kualitas yang dikunci (null jika otomatis).
+    public static QualityGovernor.QualityTier getFixedQualityTier() { return fixedQualityTier; }
+    // Membaca angka dari argumen, atau nilai default jika tidak valid.
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            System.err.println("Angka tidak valid: " + value);
+            return defaultValue;
+        }
+    }
+
+    // Getter untuk mode headless.
+    public static boolean isHeadless() { return headless; }
+    public static long getHeadlessTicks() { return headlessTicks; }
+    // Getter untuk mode balancing.
+    public static boolean isBalance() { return balance; }
+    public static int getBalanceSessions() { return balanceSessions; }
+    public static int getThreads() { return threads; }
+    public static String getReportPath() { return reportPath; }
+    // Membuat bot baru sesuai argumen --bot (satu instance per sesi), atau null jika tidak ada bot.
+    public static PlayerPolicy createBotPolicy() { return botName == null ? null : PlayerPolicy.create(botName); }
+    public static String getBotName() { return botName; }
+    // Getter untuk nama benchmark (null jika tidak ada).
+    public static String getBenchmark() { return benchmark; }
+    // Getter untuk batas jumlah entitas update paralel.
+    public static int getParallelThreshold() { return parallelThreshold; }
+    // Getter untuk skenario akuarium.
+    public static boolean isAquarium() { return aquariumPopulation > 0; }
+    // Membuat skenario akuarium baru sesuai argumen --aquarium dan --duration, atau null jika tidak aktif.
+    public static AquariumScenario createAquariumScenario() {
+        return isAquarium() ? new AquariumScenario(aquariumPopulation, aquariumDurationSeconds) : null;
+    }
+    // Getter untuk skala waktu simulasi, dan apakah skala diatur lewat argumen.
+    public static double getTimeScale() { return timeScale; }
+    public static boolean isTimeScaleSet() { return timeScaleSet; }
+    // Getter untuk seed keacakan gameplay.
+    public static long getSeed() { return seed; }
+}
@@ -1,490 +1,269 @@
 package viewmodel;
 
-import java.awt.Graphics;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
-import java.awt.event.KeyEvent;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
-import javax.swing.Timer;
 import model.*;
-import view.GamePanel;
+import view.GameSurface;
 import view.MenuScreen;
 
-// Kelas ini adalah otak dari seluruh permainan, mengelola state, game loop, dan interaksi antar objek.
-public class GameLogic implements ActionListener {
-    // Enum untuk merepresentasikan semua kemungkinan state dalam permainan (State Machine).
-    public enum GameState {
-        MENU, PLAYING,
-        HARPOON_FIRED,
-        STRUGGLING,
-        FISH_MOVING_TO_JAR,
-        GAME_OVER
-    }
+// Kelas ini adalah adapter Swing di atas GameSession: menghubungkan sesi dengan game loop, permukaan render,
+// input, suara, database, dan perpindahan layar. Aturan permainannya sendiri ada di GameSession.
+// Simulasi berjalan di thread GameLoop, sedangkan input dan render berjalan di EDT,
+// sehingga semua metode yang membaca/mengubah state sesi disinkronkan pada instance ini. Render tidak memegang
+// lock ini: setiap tick mengisi dan menerbitkan RenderSnapshot (lihat RenderSnapshot.Builder), dan render serta HUD
+// hanya membaca snapshot tersebut.
+public class GameLogic implements PowerManager.Listener, GameSession.Listener {
+    // Thread tunggal untuk menulis skor ke database, agar koneksi yang lambat atau dicoba ulang tidak menahan
+    // game loop dan render. Tugas berjalan berurutan, jadi menu (yang membaca skor) dibuka setelah skor tersimpan.
+    private static final ExecutorService DATABASE_WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "DatabaseWriter");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     // Komponen utama View dan game loop
-    private GamePanel gamePanel;
-    private Timer gameTimerLoop; // Timer utama yang menjalankan game (sekitar 60 FPS).
-
-    // Objek-objek utama dalam game (Model)
-    private Player player;
-    private Harpoon harpoon;
-    private Jar jar;
-    private EntityHandler entityHandler;
-    private List<Effect> activeEffects; // Daftar efek visual sementara (cth: ledakan).
-
-    // Variabel untuk state dan data permainan
-    private char nextStruggleKey;
-    private String currentUsername;
-    private String gameOverMessage;
-    private GameState currentState; // State permainan saat ini.
-    private Timer returnToMenuTimer; // Timer untuk penundaan layar game over.
-
-    // Variabel untuk waktu permainan
-    private int remainingTimeSeconds;
-    private Timer countdownTimer; // Timer yang berjalan setiap detik untuk mengurangi waktu.
-
-    // Variabel untuk mekanisme 'Struggle'
-    private int struggleBarValue;
-    private long struggleStartTimeMs;
-    private GameObject gameObjectInStruggle;
-
-    // Variabel untuk animasi ikan ke keranjang
-    private GameObject fishMovingToJar;
-    private float fishToJarSpeed = 25.0f;
-
-    // Konstruktor, menghubungkan GameLogic dengan GamePanel.
-    public GameLogic(GamePanel panel) {
-        this.gamePanel = panel;
-        this.gameTimerLoop = new Timer(1000 / 60, this); // Set timer untuk refresh ~60x per detik.
-        this.currentState = GameState.MENU; // State awal adalah menu.
+    private GameSurface gameSurface; // Permukaan render (GamePanel atau GameCanvas).
+    private GameLoop gameLoop; // Game loop dengan tick tetap yang berjalan di thread tersendiri.
+    private final GameSession session; // Inti aturan permainan (headless).
+    private final QualityGovernor qualityGovernor; // Pengatur kualitas grafis berdasarkan waktu frame.
+    private final int normalFramesPerSecond; // Laju render saat window aktif.
+    private boolean autoPaused; // true jika jeda saat ini dipicu oleh mode hemat daya, bukan oleh pemain.
+    private GameScheduler.ScheduledTask returnToMenuTask; // Tugas penundaan layar game over.
+    private PlayerPolicy bot; // Bot yang ikut mengendalikan pemain (argumen --bot), atau null.
+    private final AquariumScenario aquarium; // Skenario uji beban (argumen --aquarium), atau null.
+    private final RenderSnapshot.Builder renderSnapshots = new RenderSnapshot.Builder(); // Diisi di bawah lock.
+
+    // Konstruktor, menghubungkan GameLogic dengan permukaan render (GamePanel atau GameCanvas).
+    public GameLogic(GameSurface surface) {
+        this.gameSurface = surface;
+        this.aquarium = GameConfig.createAquariumScenario();
+        this.session = aquarium == null ? new GameSession(this)
+                : new GameSession(this, aquarium.getRules(), new GameRandom(GameConfig.getSeed()));
+        // Simulasi berjalan TICKS_PER_SECOND kali per detik, render mengikuti refresh rate layar.
+        this.normalFramesPerSecond = GameLoop.detectDisplayRefreshRate();
+        this.qualityGovernor = new QualityGovernor(normalFramesPerSecond, GameConfig.getFixedQualityTier());
+        this.gameLoop = new GameLoop(session.getClock(), normalFramesPerSecond,
+                                     this::tick, surface::presentFrame);
     }
 
-    // Menyiapkan semua objek yang diperlukan untuk sesi permainan baru.
-    private void initializeGameEntities() {
-        // Inisialisasi Player dengan semua properti animasinya.
-        player = new Player(
-            Constants.PLAYER_START_X, Constants.PLAYER_START_Y,
-            Constants.PLAYER_WIDTH, Constants.PLAYER_HEIGHT,
-            Constants.PLAYER_INITIAL_HEARTS,
-            "/assets/images/player-idle.png", "/assets/images/player-swiming.png", "/assets/images/player-hurt.png",
-            80, 80, 6, 7, 5, 120, 100
-        );
-
-        // Inisialisasi objek-objek lain yang bergantung pada Player atau posisi default.
-        harpoon = new Harpoon(player);
-        jar = new Jar(Constants.JAR_X, Constants.JAR_Y, Constants.JAR_WIDTH, Constants.JAR_HEIGHT, "/assets/images/barrel.png");
-        jar.reset(); // Mengosongkan keranjang.
-
-        entityHandler = new EntityHandler();
-        entityHandler.reset(); // Mengosongkan daftar entitas.
-        
-        activeEffects = new ArrayList<>();
-
-        // Reset semua variabel state permainan ke nilai awal.
-        gameObjectInStruggle = null;
-        fishMovingToJar = null;
-        remainingTimeSeconds = Constants.INITIAL_GAME_TIME_SECONDS;
-        struggleBarValue = 0;
-    }
-    
     // Metode ini dipanggil dari luar (MenuScreen) untuk memulai permainan.
-    public void startGame(String username) {
-        this.currentUsername = username;
-        initializeGameEntities(); // Buat dan reset semua objek game.
-        currentState = GameState.PLAYING; // Ubah state menjadi PLAYING.
-        
-        // Setup dan mulai timer untuk hitung mundur waktu permainan.
-        if (countdownTimer != null && countdownTimer.isRunning()) {
-            countdownTimer.stop();
-        }
-        countdownTimer = new Timer(1000, e -> { // Timer ini berjalan setiap 1 detik.
-            // Kurangi waktu hanya jika game sedang berjalan aktif.
-            if (currentState != GameState.GAME_OVER && currentState != GameState.MENU && currentState != GameState.FISH_MOVING_TO_JAR) {
-                remainingTimeSeconds--;
-                if (remainingTimeSeconds <= 0) {
-                    remainingTimeSeconds = 0;
-                    triggerGameOver("Waktu Habis!"); // Akhiri permainan jika waktu habis.
-                }
-            }
-        });
-        countdownTimer.start();
+    public synchronized void startGame(String username) {
+        session.start(username);
+        session.getClock().setTimeScale(GameConfig.getTimeScale()); // Argumen --time-scale (1 = normal).
+        bot = GameConfig.createBotPolicy(); // Beban permainan yang bisa diulang untuk benchmark waktu frame dan soak test.
+        if (aquarium != null) aquarium.begin(session);
+        renderSnapshots.capture(session);
 
         // Mulai game loop utama jika belum berjalan.
-        if (!gameTimerLoop.isRunning()) {
-            gameTimerLoop.start();
+        if (!gameLoop.isRunning()) {
+            gameLoop.start();
         }
-        gamePanel.requestFocusInWindow(); // Minta fokus agar input keyboard bisa diterima.
+        gameSurface.getComponent().requestFocusInWindow(); // Minta fokus agar input keyboard bisa diterima.
     }
 
-    // Metode ini adalah jantung dari game loop, dipanggil oleh gameTimerLoop.
-    @Override
-    public void actionPerformed(ActionEvent e) {
-        // Logika utama State Machine: jalankan metode update yang sesuai dengan state saat ini.
-        if (currentState == GameState.PLAYING) {
-            updatePlayingState();
-            checkPlayerGhostCollision();
-        } else if (currentState == GameState.HARPOON_FIRED) {
-            updateHarpoonFiredState();
-        } else if (currentState == GameState.STRUGGLING) {
-            updateStrugglingState();
-        } else if (currentState == GameState.FISH_MOVING_TO_JAR) {
-            updateFishMovingToJarState();
-        }
-        
-        updateEffects(); // Selalu update efek visual seperti ledakan.
-
-        // Memicu penggambaran ulang layar jika tidak di menu.
-        if (currentState != GameState.MENU) {
-            gamePanel.repaint();
+    // Dipanggil oleh GameLoop tepat sekali per tick simulasi.
+    private synchronized void tick() {
+        long tickStart = System.nanoTime();
+        if (aquarium != null) {
+            if (aquarium.isFinished()) {
+                finishAquarium();
+                return;
+            }
+            aquarium.beforeTick(session);
         }
+        // Terapkan batas kepadatan spawn dari tier kualitas saat ini.
+        session.setSpawnDensity(qualityGovernor.getCurrentTier().spawnDensity);
+        if (bot != null && !session.getClock().isPaused()) bot.act(session);
+        session.tick();
+        renderSnapshots.capture(session); // Terbitkan state render tick ini untuk thread render.
+        if (aquarium != null) aquarium.recordTick(System.nanoTime() - tickStart);
     }
 
-    // Update logika saat state normal (bermain).
-    private void updatePlayingState() {
-        player.update();
-        entityHandler.updateEntities();
-    }
-
-    // Update logika saat harpun sudah ditembakkan.
-    private void updateHarpoonFiredState() {
-        player.update();
-        harpoon.update();
-        entityHandler.updateEntities();
-
-        // Jika harpun belum mengenai apa-apa, cek tabrakan dengan ikan.
-        if (harpoon.getHookedObject() == null) {
-            List<GameObject> entities = entityHandler.getEntities();
-            for (GameObject entity : entities) {
-                if (entity instanceof Fish) {
-                    if (harpoon.getTipCollisionBox().intersects(entity.getCollisionBox())) {
-                        harpoon.hookObject(entity); // Kaitkan ikan pertama yang kena.
-                        break;
-                    }
-                }
-            }
-            // Jika harpun sudah tidak bergerak (misal, mencapai batas), kembali ke state PLAYING.
-            if (!harpoon.isFiring()) {
-                currentState = GameState.PLAYING;
-                if (player != null) player.resetMovementFlags();
-            }
-        } else { // Jika harpun sudah mengait ikan...
-            // ...cek apakah ikan yang dikait sudah ditarik sampai ke player.
-            if (player.getCollisionBox().intersects(harpoon.getHookedObject().getCollisionBox())) {
-                startStruggle(harpoon.getHookedObject()); // Mulai mini-game struggle.
+    // Mengakhiri skenario akuarium: cetak laporan, hentikan loop, lalu tutup aplikasi
+    // (permukaan render mencetak statistik waktu frame-nya saat window ditutup).
+    private void finishAquarium() {
+        System.out.println(aquarium.report(session));
+        gameLoop.stop();
+        session.end();
+        SoundManager.stopBGM();
+        SwingUtilities.invokeLater(() -> {
+            JFrame currentFrame = (JFrame) SwingUtilities.getWindowAncestor(gameSurface.getComponent());
+            if (currentFrame != null) {
+                currentFrame.dispose();
             }
-        }
-    }
-    
-    // Menyiapkan semua variabel untuk memulai mini-game struggle.
-    private void startStruggle(GameObject caughtEntity) {
-        if (player != null) player.resetMovementFlags();
-        currentState = GameState.STRUGGLING; // Ubah state.
-        this.gameObjectInStruggle = caughtEntity;
-        this.fishMovingToJar = null;
-        this.struggleBarValue = 0; // Reset progress bar struggle.
-        this.struggleStartTimeMs = System.currentTimeMillis(); // Catat waktu mulai.
-        this.nextStruggleKey = 'Q'; // Tentukan tombol pertama yang harus ditekan.
+            System.exit(0);
+        });
     }
 
-    // Update logika saat state 'struggle'.
-    private void updateStrugglingState() {
-        // Jika waktu struggle sudah habis, gagalkan tangkapan.
-        if (System.currentTimeMillis() - struggleStartTimeMs > Constants.STRUGGLE_TIME_LIMIT_MS) {
-            failStruggle();
-        }
+    // Menghentikan game loop dan menunggu thread-nya selesai. Dipanggil oleh permukaan render sebelum sumber daya
+    // render-nya dibuang (tanpa memegang lock GameLogic, agar tick yang sedang berjalan bisa selesai).
+    public void stopGameLoop() {
+        gameLoop.stopAndJoin();
     }
 
-    // Update logika saat ikan yang berhasil ditangkap sedang bergerak ke keranjang.
-    private void updateFishMovingToJarState() {
-        if (fishMovingToJar == null || jar == null) {
-            currentState = GameState.PLAYING; // Kembali ke state normal jika ada error.
-            if (player != null) player.resetMovementFlags();
-            return;
-        }
-
-        // Tentukan koordinat target di dekat keranjang.
-        float targetX = jar.getX() + jar.getWidth() / 2f - fishMovingToJar.getWidth() / 2f;
-        float targetY = jar.getY() + jar.getHeight() / 4f - fishMovingToJar.getHeight() / 2f;
-        float currentX = fishMovingToJar.getX();
-        float currentY = fishMovingToJar.getY();
-
-        // Hitung jarak dan arah gerakan.
-        float dx = targetX - currentX;
-        float dy = targetY - currentY;
-        double distance = Math.sqrt(dx * dx + dy * dy);
-
-        // Jika sudah sampai di target...
-        if (distance < fishToJarSpeed) {
-            if (fishMovingToJar instanceof Fish) {
-                jar.addToJar((Fish) fishMovingToJar); // Tambahkan ikan ke keranjang.
-                remainingTimeSeconds += Constants.TIME_BONUS_PER_CATCH_SECONDS; // Tambah bonus waktu.
-                SoundManager.playSound("catch"); // Mainkan suara tangkapan.
-            }
-            fishMovingToJar = null;
-            currentState = GameState.PLAYING; // Kembali ke state normal.
-            if (player != null) player.resetMovementFlags();
-        } else { // Jika belum sampai, gerakkan ikan menuju target.
-            float moveX = (dx / (float)distance) * fishToJarSpeed;
-            float moveY = (dy / (float)distance) * fishToJarSpeed;
-            fishMovingToJar.setX(currentX + moveX);
-            fishMovingToJar.setY(currentY + moveY);
-            fishMovingToJar.update();
-        }
-
-        // Tetap update player dan entitas lain agar dunia game tetap hidup.
-        if (player != null) player.update();
-        entityHandler.updateEntities();
+    // Meneruskan input ke sesi; perintah dijalankan pada tick berikutnya.
+    public void submitCommand(GameCommand command) {
+        session.submit(command);
     }
 
-    // Handler untuk input tembak dari InputHandler.
-    public void handlePlayerFireHarpoon(float targetX, float targetY) {
-        // Hanya bisa menembak saat state PLAYING dan harpun tidak sedang ditembakkan.
-        if (currentState == GameState.PLAYING && !harpoon.isFiring()) {
-            harpoon.fire(targetX, targetY);
-            currentState = GameState.HARPOON_FIRED;
-        }
-    }
-    
     // Handler untuk input spasi dari InputHandler (jeda permainan).
     public void handleSpaceBarPress() {
-        if (currentState == GameState.PLAYING) {
+        if (session.getCurrentState() == GameSession.GameState.PLAYING) {
             showPauseConfirmation();
         }
     }
 
-    // Handler untuk input 'Esc' dari InputHandler (keluar ke menu).
-    public void handleEscapeKeyPress() {
-        if (currentState == GameState.PLAYING ||
-            currentState == GameState.HARPOON_FIRED ||
-            currentState == GameState.STRUGGLING ||
-            currentState == GameState.FISH_MOVING_TO_JAR) {
-            returnToMenu(true);
+    // Handler untuk tombol kontrol waktu (untuk debugging): menjeda/melanjutkan simulasi tanpa dialog.
+    public synchronized void toggleTimePause() {
+        GameClock clock = session.getClock();
+        autoPaused = false; // Jeda ini milik pemain; fokus window kembali tidak boleh melanjutkannya.
+        if (clock.isPaused()) {
+            clock.resume();
+        } else {
+            clock.pause();
         }
     }
-    
-    // Handler untuk input 'Q' & 'E' saat struggle.
-    public void handleStruggleKeyPress(int keyCode) {
-        if (currentState != GameState.STRUGGLING) return; // Hanya proses jika state-nya STRUGGLING.
 
-        // Cek apakah tombol yang ditekan sesuai dengan urutan (Q lalu E lalu Q dst.).
-        if (keyCode == KeyEvent.VK_Q && nextStruggleKey == 'Q') {
-            performStruggleAction();
-            nextStruggleKey = 'E'; // Tombol berikutnya adalah E.
-        } else if (keyCode == KeyEvent.VK_E && nextStruggleKey == 'E') {
-            performStruggleAction();
-            nextStruggleKey = 'Q'; // Tombol berikutnya adalah Q.
-        }
+    // Handler untuk tombol kontrol waktu: menjalankan satu tick saat simulasi sedang dijeda.
+    public void stepOneTick() {
+        session.getClock().step(1);
     }
 
-    // Logika jika berhasil memenangkan struggle.
-    private void succeedStruggle() {
-        if (gameObjectInStruggle != null && gameObjectInStruggle instanceof Fish) {
-            entityHandler.removeEntity(gameObjectInStruggle); // Hapus ikan dari daftar entitas aktif.
-            
-            this.fishMovingToJar = gameObjectInStruggle; // Set ikan ini untuk dianimasikan ke keranjang.
-            this.gameObjectInStruggle = null;
-            currentState = GameState.FISH_MOVING_TO_JAR; // Ganti state.
-        } else {
-            currentState = GameState.PLAYING;
-            if (player != null) player.resetMovementFlags();
-        }
-        harpoon.finishAttempt(); // Reset status harpun.
+    // Handler untuk tombol kontrol waktu: mengalikan skala waktu simulasi dengan 'factor' (misal: 0.5 atau 2).
+    public void multiplyTimeScale(double factor) {
+        GameClock clock = session.getClock();
+        clock.setTimeScale(clock.getTimeScale() * factor);
+        System.out.println("Skala waktu: " + clock.getTimeScale() + "x");
     }
 
-    // Logika jika gagal dalam struggle (waktu habis atau salah pencet).
-    private void failStruggle() {
-        // Mainkan suara yang berbeda jika ini adalah pukulan terakhir yang membuat kalah.
-        if (player.getHearts() > 1) {
-            SoundManager.playSound("hit");
-        } else {
-            SoundManager.playSound("fail");
-        }
-
-        player.loseHeart(); // Kurangi nyawa player.
-        player.playHurtAnimation(); // Mainkan animasi 'terluka'.
-
-        // Buat efek visual 'hit' di posisi player.
-        Effect hitEffect = new Effect(
-            player.getX() + (player.getWidth() / 2f) - (64 / 2f),
-            player.getY() + (player.getHeight() / 2f) - (64 / 2f),
-            64, 64, "/assets/images/hit.png", 31, 32, 3, 100
-        );
-        activeEffects.add(hitEffect);
-
-        // Reset semua status terkait struggle dan harpun.
-        harpoon.finishAttempt();
-        gameObjectInStruggle = null;
-        currentState = GameState.PLAYING;
-        if (player != null) player.resetMovementFlags();
-
-        // Jika nyawa habis, picu game over.
-        if (player.getHearts() <= 0) {
-            triggerGameOver("Nyawa Habis!");
+    // Handler untuk input 'Esc' dari InputHandler (keluar ke menu).
+    public synchronized void handleEscapeKeyPress() {
+        GameSession.GameState state = session.getCurrentState();
+        if (state == GameSession.GameState.PLAYING ||
+            state == GameSession.GameState.HARPOON_FIRED ||
+            state == GameSession.GameState.STRUGGLING ||
+            state == GameSession.GameState.FISH_MOVING_TO_JAR) {
+            returnToMenu(true);
         }
     }
 
-    // Cek tabrakan antara player dan hantu.
-    private void checkPlayerGhostCollision() {
-        if (player == null || entityHandler == null || currentState != GameState.PLAYING) return;
-        List<GameObject> currentEntities = new ArrayList<>(entityHandler.getEntities());
-
-        for (GameObject entity : currentEntities) {
-            if (entity instanceof Ghost) {
-                if (player.getCollisionBox().intersects(entity.getCollisionBox())) {
-                    // Logika yang sama seperti failStruggle: kurangi nyawa, mainkan suara/animasi/efek.
-                    if (player.getHearts() > 1) {
-                        SoundManager.playSound("hit");
-                    } else {
-                        SoundManager.playSound("fail");
-                    }
-
-                    player.loseHeart();
-                    player.playHurtAnimation();
-
-                    Effect hitEffect = new Effect(
-                        player.getX() + (player.getWidth() / 2f) - (64 / 2f),
-                        player.getY() + (player.getHeight() / 2f) - (64 / 2f),
-                        64, 64, "/assets/images/hit.png", 31, 32, 3, 100
-                    );
-                    activeEffects.add(hitEffect);
-
-                    entityHandler.removeEntity(entity); // Hapus hantu yang menabrak.
-                    if (player.getHearts() <= 0) {
-                        triggerGameOver("Nyawa Habis karena Hantu!");
-                    }
-                    break; // Keluar dari loop setelah satu tabrakan diproses.
-                }
-            }
-        }
+    // Dipanggil oleh sesi untuk memainkan efek suara.
+    @Override
+    public void onSound(String name) {
+        SoundManager.playSound(name);
     }
-    
-    // Memicu akhir permainan.
-    private void triggerGameOver(String message) {
-        if (currentState == GameState.GAME_OVER) return; // Hindari memicu game over berkali-kali.
-
-        currentState = GameState.GAME_OVER;
-        this.gameOverMessage = message;
 
-        if (player != null) player.resetMovementFlags();
-        
-        // Hentikan semua timer dan musik.
-        gameTimerLoop.stop();
-        if (countdownTimer != null) countdownTimer.stop();
+    // Dipanggil oleh sesi saat permainan berakhir (di dalam tick, lock sudah dipegang).
+    @Override
+    public void onGameOver(String message) {
         SoundManager.stopBGM();
-        SoundManager.playSound("fail");
-
         saveGameResult(); // Simpan skor ke database.
-        gamePanel.repaint(); // Gambar ulang layar untuk menampilkan UI game over.
 
-        // Atur timer untuk kembali ke menu secara otomatis setelah beberapa detik.
-        returnToMenuTimer = new Timer(5000, e -> returnToMenu(false));
-        returnToMenuTimer.setRepeats(false);
-        returnToMenuTimer.start();
+        // Game loop tetap berjalan untuk menggambar layar game over; kembali ke menu setelah beberapa detik waktu game.
+        returnToMenuTask = session.getScheduler().schedule(5000, () -> returnToMenu(false));
     }
 
     // Metode untuk melewati penundaan layar game over (dipanggil oleh InputHandler).
-    public void skipGameOverDelay() {
-        if (currentState == GameState.GAME_OVER && returnToMenuTimer != null && returnToMenuTimer.isRunning()) {
-            returnToMenuTimer.stop(); // Hentikan timer penunda.
-            returnToMenu(false);      // Langsung kembali ke menu.
+    public synchronized void skipGameOverDelay() {
+        if (session.getCurrentState() == GameSession.GameState.GAME_OVER && returnToMenuTask != null && !returnToMenuTask.isCancelled()) {
+            returnToMenuTask.cancel(); // Batalkan tugas penunda.
+            returnToMenu(false);       // Langsung kembali ke menu.
         }
     }
 
-    // Menyimpan hasil permainan ke database.
+    // Menyimpan hasil permainan ke database. Skor dibaca sekarang, penulisannya dijalankan di thread DatabaseWriter.
     private void saveGameResult() {
-        if (currentUsername != null && !currentUsername.isEmpty() && jar != null) {
-            // Gunakan try-with-resources agar koneksi database otomatis ditutup.
-            try (TableHasil th = new TableHasil()) {
-                GameData gameData = new GameData(currentUsername, jar.getTotalScore(), jar.getCollectedCount());
-                th.insertOrUpdateHasil(gameData); // Panggil metode untuk insert/update skor.
-            } catch (Exception ex) {
-                System.err.println("Error saat menyimpan skor: " + ex.getMessage());
-                ex.printStackTrace();
-            }
+        String username = session.getUsername();
+        Jar jar = session.getJar();
+        if (username != null && !username.isEmpty() && jar != null) {
+            GameData gameData = new GameData(username, jar.getTotalScore(), jar.getCollectedCount());
+            DATABASE_WRITER.execute(() -> {
+                // Gunakan try-with-resources agar koneksi database otomatis ditutup.
+                try (TableHasil th = new TableHasil()) {
+                    th.insertOrUpdateHasil(gameData); // Panggil metode untuk insert/update skor.
+                } catch (Exception ex) {
+                    System.err.println("Error saat menyimpan skor: " + ex.getMessage());
+                    ex.printStackTrace();
+                }
+            });
         }
     }
 
     // Membersihkan state saat ini dan kembali ke menu utama.
-    private void returnToMenu(boolean saveScoreOnManualQuit) {
+    private synchronized void returnToMenu(boolean saveScoreOnManualQuit) {
         // Simpan skor jika pemain keluar manual di tengah permainan.
-        if (saveScoreOnManualQuit && currentState != GameState.GAME_OVER) {
+        if (saveScoreOnManualQuit && session.getCurrentState() != GameSession.GameState.GAME_OVER) {
             saveGameResult();
         }
-        
+
         // Reset dan bersihkan semua objek dan state.
-        if (player != null) player.resetMovementFlags();
-        if (activeEffects != null) activeEffects.clear();
-        gameTimerLoop.stop();
-        if (countdownTimer != null) countdownTimer.stop();
-        currentState = GameState.MENU;
+        gameLoop.stop();
+        session.end();
         SoundManager.stopBGM();
 
-        // Tutup window game saat ini.
-        JFrame currentFrame = (JFrame) SwingUtilities.getWindowAncestor(gamePanel);
-        if (currentFrame != null) {
-            currentFrame.dispose();
-        }
-        // Buat dan tampilkan window menu yang baru.
-        SwingUtilities.invokeLater(() -> {
+        // Operasi window dijalankan di EDT karena metode ini juga bisa dipanggil dari thread game loop. Perpindahan
+        // diantrekan di belakang penulisan skor agar tabel skor di menu sudah memuat hasil permainan ini.
+        DATABASE_WRITER.execute(() -> SwingUtilities.invokeLater(() -> {
+            // Tutup window game saat ini.
+            JFrame currentFrame = (JFrame) SwingUtilities.getWindowAncestor(gameSurface.getComponent());
+            if (currentFrame != null) {
+                currentFrame.dispose();
+            }
+            // Buat dan tampilkan window menu yang baru.
             MenuScreen menu = new MenuScreen();
             menu.setVisible(true);
-        });
+        }));
     }
 
-    // Mendelegasikan tugas render ke semua objek yang perlu digambar.
-    public void renderGame(Graphics g) {
-        entityHandler.renderEntities(g);
-        player.render(g);
-        harpoon.render(g);
-        
-        // Render keranjang hanya pada state tertentu.
-        if (currentState == GameState.STRUGGLING || currentState == GameState.FISH_MOVING_TO_JAR) {
-            if (jar != null) jar.render(g);
-        }
-        
-        // Render ikan yang sedang di-struggle atau dianimasikan.
-        if (currentState == GameState.STRUGGLING && gameObjectInStruggle != null) {
-            gameObjectInStruggle.render(g);
-        } else if (currentState == GameState.FISH_MOVING_TO_JAR && fishMovingToJar != null) {
-            fishMovingToJar.render(g);
+    // Dipanggil oleh PowerManager saat window game kehilangan/mendapat fokus atau di-minimize.
+    // Permainan dijeda otomatis dan laju render diturunkan; saat window aktif lagi, semuanya dipulihkan.
+    @Override
+    public synchronized void onPowerStateChanged(PowerManager.PowerState state) {
+        GameClock clock = session.getClock();
+        if (state == PowerManager.PowerState.ACTIVE || state == PowerManager.PowerState.IDLE) {
+            gameLoop.setFramesPerSecond(normalFramesPerSecond);
+            if (autoPaused) {
+                autoPaused = false;
+                clock.resume();
+            }
+            return;
         }
 
-        // Render semua efek visual yang aktif.
-        for (Effect effect : activeEffects) {
-            effect.render(g);
+        gameLoop.setFramesPerSecond(state == PowerManager.PowerState.HIDDEN
+                ? Constants.HIDDEN_FRAMES_PER_SECOND
+                : Constants.UNFOCUSED_FRAMES_PER_SECOND);
+        // Layar game over tidak dijeda agar tetap kembali ke menu sesuai jadwal.
+        GameSession.GameState current = session.getCurrentState();
+        boolean inSession = current != GameSession.GameState.MENU && current != GameSession.GameState.GAME_OVER;
+        if (inSession && !clock.isPaused()) {
+            // Tombol yang dilepas di luar window tidak akan terdeteksi.
+            session.submit(GameCommand.stopMoving());
+            clock.pause();
+            autoPaused = true;
         }
     }
 
-    // Melakukan aksi saat struggle (menambah progress bar).
-    private void performStruggleAction() {
-        float tapEffectiveness = Constants.STRUGGLE_TAP_VALUE;
-        // Jika ikan punya faktor kesulitan, sesuaikan efektivitas tekanan tombol.
-        if (gameObjectInStruggle instanceof Fish) {
-            Fish strugglingFish = (Fish) gameObjectInStruggle;
-            if (strugglingFish.getStruggleFactor() > 0) {
-                tapEffectiveness /= strugglingFish.getStruggleFactor();
-            }
-        }
-        struggleBarValue += tapEffectiveness;
+    // Mengambil snapshot render tick terakhir untuk satu frame (tanpa lock, tidak menahan tick berikutnya).
+    // Hanya dipanggil dari thread render; seluruh frame (objek dan HUD) sebaiknya digambar dari snapshot yang sama.
+    public RenderSnapshot acquireRenderSnapshot() {
+        return renderSnapshots.acquire();
+    }
 
-        // Jika progress bar penuh, berhasil menangkap ikan.
-        if (struggleBarValue >= Constants.STRUGGLE_BAR_MAX_VALUE) {
-            succeedStruggle();
-        }
+    // Mengubah koordinat x layar (misal: klik mouse) menjadi koordinat x dunia sesuai posisi kamera.
+    public float toWorldX(float screenX) {
+        return renderSnapshots.getCameraX() + screenX;
     }
 
     // Menampilkan dialog konfirmasi saat permainan dijeda.
     private void showPauseConfirmation() {
-        gameTimerLoop.stop(); // Hentikan sementara game loop.
-        if (countdownTimer != null) countdownTimer.stop();
+        GameClock clock = session.getClock();
+        clock.pause(); // Bekukan waktu simulasi; hitung mundur dan semua event terjadwal ikut berhenti.
 
         int choice = JOptionPane.showConfirmDialog(
-            gamePanel, "Apakah Anda yakin ingin kembali ke Menu Utama?",
+            gameSurface.getComponent(), "Apakah Anda yakin ingin kembali ke Menu Utama?",
             "Jeda Permainan", JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE
         );
 
@@ -492,34 +271,17 @@ public class GameLogic implements ActionListener {
         if (choice == JOptionPane.YES_OPTION) {
             returnToMenu(true);
         } else { // Jika tidak, lanjutkan permainan.
-            gameTimerLoop.start();
-            if (countdownTimer != null) countdownTimer.start();
-            gamePanel.requestFocusInWindow();
-        }
-    }
-    
-    // Mengupdate dan membersihkan efek visual yang sudah selesai.
-    private void updateEffects() {
-        Iterator<Effect> iterator = activeEffects.iterator();
-        while (iterator.hasNext()) {
-            Effect effect = iterator.next();
-            effect.update();
-            if (effect.isFinished()) {
-                iterator.remove(); // Hapus efek dari daftar jika animasinya sudah selesai.
-            }
+            clock.resume();
+            gameSurface.getComponent().requestFocusInWindow();
         }
     }
 
-    // Getter untuk mendapatkan data yang dibutuhkan oleh kelas lain (misal: GamePanel untuk UI).
-    public long getStruggleStartTimeMs() { return struggleStartTimeMs; }
-    public Player getPlayer() { return player; }
-    public String getUsername() { return currentUsername; }
-    public String getGameOverMessage() { return gameOverMessage; }
-    public GameState getCurrentState() { return currentState; }
-    public int getRemainingTime() { return remainingTimeSeconds; }
-    public Jar getJar() { return jar; }
-    public float getStruggleProgress() {
-        if (currentState != GameState.STRUGGLING) return 0f;
-        return Math.min(1.0f, (float) struggleBarValue / Constants.STRUGGLE_BAR_MAX_VALUE);
-    }
-}
\ No newline at end of file
+    // Getter untuk mendapatkan data yang dibutuhkan oleh kelas lain (misal: GameRenderer untuk UI).
+    public float getInterpolationAlpha() { return gameLoop.getInterpolationAlpha(); }
+    public GameClock getClock() { return session.getClock(); }
+    public GameSession getSession() { return session; }
+    public QualityGovernor getQualityGovernor() { return qualityGovernor; }
+    public Player getPlayer() { return session.getPlayer(); }
+    public GameSession.GameState getCurrentState() { return session.getCurrentState(); }
+    public Jar getJar() { return session.getJar(); }
+}
@@ -0,0 +1,185 @@
+package viewmodel;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+
+// Kelas ini menjalankan game loop pada thread tersendiri dengan langkah simulasi tetap (fixed timestep).
+// Simulasi maju sesuai laju tick GameClock (dikali skala waktunya), sedangkan permintaan render mengikuti refresh rate layar.
+public class GameLoop implements Runnable {
+    // Batas waktu yang diproses per iterasi agar game tidak 'mengejar' terlalu jauh setelah thread tertahan.
+    private static final long MAX_FRAME_TIME_NS = 250_000_000L;
+    // Sisa waktu tunggu di bawah batas ini diisi dengan yield agar jadwal tetap presisi.
+    private static final long SPIN_THRESHOLD_NS = 2_000_000L;
+    // Saat dijeda, thread cukup bangun sesekali untuk mengecek tick manual (step) dan jadwal frame.
+    private static final long PAUSED_POLL_NS = 50_000_000L;
+    // Batas waktu menunggu thread loop selesai setelah dihentikan (misal: tick yang tertahan lock lain).
+    private static final long JOIN_TIMEOUT_MS = 1000L;
+
+    private final GameClock clock;         // Jam simulasi yang menentukan durasi tick, jeda, dan skala waktu.
+    private final Runnable simulationStep; // Dipanggil tepat satu kali untuk setiap tick simulasi.
+    private final Runnable frameRequest;   // Dipanggil setiap kali satu frame baru perlu digambar.
+    private final long tickDurationNs;
+    private volatile long frameDurationNs;
+    private volatile boolean frameRateChanged; // Jadwal frame berikutnya perlu dihitung ulang.
+
+    private volatile Thread loopThread;
+    private volatile Thread lastThread; // Thread terakhir yang dimulai, untuk ditunggu setelah stop().
+    private volatile boolean running;
+    // Waktu (nanoTime) yang bersesuaian dengan posisi tick terakhir di garis waktu simulasi.
+    private volatile long lastTickWallTimeNs;
+
+    // Konstruktor, menentukan jam simulasi, laju render, dan aksi yang dijalankan di setiap langkah.
+    public GameLoop(GameClock clock, int framesPerSecond, Runnable simulationStep, Runnable frameRequest) {
+        this.clock = clock;
+        this.tickDurationNs = clock.getTickDurationNs();
+        this.frameDurationNs = 1_000_000_000L / Math.max(1, framesPerSecond);
+        this.simulationStep = simulationStep;
+        this.frameRequest = frameRequest;
+    }
+
+    // Memulai thread game loop jika belum berjalan.
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        lastTickWallTimeNs = System.nanoTime();
+        Thread thread = new Thread(this, "GameLoop");
+        thread.setDaemon(true); // Thread tidak menahan JVM saat aplikasi ditutup.
+        loopThread = thread;
+        lastThread = thread;
+        thread.start();
+    }
+
+    // Menghentikan game loop. Aman dipanggil dari thread mana pun, termasuk dari dalam tick.
+    public synchronized void stop() {
+        running = false;
+        Thread thread = loopThread;
+        loopThread = null;
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt(); // Bangunkan thread jika sedang tidur.
+        }
+    }
+
+    // Menghentikan game loop lalu menunggu thread-nya benar-benar selesai (termasuk frame yang sedang digambar),
+    // misal sebelum permukaan render membuang BufferStrategy-nya. Jangan dipanggil sambil memegang lock yang
+    // dibutuhkan tick (misal: monitor GameLogic); dari dalam tick, metode ini sama dengan stop().
+    public void stopAndJoin() {
+        stop();
+        Thread thread = lastThread;
+        if (thread == null || thread == Thread.currentThread()) return;
+        try {
+            thread.join(JOIN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) System.err.println("Thread game loop belum berhenti setelah " + JOIN_TIMEOUT_MS + " ms.");
+    }
+
+    // Mengecek apakah game loop sedang berjalan.
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Mengubah laju render (misal: menyesuaikan monitor 120/144 Hz).
+    // Juga dipakai mode hemat daya untuk menurunkan laju render saat window tidak terlihat.
+    public void setFramesPerSecond(int framesPerSecond) {
+        long newDuration = 1_000_000_000L / Math.max(1, framesPerSecond);
+        if (newDuration == frameDurationNs) return;
+        this.frameDurationNs = newDuration;
+        this.frameRateChanged = true;
+        Thread thread = loopThread;
+        if (thread != null) thread.interrupt(); // Bangunkan thread agar laju baru langsung berlaku.
+    }
+
+    // Mengembalikan posisi render di antara dua state simulasi terakhir (0 = state lama, 1 = state terbaru).
+    public float getInterpolationAlpha() {
+        if (clock.isPaused()) return 1f; // Saat dijeda, tampilkan state terbaru tanpa interpolasi.
+        float alpha = (float) ((System.nanoTime() - lastTickWallTimeNs) * clock.getTimeScale() / tickDurationNs);
+        return Math.max(0f, Math.min(1f, alpha));
+    }
+
+    // Isi utama thread: akumulasi waktu nyata (dikali skala waktu), jalankan tick tetap, lalu minta frame sesuai jadwal render.
+    @Override
+    public void run() {
+        Thread self = Thread.currentThread();
+        long previousTime = System.nanoTime();
+        long accumulator = 0;
+        long nextFrameTime = previousTime;
+
+        while (running && loopThread == self) {
+            long now = System.nanoTime();
+            long elapsed = Math.min(now - previousTime, MAX_FRAME_TIME_NS);
+            previousTime = now;
+
+            if (clock.isPaused()) {
+                // Saat dijeda, waktu tidak diakumulasi; hanya tick manual (step) yang dijalankan.
+                accumulator = 0;
+                boolean stepped = false;
+                while (clock.consumeStep() && running && loopThread == self) {
+                    simulationStep.run();
+                    stepped = true;
+                }
+                if (stepped) lastTickWallTimeNs = now;
+            } else {
+                accumulator += (long) (elapsed * clock.getTimeScale());
+
+                // Jalankan sebanyak mungkin tick yang 'berutang' dengan durasi yang selalu sama.
+                while (accumulator >= tickDurationNs && running && loopThread == self) {
+                    simulationStep.run();
+                    accumulator -= tickDurationNs;
+                }
+                lastTickWallTimeNs = now - (long) (accumulator / clock.getTimeScale());
+            }
+
+            if (!running || loopThread != self) break; // Loop dihentikan dari dalam tick.
+
+            // Minta frame baru jika sudah waktunya.
+            if (frameRateChanged) {
+                frameRateChanged = false;
+                nextFrameTime = now;
+            }
+            if (now >= nextFrameTime) {
+                frameRequest.run();
+                nextFrameTime += frameDurationNs;
+                if (nextFrameTime < now) nextFrameTime = now + frameDurationNs; // Lewati frame yang tertinggal.
+            }
+
+            long nextTickTime = clock.isPaused()
+                    ? now + PAUSED_POLL_NS
+                    : now + (long) ((tickDurationNs - accumulator) / clock.getTimeScale());
+            sleepUntil(Math.min(nextTickTime, nextFrameTime));
+        }
+    }
+
+    // Menunggu hingga waktu tertentu: tidur kasar terlebih dahulu, lalu yield untuk sisa waktu yang pendek.
+    private void sleepUntil(long targetTimeNs) {
+        long remaining = targetTimeNs - System.nanoTime();
+        while (remaining > 0 && running) {
+            if (remaining > SPIN_THRESHOLD_NS) {
+                try {
+                    Thread.sleep((remaining - SPIN_THRESHOLD_NS / 2) / 1_000_000L);
+                } catch (InterruptedException e) {
+                    return; // Dibangunkan oleh stop().
+                }
+            } else {
+                Thread.yield();
+            }
+            remaining = targetTimeNs - System.nanoTime();
+        }
+    }
+
+    // Membaca refresh rate monitor utama, atau nilai default jika tidak diketahui (misal: mode headless).
+    public static int detectDisplayRefreshRate() {
+        try {
+            if (!GraphicsEnvironment.isHeadless()) {
+                DisplayMode mode = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                        .getDefaultScreenDevice().getDisplayMode();
+                if (mode != null && mode.getRefreshRate() != DisplayMode.REFRESH_RATE_UNKNOWN) {
+                    return mode.getRefreshRate();
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Gagal membaca refresh rate layar: " + e.getMessage());
+        }
+        return Constants.DEFAULT_FRAMES_PER_SECOND;
+    }
+}
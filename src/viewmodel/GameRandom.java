@@ -0,0 +1,37 @@
+package viewmodel;
+
+import java.util.SplittableRandom;
+
+// Kelas ini adalah sumber angka acak untuk semua keacakan gameplay, diturunkan dari satu seed.
+// Setiap kebutuhan mendapat aliran (stream) sendiri yang independen: jadwal & jenis spawn, posisi spawn, dan kecepatan entitas,
+// sehingga menambah satu pemanggilan acak di satu bagian tidak menggeser urutan angka di bagian lain.
+// Memakai SplittableRandom (cepat, tanpa sinkronisasi); satu instance hanya boleh dipakai oleh satu thread.
+// Untuk simulasi paralel, panggil split() di thread pembuat untuk setiap sesi agar hasilnya tetap bisa diulang dari seed yang sama.
+public final class GameRandom {
+    private final SplittableRandom root;          // Sumber untuk membuat turunan baru lewat split().
+    private final SplittableRandom spawnType;     // Interval kemunculan dan jenis entitas.
+    private final SplittableRandom spawnPosition; // Sisi dan ketinggian kemunculan.
+    private final SplittableRandom speed;         // Kecepatan gerak entitas.
+
+    // Konstruktor, membuat semua aliran dari satu seed.
+    public GameRandom(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private GameRandom(SplittableRandom root) {
+        this.root = root;
+        this.spawnType = root.split();
+        this.spawnPosition = root.split();
+        this.speed = root.split();
+    }
+
+    // Membuat GameRandom turunan yang independen (misal: untuk satu sesi atau satu thread), deterministik terhadap seed induk.
+    public GameRandom split() {
+        return new GameRandom(root.split());
+    }
+
+    // Getter untuk masing-masing aliran.
+    public SplittableRandom spawnType() { return spawnType; }
+    public SplittableRandom spawnPosition() { return spawnPosition; }
+    public SplittableRandom speed() { return speed; }
+}
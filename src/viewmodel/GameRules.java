@@ -0,0 +1,102 @@
+package viewmodel;
+
+// Kelas ini mengumpulkan semua parameter keseimbangan permainan yang bisa di-tuning dalam satu objek immutable.
+// Nilai default diambil dari Constants; varian lain dibuat dengan metode with...() untuk dibandingkan oleh BalanceRunner.
+// Karena immutable, satu objek aman dipakai bersama oleh banyak sesi yang berjalan paralel.
+public final class GameRules {
+    // Aturan standar yang dipakai permainan biasa.
+    public static final GameRules DEFAULT = new GameRules("default",
+            35, 20, 20, 25,
+            1200, 2000, 8,
+            Constants.INITIAL_GAME_TIME_SECONDS,
+            Constants.TIME_BONUS_PER_CATCH_SECONDS,
+            Constants.STRUGGLE_TIME_LIMIT_MS, false);
+
+    public final String name; // Nama singkat untuk laporan.
+
+    // Bobot peluang kemunculan tiap jenis entitas (tidak harus berjumlah 100).
+    public final int fishWeight, bigFishWeight, dartFishWeight, ghostWeight;
+
+    // Interval kemunculan entitas: minimum + acak [0, variasi] milidetik, dan batas entitas yang disimulasikan
+    // (seluruh jendela aktif, termasuk chunk tetangga di luar layar).
+    public final long spawnIntervalMinMs, spawnIntervalVarMs;
+    public final int maxEntitiesOnScreen;
+
+    // Pengaturan waktu permainan dan struggle.
+    public final int initialGameTimeSeconds;
+    public final int timeBonusPerCatchSeconds;
+    public final int struggleTimeLimitMs;
+    // Jika true, pemain tetap terluka (animasi/efek) tapi nyawanya tidak berkurang; dipakai skenario uji beban.
+    public final boolean unlimitedLives;
+
+    // Konstruktor lengkap.
+    public GameRules(String name,
+                     int fishWeight, int bigFishWeight, int dartFishWeight, int ghostWeight,
+                     long spawnIntervalMinMs, long spawnIntervalVarMs, int maxEntitiesOnScreen,
+                     int initialGameTimeSeconds, int timeBonusPerCatchSeconds, int struggleTimeLimitMs,
+                     boolean unlimitedLives) {
+        this.name = name;
+        this.fishWeight = fishWeight;
+        this.bigFishWeight = bigFishWeight;
+        this.dartFishWeight = dartFishWeight;
+        this.ghostWeight = ghostWeight;
+        this.spawnIntervalMinMs = spawnIntervalMinMs;
+        this.spawnIntervalVarMs = spawnIntervalVarMs;
+        this.maxEntitiesOnScreen = maxEntitiesOnScreen;
+        this.initialGameTimeSeconds = initialGameTimeSeconds;
+        this.timeBonusPerCatchSeconds = timeBonusPerCatchSeconds;
+        this.struggleTimeLimitMs = struggleTimeLimitMs;
+        this.unlimitedLives = unlimitedLives;
+    }
+
+    // Total bobot semua jenis entitas.
+    public int totalSpawnWeight() {
+        return fishWeight + bigFishWeight + dartFishWeight + ghostWeight;
+    }
+
+    // Membuat varian dengan campuran spawn yang berbeda.
+    public GameRules withSpawnMix(String newName, int fish, int bigFish, int dartFish, int ghost) {
+        return new GameRules(newName, fish, bigFish, dartFish, ghost,
+                spawnIntervalMinMs, spawnIntervalVarMs, maxEntitiesOnScreen,
+                initialGameTimeSeconds, timeBonusPerCatchSeconds, struggleTimeLimitMs, unlimitedLives);
+    }
+
+    // Membuat varian dengan interval kemunculan yang berbeda.
+    public GameRules withSpawnInterval(String newName, long minMs, long varMs) {
+        return new GameRules(newName, fishWeight, bigFishWeight, dartFishWeight, ghostWeight,
+                minMs, varMs, maxEntitiesOnScreen,
+                initialGameTimeSeconds, timeBonusPerCatchSeconds, struggleTimeLimitMs, unlimitedLives);
+    }
+
+    // Membuat varian dengan batas waktu struggle yang berbeda.
+    public GameRules withStruggleTimeLimit(String newName, int limitMs) {
+        return new GameRules(newName, fishWeight, bigFishWeight, dartFishWeight, ghostWeight,
+                spawnIntervalMinMs, spawnIntervalVarMs, maxEntitiesOnScreen,
+                initialGameTimeSeconds, timeBonusPerCatchSeconds, limitMs, unlimitedLives);
+    }
+
+    // Membuat varian dengan bonus waktu per tangkapan yang berbeda.
+    public GameRules withTimeBonus(String newName, int bonusSeconds) {
+        return new GameRules(newName, fishWeight, bigFishWeight, dartFishWeight, ghostWeight,
+                spawnIntervalMinMs, spawnIntervalVarMs, maxEntitiesOnScreen,
+                initialGameTimeSeconds, bonusSeconds, struggleTimeLimitMs, unlimitedLives);
+    }
+
+    // Membuat varian untuk skenario akuarium: 'population' entitas sekaligus, spawn tanpa jeda, waktu permainan
+    // praktis tidak habis (24 jam), dan nyawa tidak berkurang agar uji beban tidak berhenti karena game over.
+    public GameRules withAquarium(String newName, int population) {
+        return new GameRules(newName, fishWeight, bigFishWeight, dartFishWeight, ghostWeight,
+                0, 0, population,
+                24 * 60 * 60, timeBonusPerCatchSeconds, struggleTimeLimitMs, true);
+    }
+
+    // Ringkasan parameter dalam satu baris untuk laporan.
+    @Override
+    public String toString() {
+        return String.format("%s [mix %d/%d/%d/%d, spawn %d+%dms, maks %d, waktu %ds +%ds, struggle %dms%s]",
+                name, fishWeight, bigFishWeight, dartFishWeight, ghostWeight,
+                spawnIntervalMinMs, spawnIntervalVarMs, maxEntitiesOnScreen,
+                initialGameTimeSeconds, timeBonusPerCatchSeconds, struggleTimeLimitMs,
+                unlimitedLives ? ", nyawa tak terbatas" : "");
+    }
+}
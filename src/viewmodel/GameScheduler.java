@@ -0,0 +1,208 @@
+package viewmodel;
+
+// Kelas ini adalah penjadwal event berbasis waktu simulasi (bukan waktu nyata), dibangun di atas
+// hierarchical timing wheel: 4 roda x 64 slot, sehingga menjadwalkan, membatalkan, dan menjalankan
+// satu tugas selalu O(1) berapapun jumlah tugas yang terjadwal.
+// Karena digerakkan oleh advance() di setiap tick, penjadwal otomatis ikut jeda, lanjut, dan skala waktu GameClock.
+// Kelas ini tidak thread-safe: gunakan dari thread simulasi atau di bawah lock pemiliknya (GameLogic).
+public class GameScheduler {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS; // 64 slot per roda.
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4; // Jangkauan 2^24 tick (~77 jam pada 60 tick/detik).
+    private static final long MAX_WHEEL_SPAN = 1L << (WHEEL_BITS * LEVELS);
+
+    // Satu tugas terjadwal. Disimpan sebagai node linked list ganda di dalam slot roda.
+    public static final class ScheduledTask {
+        private final Runnable action;
+        private final long periodTicks; // 0 = sekali jalan.
+        private long deadlineTick;
+        private boolean cancelled;
+        private ScheduledTask prev, next;
+
+        private ScheduledTask(Runnable action, long deadlineTick, long periodTicks) {
+            this.action = action;
+            this.deadlineTick = deadlineTick;
+            this.periodTicks = periodTicks;
+        }
+
+        // Membatalkan tugas; tugas langsung dilepas dari rodanya (O(1)).
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            unlink();
+        }
+
+        public boolean isCancelled() { return cancelled; }
+
+        // Melepas node dari list tempatnya berada saat ini.
+        private void unlink() {
+            if (prev != null) {
+                prev.next = next;
+                next.prev = prev;
+                prev = null;
+                next = null;
+            }
+        }
+    }
+
+    private final GameClock clock;
+    private final ScheduledTask[][] wheels = new ScheduledTask[LEVELS][WHEEL_SIZE];
+    private final ScheduledTask overflow = newSentinel(); // Tugas yang melebihi jangkauan roda.
+    private final ScheduledTask scratch = newSentinel();  // List sementara untuk slot yang sedang diproses.
+    private long currentTick; // Tick terakhir yang sudah diproses.
+    private ScheduledTask runningTask; // Tugas yang sedang dijalankan advance(), atau null.
+
+    // Konstruktor, jam dipakai untuk mengubah milidetik waktu game menjadi jumlah tick.
+    public GameScheduler(GameClock clock) {
+        this.clock = clock;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                wheels[level][slot] = newSentinel();
+            }
+        }
+    }
+
+    // Menjadwalkan tugas sekali jalan setelah 'delayMs' milidetik waktu game.
+    public ScheduledTask schedule(long delayMs, Runnable action) {
+        return scheduleTicks(msToTicks(delayMs), 0, action);
+    }
+
+    // Menjadwalkan tugas berulang: pertama setelah 'initialDelayMs', lalu setiap 'periodMs' milidetik waktu game.
+    public ScheduledTask scheduleAtFixedRate(long initialDelayMs, long periodMs, Runnable action) {
+        return scheduleTicks(msToTicks(initialDelayMs), Math.max(1, msToTicks(periodMs)), action);
+    }
+
+    // Versi berbasis tick: tugas berjalan 'delayTicks' tick dari sekarang (minimal 1), berulang jika periodTicks > 0.
+    public ScheduledTask scheduleTicks(long delayTicks, long periodTicks, Runnable action) {
+        ScheduledTask task = new ScheduledTask(action, currentTick + Math.max(1, delayTicks), periodTicks);
+        insert(task);
+        return task;
+    }
+
+    // Memajukan penjadwal satu tick dan menjalankan semua tugas yang jatuh tempo. Dipanggil sekali per tick.
+    public void advance() {
+        currentTick++;
+
+        // Turunkan (cascade) tugas dari roda yang lebih tinggi saat roda di bawahnya berputar penuh,
+        // dimulai dari level tertinggi agar tugas yang turun beberapa level sekaligus tetap tepat waktu.
+        int highestLevel = 0;
+        while (highestLevel < LEVELS - 1
+                && (currentTick & ((1L << (WHEEL_BITS * (highestLevel + 1))) - 1)) == 0) {
+            highestLevel++;
+        }
+        if ((currentTick & (MAX_WHEEL_SPAN - 1)) == 0) {
+            cascade(overflow);
+        }
+        for (int level = highestLevel; level >= 1; level--) {
+            int slot = (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+            cascade(wheels[level][slot]);
+        }
+
+        // Jalankan tugas pada slot level 0 untuk tick ini.
+        ScheduledTask bucket = wheels[0][(int) (currentTick & WHEEL_MASK)];
+        ScheduledTask due = detach(bucket, scratch);
+        while (due.next != due) {
+            ScheduledTask task = due.next;
+            task.unlink();
+            if (task.cancelled) continue;
+            if (task.deadlineTick > currentTick) { // Belum waktunya (jaga-jaga), kembalikan ke roda.
+                insert(task);
+                continue;
+            }
+            runningTask = task;
+            try {
+                task.action.run();
+            } finally {
+                runningTask = null;
+            }
+            if (task.periodTicks > 0 && !task.cancelled) {
+                task.deadlineTick += task.periodTicks;
+                insert(task);
+            } else {
+                task.cancelled = true; // Tandai selesai agar cancel() berikutnya tidak berpengaruh.
+            }
+        }
+    }
+
+    // Membatalkan semua tugas (digunakan saat memulai atau mengakhiri sesi). Boleh dipanggil dari dalam tugas:
+    // tugas lain di slot yang sedang diproses (sudah dipindah ke list sementara) dan tugas yang sedang berjalan
+    // ikut dibatalkan, jadi tidak ada yang berjalan atau dijadwalkan ulang setelah clear().
+    public void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                cancelAll(wheels[level][slot]);
+            }
+        }
+        cancelAll(overflow);
+        cancelAll(scratch);
+        if (runningTask != null) runningTask.cancelled = true;
+    }
+
+    // Menempatkan tugas pada roda/slot yang sesuai dengan jarak deadline-nya.
+    private void insert(ScheduledTask task) {
+        long delta = task.deadlineTick - currentTick;
+        ScheduledTask bucket;
+        if (delta >= MAX_WHEEL_SPAN) {
+            bucket = overflow;
+        } else {
+            int level = 0;
+            while (level < LEVELS - 1 && delta >= (1L << (WHEEL_BITS * (level + 1)))) {
+                level++;
+            }
+            int slot = (int) ((task.deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+            bucket = wheels[level][slot];
+        }
+        // Sisipkan di akhir list (sebelum sentinel).
+        task.prev = bucket.prev;
+        task.next = bucket;
+        bucket.prev.next = task;
+        bucket.prev = task;
+    }
+
+    // Memindahkan ulang semua tugas dalam satu slot ke roda yang lebih rendah.
+    private void cascade(ScheduledTask bucket) {
+        ScheduledTask moving = detach(bucket, scratch);
+        while (moving.next != moving) {
+            ScheduledTask task = moving.next;
+            task.unlink();
+            if (!task.cancelled) insert(task);
+        }
+    }
+
+    // Memindahkan seluruh isi list ke sentinel 'detached' (yang harus kosong), sehingga slot asal kosong dan aman diisi ulang.
+    private static ScheduledTask detach(ScheduledTask bucket, ScheduledTask detached) {
+        if (bucket.next != bucket) {
+            detached.next = bucket.next;
+            detached.prev = bucket.prev;
+            detached.next.prev = detached;
+            detached.prev.next = detached;
+            bucket.next = bucket;
+            bucket.prev = bucket;
+        }
+        return detached;
+    }
+
+    // Membatalkan semua tugas di satu list.
+    private static void cancelAll(ScheduledTask bucket) {
+        while (bucket.next != bucket) {
+            ScheduledTask task = bucket.next;
+            task.cancelled = true;
+            task.unlink();
+        }
+    }
+
+    // Membuat node sentinel untuk list melingkar yang kosong.
+    private static ScheduledTask newSentinel() {
+        ScheduledTask sentinel = new ScheduledTask(null, 0, 0);
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+        return sentinel;
+    }
+
+    // Mengubah milidetik waktu game menjadi jumlah tick (dibulatkan ke atas).
+    private long msToTicks(long ms) {
+        long tickNs = clock.getTickDurationNs();
+        return (ms * 1_000_000L + tickNs - 1) / tickNs;
+    }
+}
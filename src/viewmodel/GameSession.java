@@ -0,0 +1,547 @@
+package viewmodel;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import model.*;
+
+// Kelas ini adalah inti aturan permainan yang tidak bergantung pada Swing maupun layar.
+// Sesi memiliki Player, Harpoon, Jar, EntityHandler, Camera, efek visual, dan state machine permainan,
+// menerima input dalam bentuk GameCommand, dan maju tepat satu langkah setiap kali tick() dipanggil,
+// sehingga bisa dijalankan oleh GameLoop (mode tampilan) atau secepat mungkin oleh CPU (mode headless).
+// Kelas ini tidak thread-safe kecuali submit(): panggil tick() dan getter dari satu thread atau di bawah lock pemiliknya.
+public class GameSession {
+    // Enum untuk merepresentasikan semua kemungkinan state dalam permainan (State Machine).
+    public enum GameState {
+        MENU, PLAYING,
+        HARPOON_FIRED,
+        STRUGGLING,
+        FISH_MOVING_TO_JAR,
+        GAME_OVER
+    }
+
+    // Antarmuka untuk kejadian yang perlu ditangani di luar aturan permainan (suara, simpan skor, pindah layar).
+    // Semua metode punya implementasi kosong agar mode headless cukup memakai 'new GameSession.Listener() {}'.
+    public interface Listener {
+        default void onSound(String name) {}
+        default void onGameOver(String message) {}
+    }
+
+    private static final String HIT_EFFECT_SHEET = "/assets/images/hit.png"; // Efek saat pemain terluka.
+
+    private final GameClock clock;         // Jam simulasi bersama untuk semua model.
+    private final GameScheduler scheduler; // Penjadwal event berbasis waktu simulasi.
+    private final Listener listener;
+    private final GameRules rules; // Parameter keseimbangan permainan (campuran spawn, waktu, struggle).
+    private final GameRandom random; // Sumber acak sesi; setiap sesi permainan baru memakai turunan split() darinya.
+    // Antrean input; satu-satunya bagian sesi yang boleh diakses dari thread lain.
+    private final Queue<GameCommand> pendingCommands = new ConcurrentLinkedQueue<>();
+
+    // Objek-objek utama dalam game (Model)
+    private Player player;
+    private Harpoon harpoon;
+    private Jar jar; // Keranjang menempel di layar (koordinatnya koordinat layar, bukan dunia).
+    private final Camera camera = new Camera(); // Kamera dunia yang bergulir mengikuti pemain.
+    private final Rectangle jarBounds = new Rectangle(); // Kotak keranjang dalam koordinat dunia (penghalang hantu).
+    private final EntityHandler entityHandler; // Dipakai ulang antar sesi agar pool entitasnya tetap terisi.
+    private final List<Effect> activeEffects = new ArrayList<>(); // Daftar efek visual sementara (cth: ledakan).
+    private final EntityPool<Effect> effectPool = new EntityPool<>("efek", 8); // Efek yang selesai dipakai ulang.
+    private float spawnDensity = 1.0f; // Faktor kepadatan spawn yang diteruskan ke EntityHandler.
+    private final List<GameObject> collisionCandidates = new ArrayList<>(); // Buffer hasil query tabrakan.
+    private final Rectangle sweepBox = new Rectangle(); // Kotak ujung harpun di satu titik sampel lintasan.
+
+    // Variabel untuk state dan data permainan
+    private char nextStruggleKey;
+    private String username;
+    private String gameOverMessage;
+    private GameState currentState = GameState.MENU; // State awal adalah menu (sesi belum dimulai).
+
+    // Variabel untuk waktu permainan
+    private int remainingTimeSeconds;
+    private GameScheduler.ScheduledTask countdownTask; // Tugas yang berjalan setiap detik (waktu game) untuk mengurangi waktu.
+
+    // Variabel untuk mekanisme 'Struggle'
+    private int struggleBarValue;
+    private long struggleStartTimeMs;
+    private GameObject gameObjectInStruggle;
+
+    // Variabel untuk animasi ikan ke keranjang
+    private GameObject fishMovingToJar;
+    private float fishToJarSpeed = 25.0f;
+
+    // Konstruktor dengan aturan standar dan seed dari konfigurasi (--seed).
+    public GameSession(Listener listener) {
+        this(listener, GameRules.DEFAULT, new GameRandom(GameConfig.getSeed()));
+    }
+
+    // Konstruktor, membuat jam dan penjadwal milik sesi ini dengan aturan dan sumber acak tertentu.
+    public GameSession(Listener listener, GameRules rules, GameRandom random) {
+        this.listener = listener;
+        this.rules = rules;
+        this.random = random;
+        this.clock = new GameClock(Constants.TICKS_PER_SECOND);
+        this.scheduler = new GameScheduler(clock);
+        this.entityHandler = new EntityHandler(clock, rules);
+        SpriteCache.preload(HIT_EFFECT_SHEET); // Efek 'hit' muncul di tengah permainan; decode di muka.
+        createHitEffect(0, 0).prebake(); // ...dan panggang frame render-nya pada ukuran tampilnya.
+    }
+
+    // Memulai sesi permainan baru untuk pemain tertentu.
+    public void start(String username) {
+        this.username = username;
+        initializeGameEntities(); // Buat dan reset semua objek game.
+        currentState = GameState.PLAYING; // Ubah state menjadi PLAYING.
+
+        // Jadwalkan hitung mundur waktu permainan setiap 1 detik waktu game.
+        // Karena digerakkan oleh tick, hitung mundur otomatis berhenti saat game dijeda.
+        scheduler.clear(); // Buang semua tugas dari sesi sebelumnya.
+        countdownTask = scheduler.scheduleAtFixedRate(1000, 1000, this::onCountdownSecond);
+    }
+
+    // Mengakhiri sesi: batalkan semua tugas terjadwal dan kembali ke state MENU.
+    public void end() {
+        if (player != null) player.resetMovementFlags();
+        clearEffects();
+        pendingCommands.clear();
+        scheduler.clear(); // Batalkan hitung mundur dan tugas terjadwal lainnya.
+        currentState = GameState.MENU;
+    }
+
+    // Menyiapkan semua objek yang diperlukan untuk sesi permainan baru.
+    private void initializeGameEntities() {
+        clock.reset(); // Waktu simulasi sesi baru dimulai dari nol.
+
+        // Inisialisasi Player dengan semua properti animasinya.
+        player = new Player(clock,
+            Constants.PLAYER_START_X, Constants.PLAYER_START_Y,
+            Constants.PLAYER_WIDTH, Constants.PLAYER_HEIGHT,
+            Constants.PLAYER_INITIAL_HEARTS,
+            "/assets/images/player-idle.png", "/assets/images/player-swiming.png", "/assets/images/player-hurt.png",
+            80, 80, 6, 7, 5, 120, 100
+        );
+
+        // Inisialisasi objek-objek lain yang bergantung pada Player atau posisi default.
+        harpoon = new Harpoon(player);
+        jar = new Jar(clock, Constants.JAR_X, Constants.JAR_Y, Constants.JAR_WIDTH, Constants.JAR_HEIGHT, "/assets/images/barrel.png");
+        jar.reset(); // Mengosongkan keranjang.
+        // Panggang sprite pemain, harpun, dan keranjang sebelum tick pertama, bukan saat pertama kali digambar.
+        player.prebake();
+        harpoon.prebake();
+        jar.prebake();
+        camera.reset();
+        updateJarBounds();
+        entityHandler.setObstacles(jarBounds); // Hantu yang berburu memutari keranjang.
+
+        entityHandler.reset(random.split()); // Mengosongkan daftar entitas (kembali ke pool) dengan aliran acak baru.
+        entityHandler.setSpawnDensity(spawnDensity);
+
+        clearEffects();
+        pendingCommands.clear();
+
+        // Reset semua variabel state permainan ke nilai awal.
+        gameObjectInStruggle = null;
+        fishMovingToJar = null;
+        gameOverMessage = null;
+        remainingTimeSeconds = rules.initialGameTimeSeconds;
+        struggleBarValue = 0;
+    }
+
+    // Mengantrikan perintah input. Aman dipanggil dari thread mana pun; dijalankan di awal tick berikutnya.
+    public void submit(GameCommand command) {
+        pendingCommands.add(command);
+    }
+
+    // Memajukan simulasi tepat satu tick.
+    public void tick() {
+        applyPendingCommands(); // Jalankan input yang masuk sejak tick sebelumnya.
+        clock.advance(); // Waktu simulasi maju tepat satu tick.
+        scheduler.advance(); // Jalankan event terjadwal yang jatuh tempo pada tick ini.
+        // Simpan posisi semua objek agar render bisa melakukan interpolasi antara dua tick.
+        storePreviousPositions();
+
+        // Logika utama State Machine: jalankan metode update yang sesuai dengan state saat ini.
+        if (currentState == GameState.PLAYING) {
+            updatePlayingState();
+            checkPlayerGhostCollision();
+        } else if (currentState == GameState.HARPOON_FIRED) {
+            updateHarpoonFiredState();
+        } else if (currentState == GameState.STRUGGLING) {
+            updateStrugglingState();
+        } else if (currentState == GameState.FISH_MOVING_TO_JAR) {
+            updateFishMovingToJarState();
+        }
+
+        // Kamera mengikuti pemain setelah pemain bergerak; keranjang ikut bergeser bersama layar.
+        if (player != null && currentState != GameState.MENU) {
+            camera.follow(player);
+            updateJarBounds();
+        }
+
+        updateEffects(); // Selalu update efek visual seperti ledakan.
+    }
+
+    // Menyalin kotak keranjang (koordinat layar) ke koordinat dunia sesuai posisi kamera.
+    private void updateJarBounds() {
+        Rectangle box = jar.getCollisionBox();
+        jarBounds.setBounds((int) (box.x + camera.getX()), box.y, box.width, box.height);
+    }
+
+    // Menjalankan semua perintah yang ada di antrean sesuai state saat ini.
+    private void applyPendingCommands() {
+        GameCommand command;
+        while ((command = pendingCommands.poll()) != null) {
+            if (player == null) continue; // Sesi belum dimulai.
+            switch (command.getType()) {
+                case MOVE -> applyMove(command);
+                case STOP_MOVING -> player.resetMovementFlags();
+                case FIRE -> fireHarpoon(command.getX(), command.getY());
+                case STRUGGLE -> struggle(command.getKey());
+            }
+        }
+    }
+
+    // Mengatur flag gerak pemain. Mulai bergerak hanya diizinkan saat bermain atau harpun ditembakkan,
+    // sedangkan berhenti bergerak selalu diterima.
+    private void applyMove(GameCommand command) {
+        if (command.isPressed() && currentState != GameState.PLAYING && currentState != GameState.HARPOON_FIRED) return;
+        boolean pressed = command.isPressed();
+        switch (command.getDirection()) {
+            case UP -> player.setMoveUp(pressed);
+            case DOWN -> player.setMoveDown(pressed);
+            case LEFT -> player.setMoveLeft(pressed);
+            case RIGHT -> player.setMoveRight(pressed);
+        }
+    }
+
+    // Menembakkan harpun. Hanya bisa saat state PLAYING dan harpun tidak sedang ditembakkan.
+    private void fireHarpoon(float targetX, float targetY) {
+        if (currentState == GameState.PLAYING && !harpoon.isFiring()) {
+            harpoon.fire(targetX, targetY);
+            currentState = GameState.HARPOON_FIRED;
+        }
+    }
+
+    // Memproses tombol 'Q' & 'E' saat struggle.
+    private void struggle(char key) {
+        if (currentState != GameState.STRUGGLING) return; // Hanya proses jika state-nya STRUGGLING.
+
+        // Cek apakah tombol yang ditekan sesuai dengan urutan (Q lalu E lalu Q dst.).
+        if (key == 'Q' && nextStruggleKey == 'Q') {
+            performStruggleAction();
+            nextStruggleKey = 'E'; // Tombol berikutnya adalah E.
+        } else if (key == 'E' && nextStruggleKey == 'E') {
+            performStruggleAction();
+            nextStruggleKey = 'Q'; // Tombol berikutnya adalah Q.
+        }
+    }
+
+    // Mencatat posisi tick sebelumnya untuk semua objek yang digambar.
+    private void storePreviousPositions() {
+        camera.storePreviousPosition();
+        if (player != null) player.storePreviousPosition();
+        if (harpoon != null) harpoon.storePreviousPosition();
+        entityHandler.storePreviousPositions();
+        if (fishMovingToJar != null) fishMovingToJar.storePreviousPosition();
+    }
+
+    // Dipanggil penjadwal setiap satu detik waktu game untuk mengurangi sisa waktu.
+    private void onCountdownSecond() {
+        // Kurangi waktu hanya jika game sedang berjalan aktif.
+        if (currentState != GameState.GAME_OVER && currentState != GameState.MENU && currentState != GameState.FISH_MOVING_TO_JAR) {
+            remainingTimeSeconds--;
+            if (remainingTimeSeconds <= 0) {
+                remainingTimeSeconds = 0;
+                triggerGameOver("Waktu Habis!"); // Akhiri permainan jika waktu habis.
+            }
+        }
+    }
+
+    // Update logika saat state normal (bermain).
+    private void updatePlayingState() {
+        player.update();
+        entityHandler.updateEntities(player, camera);
+    }
+
+    // Update logika saat harpun sudah ditembakkan.
+    private void updateHarpoonFiredState() {
+        player.update();
+        harpoon.setViewLeft(camera.getX());
+        harpoon.update();
+        entityHandler.updateEntities(player, camera);
+
+        // Jika harpun belum mengenai apa-apa, cek tabrakan dengan ikan di sepanjang lintasan ujung harpun tick ini.
+        if (harpoon.getHookedObject() == null) {
+            GameObject fish = findHarpoonHit();
+            if (fish != null) {
+                harpoon.hookObject(fish); // Kaitkan ikan terdekat yang kena.
+                entityHandler.hold(fish); // Jangan dipakai ulang oleh pool selama masih dikait.
+            }
+            // Jika harpun sudah tidak bergerak (misal, mencapai batas), kembali ke state PLAYING.
+            if (!harpoon.isFiring()) {
+                currentState = GameState.PLAYING;
+                player.resetMovementFlags();
+            }
+        } else { // Jika harpun sudah mengait ikan...
+            // ...cek apakah ikan yang dikait sudah ditarik sampai ke player.
+            if (player.collidesWith(harpoon.getHookedObject())) {
+                startStruggle(harpoon.getHookedObject()); // Mulai mini-game struggle.
+            }
+        }
+    }
+
+    // Tes tabrakan kontinu: grid mencari ikan yang dilewati kotak ujung harpun dari posisi awal sampai akhir tick
+    // (urut dari yang paling awal disentuh), lalu lintasan disampel setiap setengah ukuran ujung (kotak sampel saling
+    // menutup) dan diuji presisi piksel. Ikan pertama yang kena di sepanjang lintasan dikembalikan, atau null.
+    // Dengan begitu kecepatan harpun dan laju tick bisa diubah tanpa ikan kecil (DartFish) terlewati.
+    private GameObject findHarpoonHit() {
+        float x0 = harpoon.getPrevTipX(), y0 = harpoon.getPrevTipY();
+        float x1 = harpoon.getTipX(), y1 = harpoon.getTipY();
+        int half = Harpoon.TIP_SIZE / 2;
+        if (entityHandler.querySegment(x0, y0, x1, y1, half, CollisionLayer.HARPOON, collisionCandidates) == 0) {
+            return null;
+        }
+        int steps = Math.max(1, (int) Math.ceil(Math.hypot(x1 - x0, y1 - y0) / half));
+        for (int i = 0; i <= steps; i++) {
+            float t = (float) i / steps;
+            sweepBox.setBounds((int) (x0 + (x1 - x0) * t) - half, (int) (y0 + (y1 - y0) * t) - half,
+                               Harpoon.TIP_SIZE, Harpoon.TIP_SIZE);
+            for (GameObject fish : collisionCandidates) {
+                if (fish.collidesWith(sweepBox)) return fish;
+            }
+        }
+        return null;
+    }
+
+    // Menyiapkan semua variabel untuk memulai mini-game struggle.
+    private void startStruggle(GameObject caughtEntity) {
+        player.resetMovementFlags();
+        currentState = GameState.STRUGGLING; // Ubah state.
+        this.gameObjectInStruggle = caughtEntity;
+        this.fishMovingToJar = null;
+        this.struggleBarValue = 0; // Reset progress bar struggle.
+        this.struggleStartTimeMs = clock.millis(); // Catat waktu mulai (waktu simulasi).
+        this.nextStruggleKey = 'Q'; // Tentukan tombol pertama yang harus ditekan.
+    }
+
+    // Update logika saat state 'struggle'.
+    private void updateStrugglingState() {
+        // Jika waktu struggle sudah habis, gagalkan tangkapan.
+        if (clock.millis() - struggleStartTimeMs > rules.struggleTimeLimitMs) {
+            failStruggle();
+        }
+    }
+
+    // Update logika saat ikan yang berhasil ditangkap sedang bergerak ke keranjang.
+    private void updateFishMovingToJarState() {
+        if (fishMovingToJar == null || jar == null) {
+            currentState = GameState.PLAYING; // Kembali ke state normal jika ada error.
+            if (player != null) player.resetMovementFlags();
+            return;
+        }
+
+        // Tentukan koordinat target (dunia) di dekat keranjang yang menempel di layar.
+        float targetX = camera.getX() + jar.getX() + jar.getWidth() / 2f - fishMovingToJar.getWidth() / 2f;
+        float targetY = jar.getY() + jar.getHeight() / 4f - fishMovingToJar.getHeight() / 2f;
+        float currentX = fishMovingToJar.getX();
+        float currentY = fishMovingToJar.getY();
+
+        // Hitung jarak dan arah gerakan.
+        float dx = targetX - currentX;
+        float dy = targetY - currentY;
+        double distance = Math.sqrt(dx * dx + dy * dy);
+
+        // Jika sudah sampai di target...
+        if (distance < fishToJarSpeed) {
+            if (fishMovingToJar instanceof Fish) {
+                jar.addToJar((Fish) fishMovingToJar); // Tambahkan ikan ke keranjang.
+                remainingTimeSeconds += rules.timeBonusPerCatchSeconds; // Tambah bonus waktu.
+                listener.onSound("catch"); // Mainkan suara tangkapan.
+            }
+            entityHandler.releaseHold(); // Ikan sudah masuk keranjang; objeknya bisa dipakai ulang.
+            fishMovingToJar = null;
+            currentState = GameState.PLAYING; // Kembali ke state normal.
+            player.resetMovementFlags();
+        } else { // Jika belum sampai, gerakkan ikan menuju target.
+            float moveX = (dx / (float)distance) * fishToJarSpeed;
+            float moveY = (dy / (float)distance) * fishToJarSpeed;
+            fishMovingToJar.setX(currentX + moveX);
+            fishMovingToJar.setY(currentY + moveY);
+            fishMovingToJar.update();
+        }
+
+        // Tetap update player dan entitas lain agar dunia game tetap hidup.
+        player.update();
+        entityHandler.updateEntities(null, camera); // Pemain sedang tidak bisa diserang; hantu berhenti berburu.
+    }
+
+    // Melakukan aksi saat struggle (menambah progress bar).
+    private void performStruggleAction() {
+        float tapEffectiveness = Constants.STRUGGLE_TAP_VALUE;
+        // Jika ikan punya faktor kesulitan, sesuaikan efektivitas tekanan tombol.
+        if (gameObjectInStruggle instanceof Fish) {
+            Fish strugglingFish = (Fish) gameObjectInStruggle;
+            if (strugglingFish.getStruggleFactor() > 0) {
+                tapEffectiveness /= strugglingFish.getStruggleFactor();
+            }
+        }
+        struggleBarValue += tapEffectiveness;
+
+        // Jika progress bar penuh, berhasil menangkap ikan.
+        if (struggleBarValue >= Constants.STRUGGLE_BAR_MAX_VALUE) {
+            succeedStruggle();
+        }
+    }
+
+    // Logika jika berhasil memenangkan struggle.
+    private void succeedStruggle() {
+        if (gameObjectInStruggle != null && gameObjectInStruggle instanceof Fish) {
+            entityHandler.removeEntity(gameObjectInStruggle); // Hapus ikan dari daftar entitas aktif.
+
+            this.fishMovingToJar = gameObjectInStruggle; // Set ikan ini untuk dianimasikan ke keranjang.
+            this.gameObjectInStruggle = null;
+            currentState = GameState.FISH_MOVING_TO_JAR; // Ganti state.
+        } else {
+            currentState = GameState.PLAYING;
+            player.resetMovementFlags();
+        }
+        harpoon.finishAttempt(); // Reset status harpun.
+    }
+
+    // Logika jika gagal dalam struggle (waktu habis atau salah pencet).
+    private void failStruggle() {
+        hurtPlayer();
+
+        // Reset semua status terkait struggle dan harpun.
+        harpoon.finishAttempt();
+        entityHandler.releaseHold(); // Ikan yang lolos tetap berenang, atau kembali ke pool jika sudah keluar layar.
+        gameObjectInStruggle = null;
+        currentState = GameState.PLAYING;
+        player.resetMovementFlags();
+
+        // Jika nyawa habis, picu game over.
+        if (player.getHearts() <= 0) {
+            triggerGameOver("Nyawa Habis!");
+        }
+    }
+
+    // Mengurangi nyawa pemain beserta suara, animasi, dan efek visual 'hit'-nya.
+    private void hurtPlayer() {
+        // Mainkan suara yang berbeda jika ini adalah pukulan terakhir yang membuat kalah.
+        listener.onSound(player.getHearts() > 1 ? "hit" : "fail");
+
+        if (!rules.unlimitedLives) player.loseHeart(); // Kurangi nyawa player.
+        player.playHurtAnimation(); // Mainkan animasi 'terluka'.
+
+        // Buat efek visual 'hit' di posisi player (memakai ulang efek yang sudah selesai jika ada).
+        float effectX = player.getX() + (player.getWidth() / 2f) - (64 / 2f);
+        float effectY = player.getY() + (player.getHeight() / 2f) - (64 / 2f);
+        Effect hitEffect = effectPool.acquire();
+        if (hitEffect == null) {
+            hitEffect = createHitEffect(effectX, effectY);
+        } else {
+            hitEffect.reset(effectX, effectY);
+        }
+        activeEffects.add(hitEffect);
+    }
+
+    // Membuat efek 'hit' baru di posisi tertentu.
+    private Effect createHitEffect(float x, float y) {
+        return new Effect(clock, x, y, 64, 64, HIT_EFFECT_SHEET, 31, 32, 3, 100);
+    }
+
+    // Cek tabrakan antara player dan hantu.
+    private void checkPlayerGhostCollision() {
+        if (player == null || currentState != GameState.PLAYING) return;
+        // Hanya satu tabrakan yang diproses per tick: hantu pertama yang pikselnya benar-benar mengenai pemain.
+        entityHandler.queryCollisions(player.getCollisionBox(), CollisionLayer.PLAYER, collisionCandidates);
+        GameObject ghost = null;
+        for (GameObject candidate : collisionCandidates) {
+            if (player.collidesWith(candidate)) {
+                ghost = candidate;
+                break;
+            }
+        }
+        if (ghost != null) {
+            // Logika yang sama seperti failStruggle: kurangi nyawa, mainkan suara/animasi/efek.
+            hurtPlayer();
+
+            entityHandler.despawn(ghost); // Hapus hantu yang menabrak (kembali ke pool).
+            if (player.getHearts() <= 0) {
+                triggerGameOver("Nyawa Habis karena Hantu!");
+            }
+        }
+    }
+
+    // Memicu akhir permainan.
+    private void triggerGameOver(String message) {
+        if (currentState == GameState.GAME_OVER) return; // Hindari memicu game over berkali-kali.
+
+        currentState = GameState.GAME_OVER;
+        this.gameOverMessage = message;
+
+        if (player != null) player.resetMovementFlags();
+
+        // Hentikan hitung mundur. Tick tetap berjalan untuk menggerakkan penjadwal dan efek.
+        if (countdownTask != null) countdownTask.cancel();
+        listener.onSound("fail");
+        listener.onGameOver(message);
+    }
+
+    // Mengupdate dan membersihkan efek visual yang sudah selesai.
+    private void updateEffects() {
+        Iterator<Effect> iterator = activeEffects.iterator();
+        while (iterator.hasNext()) {
+            Effect effect = iterator.next();
+            effect.update();
+            if (effect.isFinished()) {
+                iterator.remove(); // Hapus efek dari daftar jika animasinya sudah selesai.
+                effectPool.release(effect);
+            }
+        }
+    }
+
+    // Mengosongkan daftar efek aktif dan mengembalikan semuanya ke pool.
+    private void clearEffects() {
+        for (Effect effect : activeEffects) {
+            effectPool.release(effect);
+        }
+        activeEffects.clear();
+    }
+
+    // Ringkasan penghitung semua pool objek sesi ini (entitas dan efek).
+    public String getPoolSummary() {
+        return entityHandler.getPoolSummary() + "; " + effectPool.summary();
+    }
+
+    // Mengatur faktor kepadatan spawn (dipakai oleh QualityGovernor di mode tampilan).
+    public void setSpawnDensity(float spawnDensity) {
+        this.spawnDensity = spawnDensity;
+        entityHandler.setSpawnDensity(spawnDensity);
+    }
+
+    // Kumpulan getter untuk adapter tampilan, renderer, dan runner headless.
+    public GameClock getClock() { return clock; }
+    public GameScheduler getScheduler() { return scheduler; }
+    public GameRules getRules() { return rules; }
+    public char getNextStruggleKey() { return nextStruggleKey; }
+    public GameState getCurrentState() { return currentState; }
+    public Player getPlayer() { return player; }
+    public Harpoon getHarpoon() { return harpoon; }
+    public Jar getJar() { return jar; }
+    public Camera getCamera() { return camera; }
+    public EntityHandler getEntityHandler() { return entityHandler; }
+    public List<Effect> getActiveEffects() { return activeEffects; }
+    public GameObject getGameObjectInStruggle() { return gameObjectInStruggle; }
+    public GameObject getFishMovingToJar() { return fishMovingToJar; }
+    public String getUsername() { return username; }
+    public String getGameOverMessage() { return gameOverMessage; }
+    public int getRemainingTime() { return remainingTimeSeconds; }
+    public long getStruggleStartTimeMs() { return struggleStartTimeMs; }
+    public float getStruggleProgress() {
+        if (currentState != GameState.STRUGGLING) return 0f;
+        return Math.min(1.0f, (float) struggleBarValue / Constants.STRUGGLE_BAR_MAX_VALUE);
+    }
+}
@@ -0,0 +1,31 @@
+package viewmodel;
+
+import java.util.List;
+import model.GameObject;
+import model.Player;
+
+// Bot referensi yang tidak pernah menembak: berpatroli melewati beberapa titik tetap dan menghindari hantu.
+// Sesi jadi berjalan lama dengan pemain yang terus bergerak, cocok untuk soak test.
+public class GhostAvoidBot extends BotPolicy {
+    // Titik patroli (koordinat tengah pemain), dikunjungi berurutan.
+    private static final float[][] WAYPOINTS = {
+        {200, 150}, {600, 150}, {600, 450}, {200, 450}
+    };
+    private int waypoint;
+
+    public GhostAvoidBot() {
+        super(DEFAULT_TAPS_PER_SECOND);
+    }
+
+    @Override
+    protected void decide(GameSession session, Player player, List<GameObject> entities) {
+        if (avoidGhosts(session, player, entities)) return;
+
+        float[] target = WAYPOINTS[waypoint];
+        if (distance(centerX(player), centerY(player), target[0], target[1]) < ALIGN_TOLERANCE * 2) {
+            waypoint = (waypoint + 1) % WAYPOINTS.length;
+            target = WAYPOINTS[waypoint];
+        }
+        moveTowards(session, player, target[0], target[1]);
+    }
+}
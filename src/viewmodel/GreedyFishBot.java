@@ -0,0 +1,20 @@
+package viewmodel;
+
+import java.util.List;
+import model.GameObject;
+import model.Player;
+
+// Bot referensi yang selalu mengejar dan menembak ikan terdekat tanpa mempedulikan hantu.
+// Menghasilkan beban maksimum pada jalur tembak/struggle/keranjang.
+public class GreedyFishBot extends BotPolicy {
+    public GreedyFishBot(int tapsPerSecond) {
+        super(tapsPerSecond);
+    }
+
+    @Override
+    protected void decide(GameSession session, Player player, List<GameObject> entities) {
+        if (!chaseNearestFish(session, player, entities)) {
+            release(session);
+        }
+    }
+}
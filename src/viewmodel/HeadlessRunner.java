@@ -0,0 +1,82 @@
+package viewmodel;
+
+import java.util.concurrent.CountDownLatch;
+
+// Kelas ini menjalankan GameSession tanpa tampilan, secepat yang dimampukan CPU, lalu mencetak jumlah tick per detik.
+// Dipakai untuk uji beban dan pengukuran performa simulasi di mesin tanpa layar (argumen --headless).
+// Dengan --bot=..., pemain dikendalikan PlayerPolicy sehingga jalur tembak/struggle ikut terbebani secara berulang.
+// Dengan --time-scale=..., tick tidak dijalankan secepat mungkin tetapi dipacu oleh GameLoop pada laju waktu nyata
+// dikali skala waktu (misal: 4 = empat kali lebih cepat dari permainan biasa), seperti mode bertampilan.
+public class HeadlessRunner {
+    private static final String USERNAME = "headless"; // Nama pemain untuk sesi headless (tidak disimpan ke database).
+
+    private final GameSession session = new GameSession(new GameSession.Listener() {});
+    private PlayerPolicy bot = GameConfig.createBotPolicy();
+    private int finishedSessions;
+    // Mode dipacu (--time-scale): sisa tick, game loop yang memacu, dan penanda selesai untuk thread utama.
+    private long remainingTicks;
+    private GameLoop pacedLoop;
+    private final CountDownLatch pacedDone = new CountDownLatch(1);
+
+    // Menjalankan 'ticks' tick simulasi. Saat sesi berakhir (game over), sesi baru langsung dimulai.
+    public static void run(long ticks) {
+        HeadlessRunner runner = new HeadlessRunner();
+        GameSession session = runner.session;
+        session.start(USERNAME);
+
+        long startTime = System.nanoTime();
+        if (GameConfig.isTimeScaleSet()) {
+            runner.runPaced(ticks, GameConfig.getTimeScale());
+        } else {
+            for (long i = 0; i < ticks; i++) runner.step();
+        }
+        long elapsedNs = System.nanoTime() - startTime;
+        int finishedSessions = runner.finishedSessions;
+
+        double seconds = elapsedNs / 1_000_000_000.0;
+        double ticksPerSecond = ticks / Math.max(seconds, 1e-9);
+        System.out.printf("Headless: %d tick dalam %.2f detik = %.0f tick/detik (%.1fx waktu nyata), %d sesi selesai, bot %s, seed %d, %d decode gambar%n",
+                ticks, seconds, ticksPerSecond, ticksPerSecond / Constants.TICKS_PER_SECOND, finishedSessions,
+                GameConfig.getBotName() == null ? "-" : GameConfig.getBotName(), GameConfig.getSeed(), SpriteCache.getDecodeCount());
+        System.out.println("Pool: " + session.getPoolSummary());
+        System.out.println("Dunia: " + session.getEntityHandler().getWorldSummary());
+        System.out.println("Snapshot entitas dibuat: " + session.getEntityHandler().getSnapshotCount());
+    }
+
+    // Satu tick simulasi beserta aksi bot; sesi yang berakhir langsung diganti sesi baru.
+    private void step() {
+        if (bot != null) bot.act(session);
+        session.tick();
+        if (session.getCurrentState() == GameSession.GameState.GAME_OVER) {
+            finishedSessions++;
+            bot = GameConfig.createBotPolicy(); // Bot baru per sesi agar state-nya tidak terbawa.
+            session.start(USERNAME);
+        }
+    }
+
+    // Menjalankan 'ticks' tick lewat GameLoop dengan skala waktu 'timeScale', lalu menunggu sampai selesai.
+    private void runPaced(long ticks, double timeScale) {
+        GameClock clock = session.getClock();
+        clock.setTimeScale(timeScale); // Skala waktu tidak ikut direset saat sesi baru dimulai.
+        System.out.println("Headless dipacu: skala waktu " + clock.getTimeScale() + "x");
+        remainingTicks = ticks;
+        pacedLoop = new GameLoop(clock, 1, this::pacedStep, () -> { });
+        pacedLoop.start();
+        try {
+            pacedDone.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pacedLoop.stopAndJoin();
+    }
+
+    // Satu tick yang dipanggil GameLoop; loop dihentikan setelah tick terakhir.
+    private void pacedStep() {
+        if (remainingTicks <= 0) return;
+        step();
+        if (--remainingTicks == 0) {
+            pacedLoop.stop();
+            pacedDone.countDown();
+        }
+    }
+}
@@ -4,9 +4,9 @@ import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import model.Player;
 
 // Kelas ini menangani semua input dari pengguna (mouse dan keyboard) dan meneruskannya ke GameLogic.
+// Aksi permainan diteruskan sebagai GameCommand ke sesi; aksi layar (jeda, menu) dipanggil langsung.
 public class InputHandler extends MouseAdapter {
     private GameLogic gameLogic; // Referensi ke otak permainan.
     private KeyControls keyControls; // Kelas internal khusus untuk input keyboard.
@@ -27,9 +27,9 @@ public class InputHandler extends MouseAdapter {
     public void mousePressed(MouseEvent e) {
         // Hanya proses klik kiri mouse dan jika state game sedang 'PLAYING'.
         if (e.getButton() == MouseEvent.BUTTON1) {
-             if (gameLogic.getCurrentState() == GameLogic.GameState.PLAYING) {
-                // Meneruskan perintah tembak ke GameLogic dengan koordinat mouse.
-                gameLogic.handlePlayerFireHarpoon(e.getX(), e.getY());
+             if (gameLogic.getCurrentState() == GameSession.GameState.PLAYING) {
+                // Meneruskan perintah tembak ke sesi dengan koordinat mouse (diubah ke koordinat dunia).
+                gameLogic.submitCommand(GameCommand.fire(gameLogic.toWorldX(e.getX()), e.getY()));
             }
         }
     }
@@ -46,7 +46,7 @@ public class InputHandler extends MouseAdapter {
         @Override
         public void keyPressed(KeyEvent e) {
             // Logika input khusus saat layar Game Over.
-            if (gameLogic.getCurrentState() == GameLogic.GameState.GAME_OVER) {
+            if (gameLogic.getCurrentState() == GameSession.GameState.GAME_OVER) {
                 // Jika menekan spasi, lewati delay dan kembali ke menu.
                 if (e.getKeyCode() == KeyEvent.VK_SPACE) {
                     gameLogic.skipGameOverDelay();
@@ -55,26 +55,16 @@ public class InputHandler extends MouseAdapter {
             }
 
             // Abaikan input jika sedang di menu.
-            if (gameLogic.getCurrentState() == GameLogic.GameState.MENU) {
+            if (gameLogic.getCurrentState() == GameSession.GameState.MENU) {
                 return;
             }
 
-            // Pastikan player ada sebelum memproses input lebih lanjut.
-            Player currentPlayer = gameLogic.getPlayer();
-            if (currentPlayer == null) return;
-
             int key = e.getKeyCode();
 
-            // Logika untuk pergerakan player (hanya aktif di state tertentu).
-            if (gameLogic.getCurrentState() == GameLogic.GameState.PLAYING ||
-                gameLogic.getCurrentState() == GameLogic.GameState.HARPOON_FIRED) {
-                switch (key) {
-                    // Mengatur flag pergerakan di objek Player menjadi true untuk mulai bergerak.
-                    case KeyEvent.VK_W, KeyEvent.VK_UP -> currentPlayer.setMoveUp(true);
-                    case KeyEvent.VK_S, KeyEvent.VK_DOWN -> currentPlayer.setMoveDown(true);
-                    case KeyEvent.VK_A, KeyEvent.VK_LEFT -> currentPlayer.setMoveLeft(true);
-                    case KeyEvent.VK_D, KeyEvent.VK_RIGHT -> currentPlayer.setMoveRight(true);
-                }
+            // Perintah mulai bergerak (sesi hanya menerimanya saat bermain atau harpun ditembakkan).
+            GameCommand.Direction direction = toDirection(key);
+            if (direction != null) {
+                gameLogic.submitCommand(GameCommand.move(direction, true));
             }
 
             // Meneruskan penekanan tombol aksi ke GameLogic.
@@ -83,38 +73,50 @@ public class InputHandler extends MouseAdapter {
             }
 
             if (key == KeyEvent.VK_Q || key == KeyEvent.VK_E) {
-                gameLogic.handleStruggleKeyPress(key); // Aksi saat struggle.
+                gameLogic.submitCommand(GameCommand.struggle(key == KeyEvent.VK_Q ? 'Q' : 'E')); // Aksi saat struggle.
             }
 
             if (key == KeyEvent.VK_ESCAPE) {
                 gameLogic.handleEscapeKeyPress(); // Kembali ke menu utama.
             }
+
+            // Kontrol waktu untuk debugging: P jeda/lanjut, '.' satu tick saat dijeda, '-'/'=' lambat/cepat 2x.
+            if (key == KeyEvent.VK_P) {
+                gameLogic.toggleTimePause();
+            } else if (key == KeyEvent.VK_PERIOD) {
+                gameLogic.stepOneTick();
+            } else if (key == KeyEvent.VK_MINUS) {
+                gameLogic.multiplyTimeScale(0.5);
+            } else if (key == KeyEvent.VK_EQUALS) {
+                gameLogic.multiplyTimeScale(2.0);
+            }
         }
 
         // Dipanggil setiap kali sebuah tombol keyboard dilepas.
         @Override
         public void keyReleased(KeyEvent e) {
              // Abaikan input jika game sudah berakhir atau masih di menu.
-             if (gameLogic.getCurrentState() == GameLogic.GameState.GAME_OVER ||
-                 gameLogic.getCurrentState() == GameLogic.GameState.MENU) {
+             if (gameLogic.getCurrentState() == GameSession.GameState.GAME_OVER ||
+                 gameLogic.getCurrentState() == GameSession.GameState.MENU) {
                 return;
             }
 
-            Player currentPlayer = gameLogic.getPlayer();
-            if (currentPlayer == null) return;
-
-            int key = e.getKeyCode();
-            // Logika untuk menghentikan pergerakan player saat tombol dilepas.
-            if (gameLogic.getCurrentState() == GameLogic.GameState.PLAYING ||
-                gameLogic.getCurrentState() == GameLogic.GameState.HARPOON_FIRED) {
-                switch (key) {
-                    // Mengatur flag pergerakan di objek Player menjadi false untuk berhenti.
-                    case KeyEvent.VK_W, KeyEvent.VK_UP -> currentPlayer.setMoveUp(false);
-                    case KeyEvent.VK_S, KeyEvent.VK_DOWN -> currentPlayer.setMoveDown(false);
-                    case KeyEvent.VK_A, KeyEvent.VK_LEFT -> currentPlayer.setMoveLeft(false);
-                    case KeyEvent.VK_D, KeyEvent.VK_RIGHT -> currentPlayer.setMoveRight(false);
-                }
+            // Perintah berhenti bergerak saat tombol arah dilepas.
+            GameCommand.Direction direction = toDirection(e.getKeyCode());
+            if (direction != null) {
+                gameLogic.submitCommand(GameCommand.move(direction, false));
             }
         }
+
+        // Menerjemahkan kode tombol menjadi arah gerak (WASD atau panah), atau null jika bukan tombol arah.
+        private static GameCommand.Direction toDirection(int keyCode) {
+            return switch (keyCode) {
+                case KeyEvent.VK_W, KeyEvent.VK_UP -> GameCommand.Direction.UP;
+                case KeyEvent.VK_S, KeyEvent.VK_DOWN -> GameCommand.Direction.DOWN;
+                case KeyEvent.VK_A, KeyEvent.VK_LEFT -> GameCommand.Direction.LEFT;
+                case KeyEvent.VK_D, KeyEvent.VK_RIGHT -> GameCommand.Direction.RIGHT;
+                default -> null;
+            };
+        }
     }
 }
\ No newline at end of file
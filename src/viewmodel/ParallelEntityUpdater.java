@@ -0,0 +1,132 @@
+package viewmodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import model.EntityComponents;
+import model.FlockingSystem;
+import model.GameObject;
+
+// Kelas ini menjalankan sistem gerak, animasi, kotak tabrakan, dan batas layar EntityComponents secara paralel
+// (fork/join) untuk populasi entitas yang besar. Slot dibagi menjadi potongan berurutan; setiap potongan hanya
+// menyentuh slot miliknya sendiri, jadi tidak perlu lock. Perubahan struktur (spawn dan penghapusan) tidak terjadi
+// di fase paralel: entitas yang keluar layar hanya dikumpulkan per potongan lalu digabung sesuai urutan slot,
+// dan pemanggil melepasnya di langkah merge setelahnya. Di bawah 'threshold' entitas semuanya berjalan sekuensial
+// di thread pemanggil, sehingga permainan biasa (maksimal beberapa entitas) tidak membayar biaya fork/join.
+// Fase steer sistem gerombol (FlockingSystem) juga bisa dipecah dengan cara yang sama lewat flock().
+public class ParallelEntityUpdater {
+    private final ForkJoinPool pool;
+    private final int threshold;  // Jumlah entitas minimum untuk memakai fase paralel.
+    private final int chunkSize;  // Jumlah slot per tugas daun.
+
+    // Konstruktor dengan pool bersama JVM.
+    public ParallelEntityUpdater(int threshold, int chunkSize) {
+        this(ForkJoinPool.commonPool(), threshold, chunkSize);
+    }
+
+    // Konstruktor dengan pool tertentu (misal: untuk membatasi jumlah thread saat benchmark).
+    public ParallelEntityUpdater(ForkJoinPool pool, int threshold, int chunkSize) {
+        this.pool = pool;
+        this.threshold = Math.max(1, threshold);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    // Tugas fork/join untuk rentang slot [from, to): memecah rentang menjadi dua sampai cukup kecil,
+    // lalu menjalankan semua sistem pada potongannya dan mengembalikan entitas yang keluar layar.
+    private final class UpdateChunk extends RecursiveTask<List<GameObject>> {
+        private static final long serialVersionUID = 1L;
+        private final EntityComponents components;
+        private final int from, to;
+        private final long now;
+        private final float windowLeft, windowRight;
+        private final int margin;
+
+        UpdateChunk(EntityComponents components, int from, int to, long now, float left, float right, int margin) {
+            this.components = components;
+            this.from = from;
+            this.to = to;
+            this.now = now;
+            this.windowLeft = left;
+            this.windowRight = right;
+            this.margin = margin;
+        }
+
+        @Override
+        protected List<GameObject> compute() {
+            if (to - from <= chunkSize) {
+                components.move(from, to);
+                components.animate(from, to, now);
+                components.updateBounds(from, to);
+                List<GameObject> leaving = new ArrayList<>();
+                components.collectOutOfBounds(from, to, windowLeft, windowRight, margin, leaving);
+                return leaving;
+            }
+            int middle = (from + to) >>> 1;
+            UpdateChunk left = new UpdateChunk(components, from, middle, now, windowLeft, windowRight, margin);
+            UpdateChunk right = new UpdateChunk(components, middle, to, now, windowLeft, windowRight, margin);
+            left.fork();
+            List<GameObject> rightLeaving = right.compute();
+            List<GameObject> leaving = left.join();
+            // Gabungkan sesuai urutan slot (kiri dulu) agar hasilnya sama persis dengan jalur sekuensial.
+            if (leaving.isEmpty()) return rightLeaving;
+            leaving.addAll(rightLeaving);
+            return leaving;
+        }
+    }
+
+    // Tugas fork/join untuk fase steer gerombol pada ikan ke-[from, to); setiap ikan hanya menulis buffer miliknya.
+    private final class SteerChunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final FlockingSystem flocking;
+        private final EntityComponents components;
+        private final int from, to;
+
+        SteerChunk(FlockingSystem flocking, EntityComponents components, int from, int to) {
+            this.flocking = flocking;
+            this.components = components;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                flocking.steer(components, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SteerChunk(flocking, components, from, middle), new SteerChunk(flocking, components, middle, to));
+        }
+    }
+
+    // Menjalankan sistem gerombol untuk satu tick: prepare() dan commit() di thread pemanggil, steer() dipecah ke
+    // beberapa core jika entitasnya banyak. Hasilnya sama persis dengan FlockingSystem.update().
+    public void flock(FlockingSystem flocking, EntityComponents components, float originX) {
+        if (components.size() < threshold) {
+            flocking.update(components, originX);
+            return;
+        }
+        int prepared = flocking.prepare(components, originX);
+        pool.invoke(new SteerChunk(flocking, components, 0, prepared));
+        flocking.commit(components);
+    }
+
+    // Menjalankan semua sistem untuk satu tick dan mengisi 'leaving' dengan entitas yang keluar dari rentang [left, right] (urut slot).
+    // Entitas belum dilepas; pemanggil melakukannya setelah metode ini kembali. Mengembalikan jumlahnya.
+    public int update(EntityComponents components, long now, float left, float right, int margin, List<GameObject> leaving) {
+        if (components.size() < threshold) {
+            components.move();
+            components.animate(now);
+            components.updateBounds();
+            return components.collectOutOfBounds(left, right, margin, leaving);
+        }
+        leaving.clear();
+        leaving.addAll(pool.invoke(new UpdateChunk(components, 0, components.size(), now, left, right, margin)));
+        return leaving.size();
+    }
+
+    // Getter untuk batas jumlah entitas fase paralel.
+    public int getThreshold() { return threshold; }
+}
@@ -0,0 +1,19 @@
+package viewmodel;
+
+// Antarmuka untuk pemain otomatis (bot) yang mengendalikan sebuah GameSession.
+// act() dipanggil tepat sekali sebelum setiap tick: bot mengamati daftar entitas, posisi pemain, dan status harpun
+// lewat getter sesi, lalu mengirim perintah gerak/tembak/struggle dengan session.submit(GameCommand).
+// Satu instance policy hanya untuk satu sesi karena bot boleh menyimpan state (misal: tombol yang sedang ditekan).
+public interface PlayerPolicy {
+    void act(GameSession session);
+
+    // Membuat bot baru berdasarkan nama (dipakai oleh argumen --bot=...), atau null jika nama tidak dikenal.
+    static PlayerPolicy create(String name) {
+        switch (name.toLowerCase()) {
+            case "greedy": return new GreedyFishBot(BotPolicy.DEFAULT_TAPS_PER_SECOND);
+            case "avoid": return new GhostAvoidBot();
+            case "scripted": return new ScriptedPlayer(BotPolicy.DEFAULT_TAPS_PER_SECOND);
+            default: return null;
+        }
+    }
+}
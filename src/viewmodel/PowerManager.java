@@ -0,0 +1,158 @@
+package viewmodel;
+
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.AWTEventListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import javax.swing.Timer;
+
+// Kelas ini memantau status sebuah window (fokus, minimize, dan idle) dan memberi tahu pemiliknya
+// kapan harus masuk/keluar mode hemat daya. Kelas ini juga mengukur pemakaian CPU proses di setiap mode
+// untuk memperkirakan berapa banyak waktu CPU yang dihemat.
+public class PowerManager {
+    // Status daya, diurutkan dari yang paling aktif sampai yang paling hemat.
+    public enum PowerState {
+        ACTIVE,    // Window terlihat, fokus, dan sedang dipakai.
+        IDLE,      // Window fokus tetapi tidak ada input dalam waktu lama.
+        UNFOCUSED, // Window terlihat tetapi tidak fokus.
+        HIDDEN     // Window di-minimize (tidak terlihat sama sekali).
+    }
+
+    // Antarmuka yang diimplementasikan oleh pemilik window untuk bereaksi terhadap perubahan status daya.
+    public interface Listener {
+        void onPowerStateChanged(PowerState state);
+    }
+
+    private static final int IDLE_CHECK_INTERVAL_MS = 1000;
+
+    private final Window window;
+    private final Listener listener;
+    private final String name; // Nama window untuk laporan.
+    private final WindowAdapter windowListener;
+    private AWTEventListener inputListener;
+    private Timer idleTimer;
+    private long idleTimeoutMs;
+    private volatile long lastInputNs = System.nanoTime();
+
+    private boolean iconified, focused = true, idle;
+    private PowerState currentState = PowerState.ACTIVE;
+
+    // Statistik CPU per mode: ACTIVE vs mode hemat daya lainnya.
+    private final OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+    private long stateStartWallNs, stateStartCpuNs;
+    private long activeWallNs, activeCpuNs, lowPowerWallNs, lowPowerCpuNs;
+
+    // Konstruktor, langsung memasang listener ke window.
+    public PowerManager(Window window, String name, Listener listener) {
+        this.window = window;
+        this.name = name;
+        this.listener = listener;
+        this.stateStartWallNs = System.nanoTime();
+        this.stateStartCpuNs = readProcessCpuNs();
+
+        windowListener = new WindowAdapter() {
+            @Override public void windowIconified(WindowEvent e) { iconified = true; updateState(); }
+            @Override public void windowDeiconified(WindowEvent e) { iconified = false; updateState(); }
+            @Override public void windowActivated(WindowEvent e) { focused = true; markInput(); updateState(); }
+            @Override public void windowDeactivated(WindowEvent e) { focused = false; updateState(); }
+            // Saat window ditutup, lepas semua listener dan cetak laporan hemat daya.
+            @Override public void windowClosed(WindowEvent e) { detach(); }
+        };
+        window.addWindowListener(windowListener);
+    }
+
+    // Mengaktifkan deteksi idle: setelah 'timeoutMs' tanpa input mouse/keyboard, status menjadi IDLE.
+    public void enableIdleDetection(long timeoutMs) {
+        if (idleTimer != null) return;
+        this.idleTimeoutMs = timeoutMs;
+        inputListener = event -> {
+            lastInputNs = System.nanoTime();
+            if (idle) { idle = false; updateState(); }
+        };
+        Toolkit.getDefaultToolkit().addAWTEventListener(inputListener,
+                AWTEvent.MOUSE_EVENT_MASK | AWTEvent.MOUSE_MOTION_EVENT_MASK | AWTEvent.KEY_EVENT_MASK);
+        // Pengecekan idle cukup sekali per detik dan berjalan di EDT, sama seperti event window.
+        idleTimer = new Timer(IDLE_CHECK_INTERVAL_MS, e -> {
+            boolean nowIdle = (System.nanoTime() - lastInputNs) / 1_000_000L >= idleTimeoutMs;
+            if (nowIdle != idle) { idle = nowIdle; updateState(); }
+        });
+        idleTimer.start();
+    }
+
+    // Mencatat waktu input terakhir.
+    private void markInput() {
+        lastInputNs = System.nanoTime();
+        idle = false;
+    }
+
+    // Menghitung status daya dari flag window lalu memberi tahu listener jika berubah.
+    private void updateState() {
+        PowerState newState;
+        if (iconified) newState = PowerState.HIDDEN;
+        else if (!focused) newState = PowerState.UNFOCUSED;
+        else if (idle) newState = PowerState.IDLE;
+        else newState = PowerState.ACTIVE;
+
+        if (newState == currentState) return;
+        accountCurrentState();
+        currentState = newState;
+        listener.onPowerStateChanged(newState);
+    }
+
+    // Menambahkan waktu nyata dan waktu CPU sejak perubahan status terakhir ke kelompok modenya.
+    private void accountCurrentState() {
+        long nowWall = System.nanoTime();
+        long nowCpu = readProcessCpuNs();
+        long wall = nowWall - stateStartWallNs;
+        long cpu = nowCpu >= 0 && stateStartCpuNs >= 0 ? nowCpu - stateStartCpuNs : 0;
+        if (currentState == PowerState.ACTIVE) {
+            activeWallNs += wall;
+            activeCpuNs += cpu;
+        } else {
+            lowPowerWallNs += wall;
+            lowPowerCpuNs += cpu;
+        }
+        stateStartWallNs = nowWall;
+        stateStartCpuNs = nowCpu;
+    }
+
+    // Melepas semua listener dan timer, lalu mencetak laporan.
+    public void detach() {
+        window.removeWindowListener(windowListener);
+        if (idleTimer != null) {
+            idleTimer.stop();
+            idleTimer = null;
+        }
+        if (inputListener != null) {
+            Toolkit.getDefaultToolkit().removeAWTEventListener(inputListener);
+            inputListener = null;
+        }
+        System.out.println("Hemat daya [" + name + "]: " + report());
+    }
+
+    // Ringkasan pemakaian CPU per mode dan perkiraan waktu CPU yang dihemat.
+    // Perkiraan = (laju CPU mode aktif - laju CPU mode hemat) x lama waktu di mode hemat.
+    public String report() {
+        accountCurrentState();
+        if (readProcessCpuNs() < 0) return "waktu CPU proses tidak tersedia di JVM ini";
+        double activeUsage = activeWallNs > 0 ? (double) activeCpuNs / activeWallNs : 0;
+        double lowPowerUsage = lowPowerWallNs > 0 ? (double) lowPowerCpuNs / lowPowerWallNs : 0;
+        double savedMs = Math.max(0, activeUsage - lowPowerUsage) * lowPowerWallNs / 1_000_000.0;
+        return String.format("aktif %.1fs (CPU %.0f%%), hemat daya %.1fs (CPU %.0f%%), perkiraan CPU dihemat %.0fms",
+                activeWallNs / 1e9, activeUsage * 100, lowPowerWallNs / 1e9, lowPowerUsage * 100, savedMs);
+    }
+
+    // Membaca total waktu CPU proses (nanodetik), atau -1 jika JVM tidak menyediakannya.
+    private long readProcessCpuNs() {
+        if (osBean instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) osBean).getProcessCpuTime();
+        }
+        return -1;
+    }
+
+    public PowerState getCurrentState() { return currentState; }
+}
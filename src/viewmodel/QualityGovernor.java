@@ -0,0 +1,104 @@
+package viewmodel;
+
+// Kelas ini mengukur waktu render setiap frame dan menurunkan/menaikkan tingkat kualitas grafis secara otomatis
+// agar frame tetap selesai di dalam anggaran waktunya pada mesin yang lemah.
+// Hysteresis: turun tier butuh beban tinggi yang berturut-turut, naik tier butuh beban rendah yang jauh lebih lama,
+// dan setiap perubahan diikuti masa tenang, sehingga tier tidak bolak-balik.
+public class QualityGovernor {
+    // Daftar tingkat kualitas, dari yang paling bagus sampai yang paling ringan.
+    public enum QualityTier {
+        //       antialias, sand, foreground, maxEffects, spawnDensity
+        HIGH    (true,  true,  true,  Integer.MAX_VALUE, 1.0f),
+        MEDIUM  (false, true,  true,  Integer.MAX_VALUE, 1.0f),
+        LOW     (false, false, true,  4,                 0.75f),
+        MINIMAL (false, false, false, 1,                 0.5f);
+
+        public final boolean antialiasing;    // Anti-aliasing untuk bentuk non-teks.
+        public final boolean sandLayer;       // Lapisan parallax pasir.
+        public final boolean foregroundLayer; // Lapisan parallax depan.
+        public final int maxEffects;          // Jumlah efek visual maksimum yang digambar per frame.
+        public final float spawnDensity;      // Faktor pengali batas entitas di layar.
+
+        QualityTier(boolean antialiasing, boolean sandLayer, boolean foregroundLayer, int maxEffects, float spawnDensity) {
+            this.antialiasing = antialiasing;
+            this.sandLayer = sandLayer;
+            this.foregroundLayer = foregroundLayer;
+            this.maxEffects = maxEffects;
+            this.spawnDensity = spawnDensity;
+        }
+    }
+
+    // Ambang beban relatif terhadap anggaran frame.
+    private static final double DOWNGRADE_LOAD = 0.85; // Di atas ini frame dianggap 'berat'.
+    private static final double UPGRADE_LOAD = 0.45;   // Di bawah ini frame dianggap 'ringan'.
+    private static final int DOWNGRADE_FRAMES = 30;    // ~0.5 detik beban berat berturut-turut.
+    private static final int UPGRADE_FRAMES = 300;     // ~5 detik beban ringan berturut-turut.
+    private static final long COOLDOWN_NS = 2_000_000_000L; // Masa tenang setelah perubahan tier.
+    private static final double SMOOTHING = 0.1;      // Bobot sampel baru pada rata-rata bergerak (EMA).
+
+    private final long frameBudgetNs;
+    private final boolean adaptive; // false = tier dikunci oleh konfigurasi.
+    private volatile QualityTier currentTier;
+    private double averageFrameNs;
+    private int heavyFrames, lightFrames;
+    private long lastChangeNs;
+    private int tierChanges;
+    private QualityTier lastChangeFrom;   // Tier sebelum perubahan terakhir (null jika belum pernah berubah).
+    private double lastChangeFrameNs;     // Rata-rata waktu frame saat perubahan terakhir.
+
+    // Konstruktor, anggaran frame dihitung dari laju render target.
+    public QualityGovernor(int targetFramesPerSecond, QualityTier fixedTier) {
+        this.frameBudgetNs = 1_000_000_000L / Math.max(1, targetFramesPerSecond);
+        this.adaptive = fixedTier == null;
+        this.currentTier = fixedTier != null ? fixedTier : QualityTier.HIGH;
+        this.lastChangeNs = System.nanoTime();
+    }
+
+    // Mencatat durasi kerja render satu frame dan mengevaluasi apakah tier perlu diganti.
+    public synchronized void recordFrame(long renderDurationNs) {
+        averageFrameNs = averageFrameNs == 0
+                ? renderDurationNs
+                : averageFrameNs + SMOOTHING * (renderDurationNs - averageFrameNs);
+        if (!adaptive) return;
+
+        double load = averageFrameNs / frameBudgetNs;
+        heavyFrames = load > DOWNGRADE_LOAD ? heavyFrames + 1 : 0;
+        lightFrames = load < UPGRADE_LOAD ? lightFrames + 1 : 0;
+
+        long now = System.nanoTime();
+        if (now - lastChangeNs < COOLDOWN_NS) return;
+
+        QualityTier[] tiers = QualityTier.values();
+        int index = currentTier.ordinal();
+        if (heavyFrames >= DOWNGRADE_FRAMES && index < tiers.length - 1) {
+            changeTier(tiers[index + 1], now);
+        } else if (lightFrames >= UPGRADE_FRAMES && index > 0) {
+            changeTier(tiers[index - 1], now);
+        }
+    }
+
+    // Mengganti tier dan mencatatnya untuk telemetri. Tidak mencetak apa pun, karena dipanggil di thread render;
+    // ringkasannya dicetak saat keluar (lihat summary()).
+    private void changeTier(QualityTier newTier, long now) {
+        lastChangeFrom = currentTier;
+        lastChangeFrameNs = averageFrameNs;
+        currentTier = newTier;
+        tierChanges++;
+        heavyFrames = 0;
+        lightFrames = 0;
+        lastChangeNs = now;
+    }
+
+    // Kumpulan getter untuk telemetri.
+    public QualityTier getCurrentTier() { return currentTier; }
+    public synchronized double getAverageFrameMs() { return averageFrameNs / 1_000_000.0; }
+    public synchronized int getTierChanges() { return tierChanges; }
+
+    // Ringkasan satu baris untuk dicetak ke konsol saat keluar, di samping ringkasan FrameStats.
+    public synchronized String summary() {
+        String tier = "tier " + currentTier + (adaptive ? "" : " (dikunci)") + ", " + tierChanges + " perubahan";
+        if (lastChangeFrom == null) return tier;
+        return String.format("%s, terakhir %s -> %s (frame %.2fms, anggaran %.2fms)", tier, lastChangeFrom,
+                currentTier, lastChangeFrameNs / 1_000_000.0, frameBudgetNs / 1_000_000.0);
+    }
+}
@@ -0,0 +1,248 @@
+package viewmodel;
+
+import java.awt.Graphics;
+import java.util.Arrays;
+import java.util.List;
+import model.Effect;
+import model.GameObject;
+import model.Harpoon;
+import model.Jar;
+import model.Player;
+
+// Kelas ini adalah state render satu tick: posisi sebelum dan sesudah tick, ukuran, varian animasi, frame, dan arah
+// hadap setiap objek yang perlu digambar, posisi kamera dan harpun, ditambah state HUD (skor, waktu, nyawa, struggle,
+// layar game over). GameLogic mengisinya di akhir setiap tick (di thread simulasi, di bawah lock-nya) lewat Builder,
+// lalu thread render menggambar seluruh frame (objek dan HUD) dari satu snapshot tanpa lock, sehingga satu frame
+// tidak pernah mencampur dua tick dan tidak membaca array EntityComponents yang sedang diubah oleh tick berikutnya.
+// Dari objek game hanya sumber gambarnya yang dipakai (frame dan wilayah atlas), yang tetap setelah objek dibuat.
+// Snapshot dipakai ulang (lihat Builder); isinya tidak berubah selama ia diterbitkan atau sedang digambar.
+public final class RenderSnapshot {
+    private float cameraPrevX, cameraX;
+    // Objek dalam urutan gambar: [0, worldEnd) entitas lalu pemain (digeser kamera), [worldEnd, screenEnd) keranjang
+    // (menempel di layar), [screenEnd, overlayEnd) ikan yang di-struggle atau menuju keranjang, [overlayEnd, count) efek.
+    private int worldEnd, screenEnd, overlayEnd, count;
+    private int playerIndex = -1; // Indeks pemain (untuk pangkal tali harpun), -1 jika tidak ada.
+    private GameObject[] objects = new GameObject[64];
+    private float[] prevX = new float[64], prevY = new float[64], x = new float[64], y = new float[64];
+    private int[] width = new int[64], height = new int[64], variant = new int[64], frame = new int[64];
+    private boolean[] facingRight = new boolean[64];
+    private Harpoon.Shot harpoonShot; // Harpun yang sedang ditembakkan, atau null.
+
+    // State HUD pada tick ini.
+    private GameSession.GameState state = GameSession.GameState.MENU;
+    private int totalScore, collectedCount, remainingTime, hearts;
+    private float struggleProgress;
+    private long struggleRemainingMs = -1; // Sisa waktu struggle, -1 jika tidak sedang struggle.
+    private String username = "", gameOverMessage = "";
+
+    // Konstruktor untuk snapshot kosong; hanya dibuat oleh Builder.
+    private RenderSnapshot() {
+    }
+
+    // Penyusun dan penerbit snapshot. Tiga snapshot dipakai bergantian: satu yang sedang diterbitkan, satu yang
+    // mungkin masih digambar oleh thread render (frame yang lebih lambat dari satu tick), dan satu yang bebas diisi.
+    // Dua saja tidak cukup, karena saat render masih menggambar snapshot lama, snapshot yang baru diterbitkan
+    // juga tidak boleh ditimpa. capture() hanya dipanggil dari satu thread sekaligus (di bawah lock GameLogic),
+    // acquire() hanya dari thread render.
+    public static final class Builder {
+        private final RenderSnapshot[] buffers = {new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()};
+        private volatile RenderSnapshot published = buffers[0]; // Snapshot terakhir yang lengkap.
+        private volatile RenderSnapshot drawing;                // Snapshot yang sedang digambar thread render.
+        private volatile float cameraX;                         // Posisi kamera snapshot terakhir (untuk input).
+
+        // Mengambil snapshot terakhir untuk digambar dan menandainya sedang dipakai sampai acquire() berikutnya.
+        // Tanda dipasang dulu lalu dicek ulang, sehingga capture() tidak pernah memilih snapshot yang sudah diambil.
+        public RenderSnapshot acquire() {
+            RenderSnapshot snapshot;
+            do {
+                snapshot = published;
+                drawing = snapshot;
+            } while (snapshot != published);
+            return snapshot;
+        }
+
+        // Posisi kamera (koordinat dunia sisi kiri layar) pada tick terakhir, misal untuk mengubah klik mouse ke
+        // koordinat dunia. Aman dibaca dari thread mana pun.
+        public float getCameraX() { return cameraX; }
+
+        // Mengisi snapshot yang bebas dengan state sesi saat ini lalu menerbitkannya. Entitas yang tidak mungkin
+        // terlihat di antara posisi kamera sebelum dan sesudah tick ini dilewati, jadi ukuran snapshot sebanding
+        // dengan isi layar, bukan seluruh jendela aktif.
+        public void capture(GameSession session) {
+            RenderSnapshot target = null;
+            for (RenderSnapshot buffer : buffers) {
+                if (buffer != published && buffer != drawing) {
+                    target = buffer;
+                    break;
+                }
+            }
+            target.fill(session);
+            cameraX = target.cameraX;
+            published = target;
+        }
+    }
+
+    // Mengisi snapshot ini dengan state sesi saat ini.
+    private void fill(GameSession session) {
+        int previousCount = count;
+        count = 0;
+        playerIndex = -1;
+        worldEnd = screenEnd = overlayEnd = 0;
+        harpoonShot = null;
+        captureHud(session);
+
+        Player player = session.getPlayer();
+        cameraPrevX = cameraX = 0;
+        if (player != null) { // null jika sesi belum dimulai: tidak ada yang digambar.
+            Camera camera = session.getCamera();
+            cameraPrevX = camera.getPrevX();
+            cameraX = camera.getX();
+            float viewLeft = Math.min(cameraPrevX, cameraX);
+            float viewRight = Math.max(cameraPrevX, cameraX) + Constants.GAME_WIDTH;
+
+            for (GameObject entity : session.getEntityHandler().getEntities()) {
+                float left = Math.min(entity.getPrevX(), entity.getX());
+                float right = Math.max(entity.getPrevX(), entity.getX()) + entity.getWidth();
+                if (right < viewLeft || left > viewRight) continue;
+                add(entity);
+            }
+            playerIndex = count;
+            add(player);
+            worldEnd = count;
+
+            // Keranjang hanya tampil pada state tertentu.
+            if ((state == GameSession.GameState.STRUGGLING || state == GameSession.GameState.FISH_MOVING_TO_JAR)
+                    && session.getJar() != null) {
+                add(session.getJar());
+            }
+            screenEnd = count;
+
+            // Ikan yang sedang di-struggle atau dianimasikan menuju keranjang.
+            if (state == GameSession.GameState.STRUGGLING && session.getGameObjectInStruggle() != null) {
+                add(session.getGameObjectInStruggle());
+            } else if (state == GameSession.GameState.FISH_MOVING_TO_JAR && session.getFishMovingToJar() != null) {
+                add(session.getFishMovingToJar());
+            }
+            overlayEnd = count;
+
+            List<Effect> activeEffects = session.getActiveEffects();
+            for (int i = 0; i < activeEffects.size(); i++) {
+                add(activeEffects.get(i));
+            }
+            harpoonShot = session.getHarpoon().captureShot();
+        }
+        // Jangan menahan objek yang sudah dilepas ke pool dari tick sebelumnya.
+        if (count < previousCount) Arrays.fill(objects, count, previousCount, null);
+    }
+
+    // Menyalin state HUD (skor, waktu, nyawa, struggle, layar game over).
+    private void captureHud(GameSession session) {
+        state = session.getCurrentState();
+        Jar jar = session.getJar();
+        totalScore = jar != null ? jar.getTotalScore() : 0;
+        collectedCount = jar != null ? jar.getCollectedCount() : 0;
+        remainingTime = session.getRemainingTime();
+        hearts = session.getPlayer() != null ? session.getPlayer().getHearts() : 0;
+        struggleProgress = session.getStruggleProgress();
+        long struggleStart = session.getStruggleStartTimeMs();
+        struggleRemainingMs = state == GameSession.GameState.STRUGGLING && struggleStart > 0
+                ? Math.max(0, session.getRules().struggleTimeLimitMs - (session.getClock().millis() - struggleStart))
+                : -1;
+        username = session.getUsername() != null ? session.getUsername() : "";
+        gameOverMessage = session.getGameOverMessage() != null ? session.getGameOverMessage() : "";
+    }
+
+    // Menambahkan satu objek beserta state render-nya saat ini.
+    private void add(GameObject object) {
+        if (count == objects.length) grow();
+        objects[count] = object;
+        prevX[count] = object.getPrevX();
+        prevY[count] = object.getPrevY();
+        x[count] = object.getX();
+        y[count] = object.getY();
+        width[count] = object.getWidth();
+        height[count] = object.getHeight();
+        variant[count] = object.getRenderVariant();
+        frame[count] = object.getRenderFrame();
+        facingRight[count] = object.isRenderFacingRight();
+        count++;
+    }
+
+    // Menggandakan kapasitas semua array.
+    private void grow() {
+        int capacity = objects.length * 2;
+        objects = Arrays.copyOf(objects, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        variant = Arrays.copyOf(variant, capacity);
+        frame = Arrays.copyOf(frame, capacity);
+        facingRight = Arrays.copyOf(facingRight, capacity);
+    }
+
+    // Menggambar semua objek pada posisi interpolasi 'alpha' (0..1) di antara tick sebelumnya dan tick snapshot ini.
+    // Pada tier kualitas rendah hanya sebagian efek yang digambar (maksimal 'maxEffects', dijarangkan merata).
+    public void render(Graphics g, float alpha, int maxEffects) {
+        if (playerIndex < 0) return; // Sesi belum dimulai.
+
+        // Objek dunia digeser sejauh posisi kamera (diinterpolasi seperti objek lain); entitas di luar layar dilewati.
+        float renderCameraX = getCameraRenderX(alpha);
+        float viewRight = renderCameraX + Constants.GAME_WIDTH;
+        int shift = Math.round(renderCameraX);
+        g.translate(-shift, 0);
+        for (int i = 0; i < worldEnd; i++) {
+            float renderX = renderX(i, alpha);
+            if (renderX + width[i] < renderCameraX || renderX > viewRight) continue;
+            draw(g, i, alpha);
+        }
+        if (harpoonShot != null) {
+            float playerCenterX = renderX(playerIndex, alpha) + width[playerIndex] / 2f;
+            float playerCenterY = renderY(playerIndex, alpha) + height[playerIndex] / 2f;
+            harpoonShot.draw(g, alpha, playerCenterX, playerCenterY);
+        }
+        g.translate(shift, 0);
+
+        // Keranjang menempel di layar, jadi digambar tanpa geser kamera.
+        for (int i = worldEnd; i < screenEnd; i++) {
+            draw(g, i, alpha);
+        }
+
+        g.translate(-shift, 0);
+        for (int i = screenEnd; i < overlayEnd; i++) {
+            draw(g, i, alpha);
+        }
+        int effects = count - overlayEnd;
+        int stride = effects <= maxEffects ? 1 : (effects + maxEffects - 1) / maxEffects;
+        for (int i = overlayEnd; i < count; i += stride) {
+            draw(g, i, alpha);
+        }
+        g.translate(shift, 0);
+    }
+
+    // Menggambar satu objek pada posisi interpolasinya.
+    private void draw(Graphics g, int i, float alpha) {
+        objects[i].draw(g, (int) renderX(i, alpha), (int) renderY(i, alpha), width[i], height[i],
+                variant[i], frame[i], facingRight[i]);
+    }
+
+    // Posisi render objek ke-i hasil interpolasi antara tick sebelumnya dan tick snapshot ini.
+    private float renderX(int i, float alpha) { return prevX[i] + (x[i] - prevX[i]) * alpha; }
+    private float renderY(int i, float alpha) { return prevY[i] + (y[i] - prevY[i]) * alpha; }
+
+    // Posisi kamera (koordinat dunia sisi kiri layar) hasil interpolasi, misal untuk parallax latar.
+    public float getCameraRenderX(float alpha) { return cameraPrevX + (cameraX - cameraPrevX) * alpha; }
+
+    // Getter untuk state HUD pada tick snapshot ini.
+    public GameSession.GameState getState() { return state; }
+    public int getTotalScore() { return totalScore; }
+    public int getCollectedCount() { return collectedCount; }
+    public int getRemainingTime() { return remainingTime; }
+    public int getHearts() { return hearts; }
+    public float getStruggleProgress() { return struggleProgress; }
+    public long getStruggleRemainingMs() { return struggleRemainingMs; }
+    public String getUsername() { return username; }
+    public String getGameOverMessage() { return gameOverMessage; }
+}
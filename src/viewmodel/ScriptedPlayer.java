@@ -0,0 +1,21 @@
+package viewmodel;
+
+import java.util.List;
+import model.GameObject;
+import model.Player;
+
+// Bot referensi gabungan yang dipakai BalanceRunner: menghindari hantu yang terlalu dekat,
+// lalu mengejar dan menembak ikan terdekat, seperti pemain yang cukup hati-hati.
+public class ScriptedPlayer extends BotPolicy {
+    public ScriptedPlayer(int tapsPerSecond) {
+        super(tapsPerSecond);
+    }
+
+    @Override
+    protected void decide(GameSession session, Player player, List<GameObject> entities) {
+        if (avoidGhosts(session, player, entities)) return;
+        if (!chaseNearestFish(session, player, entities)) {
+            release(session);
+        }
+    }
+}
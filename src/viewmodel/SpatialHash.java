@@ -0,0 +1,207 @@
+package viewmodel;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.List;
+import model.GameObject;
+
+// Kelas ini adalah broadphase tabrakan berbasis grid seragam (spatial hash).
+// Setiap objek dimasukkan ke semua sel yang tersentuh collision box-nya; query hanya memeriksa objek di sel
+// yang tumpang tindih dengan area query, bukan seluruh daftar entitas.
+// Selain query area, grid juga mendukung query segmen (ray cast) untuk objek cepat seperti ujung harpun, sehingga
+// seluruh lintasan satu tick diperiksa dan objek kecil tidak terlewati meskipun langkahnya besar.
+// Sel disimpan di tabel hash berukuran pangkat dua dengan linked list berbasis array, jadi setelah pemanasan
+// membangun ulang grid setiap tick tidak membuat objek baru. Hanya dipakai oleh satu thread (thread simulasi).
+public class SpatialHash {
+    private final int cellSize;
+
+    // Tabel bucket: indeks node pertama untuk setiap bucket, atau -1 jika kosong.
+    private int[] bucketHeads;
+    private int tableMask;
+
+    // Node linked list: entri yang dirujuk dan node berikutnya di bucket yang sama.
+    private int[] nodeEntry = new int[64];
+    private int[] nodeNext = new int[64];
+    private int nodeCount;
+
+    // Entri yang dimasukkan sejak clear() terakhir, dengan urutan penyisipan.
+    private GameObject[] entries = new GameObject[32];
+    private int[] entryLayers = new int[32];
+    private int[] entryStamps = new int[32]; // Penanda agar entri di beberapa sel hanya dihitung sekali per query.
+    private int entryCount;
+    private int queryStamp;
+    private int[] hits = new int[32]; // Buffer indeks hasil query.
+    private float[] hitTimes = new float[32]; // Buffer waktu masuk (0..1) hasil query segmen.
+
+    // Konstruktor, menentukan ukuran sel (piksel) dan perkiraan jumlah entri.
+    public SpatialHash(int cellSize, int expectedEntries) {
+        this.cellSize = cellSize;
+        resizeTable(expectedEntries);
+    }
+
+    // Mengosongkan grid. Tabel diperbesar jika jumlah entri berikutnya diperkirakan jauh lebih banyak.
+    public void clear(int expectedEntries) {
+        if (expectedEntries * 2 > bucketHeads.length) {
+            resizeTable(expectedEntries);
+        } else {
+            Arrays.fill(bucketHeads, -1);
+        }
+        Arrays.fill(entries, 0, entryCount, null);
+        nodeCount = 0;
+        entryCount = 0;
+    }
+
+    // Memasukkan objek pada lapisan tertentu berdasarkan posisi collision box-nya saat ini.
+    public void insert(GameObject object, CollisionLayer layer) {
+        if (entryCount == entries.length) {
+            int newLength = entryCount * 2;
+            entries = Arrays.copyOf(entries, newLength);
+            entryLayers = Arrays.copyOf(entryLayers, newLength);
+            entryStamps = Arrays.copyOf(entryStamps, newLength);
+            hits = Arrays.copyOf(hits, newLength);
+            hitTimes = Arrays.copyOf(hitTimes, newLength);
+        }
+        int entry = entryCount++;
+        entries[entry] = object;
+        entryLayers[entry] = layer.bit;
+        entryStamps[entry] = queryStamp;
+
+        Rectangle box = object.getCollisionBox();
+        int minCellX = Math.floorDiv(box.x, cellSize);
+        int maxCellX = Math.floorDiv(box.x + box.width, cellSize);
+        int minCellY = Math.floorDiv(box.y, cellSize);
+        int maxCellY = Math.floorDiv(box.y + box.height, cellSize);
+        for (int cy = minCellY; cy <= maxCellY; cy++) {
+            for (int cx = minCellX; cx <= maxCellX; cx++) {
+                addNode(bucketOf(cx, cy), entry);
+            }
+        }
+    }
+
+    // Mengisi 'out' dengan objek di lapisan 'layerMask' yang collision box-nya bersinggungan dengan 'area'.
+    // Hasil diurutkan sesuai urutan penyisipan agar sama dengan pemindaian daftar biasa. Mengembalikan jumlah hasil.
+    public int query(Rectangle area, int layerMask, List<GameObject> out) {
+        out.clear();
+        queryStamp++;
+        int hitCount = 0;
+        int minCellX = Math.floorDiv(area.x, cellSize);
+        int maxCellX = Math.floorDiv(area.x + area.width, cellSize);
+        int minCellY = Math.floorDiv(area.y, cellSize);
+        int maxCellY = Math.floorDiv(area.y + area.height, cellSize);
+        for (int cy = minCellY; cy <= maxCellY; cy++) {
+            for (int cx = minCellX; cx <= maxCellX; cx++) {
+                for (int node = bucketHeads[bucketOf(cx, cy)]; node != -1; node = nodeNext[node]) {
+                    int entry = nodeEntry[node];
+                    if (entryStamps[entry] == queryStamp || (entryLayers[entry] & layerMask) == 0) continue;
+                    entryStamps[entry] = queryStamp;
+                    // Bucket bisa berisi sel lain dengan hash yang sama; uji kotaknya langsung.
+                    if (entries[entry].getCollisionBox().intersects(area)) {
+                        hits[hitCount++] = entry;
+                    }
+                }
+            }
+        }
+        Arrays.sort(hits, 0, hitCount);
+        for (int i = 0; i < hitCount; i++) {
+            out.add(entries[hits[i]]);
+        }
+        return hitCount;
+    }
+
+    // Mengisi 'out' dengan objek di lapisan 'layerMask' yang disentuh kotak berjari-jari 'radius' saat bergerak
+    // lurus dari (x0, y0) ke (x1, y1). Hasil diurutkan dari yang paling awal disentuh di sepanjang segmen
+    // (seri diurutkan sesuai urutan penyisipan). Mengembalikan jumlah hasil.
+    public int querySegment(float x0, float y0, float x1, float y1, float radius, int layerMask, List<GameObject> out) {
+        out.clear();
+        queryStamp++;
+        int hitCount = 0;
+        float dx = x1 - x0;
+        float dy = y1 - y0;
+        // Sel yang diperiksa adalah sel di dalam kotak pembatas segmen yang sudah diperlebar sebesar radius.
+        int minCellX = Math.floorDiv((int) Math.floor(Math.min(x0, x1) - radius), cellSize);
+        int maxCellX = Math.floorDiv((int) Math.ceil(Math.max(x0, x1) + radius), cellSize);
+        int minCellY = Math.floorDiv((int) Math.floor(Math.min(y0, y1) - radius), cellSize);
+        int maxCellY = Math.floorDiv((int) Math.ceil(Math.max(y0, y1) + radius), cellSize);
+        for (int cy = minCellY; cy <= maxCellY; cy++) {
+            for (int cx = minCellX; cx <= maxCellX; cx++) {
+                for (int node = bucketHeads[bucketOf(cx, cy)]; node != -1; node = nodeNext[node]) {
+                    int entry = nodeEntry[node];
+                    if (entryStamps[entry] == queryStamp || (entryLayers[entry] & layerMask) == 0) continue;
+                    entryStamps[entry] = queryStamp;
+                    float t = segmentEntryTime(entries[entry].getCollisionBox(), radius, x0, y0, dx, dy);
+                    if (t < 0) continue;
+                    // Sisipkan sambil menjaga urutan (waktu masuk, urutan penyisipan); jumlah hasil selalu kecil.
+                    int i = hitCount++;
+                    while (i > 0 && (hitTimes[i - 1] > t || (hitTimes[i - 1] == t && hits[i - 1] > entry))) {
+                        hits[i] = hits[i - 1];
+                        hitTimes[i] = hitTimes[i - 1];
+                        i--;
+                    }
+                    hits[i] = entry;
+                    hitTimes[i] = t;
+                }
+            }
+        }
+        for (int i = 0; i < hitCount; i++) {
+            out.add(entries[hits[i]]);
+        }
+        return hitCount;
+    }
+
+    // Uji slab segmen terhadap kotak yang diperlebar 'radius' (jumlah Minkowski dengan kotak ujung).
+    // Mengembalikan waktu masuk 0..1 di sepanjang segmen, atau -1 jika segmen tidak menyentuh kotak.
+    static float segmentEntryTime(Rectangle box, float radius, float x0, float y0, float dx, float dy) {
+        float tMin = 0f;
+        float tMax = 1f;
+        float minX = box.x - radius, maxX = box.x + box.width + radius;
+        float minY = box.y - radius, maxY = box.y + box.height + radius;
+        if (dx == 0f) {
+            if (x0 < minX || x0 > maxX) return -1f;
+        } else {
+            float t1 = (minX - x0) / dx;
+            float t2 = (maxX - x0) / dx;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) return -1f;
+        }
+        if (dy == 0f) {
+            if (y0 < minY || y0 > maxY) return -1f;
+        } else {
+            float t1 = (minY - y0) / dy;
+            float t2 = (maxY - y0) / dy;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) return -1f;
+        }
+        return tMin;
+    }
+
+    // Getter untuk jumlah entri saat ini.
+    public int size() { return entryCount; }
+
+    // Menambahkan satu node ke depan linked list sebuah bucket.
+    private void addNode(int bucket, int entry) {
+        if (nodeCount == nodeEntry.length) {
+            nodeEntry = Arrays.copyOf(nodeEntry, nodeCount * 2);
+            nodeNext = Arrays.copyOf(nodeNext, nodeCount * 2);
+        }
+        nodeEntry[nodeCount] = entry;
+        nodeNext[nodeCount] = bucketHeads[bucket];
+        bucketHeads[bucket] = nodeCount++;
+    }
+
+    // Memetakan koordinat sel ke bucket (hash dua bilangan prima besar, lalu diacak ulang bit atasnya).
+    private int bucketOf(int cellX, int cellY) {
+        int h = cellX * 73856093 ^ cellY * 19349663;
+        h ^= h >>> 16;
+        return h & tableMask;
+    }
+
+    // Membuat tabel bucket baru yang cukup untuk jumlah entri tertentu (minimal dua bucket per entri).
+    private void resizeTable(int expectedEntries) {
+        int size = Integer.highestOneBit(Math.max(16, expectedEntries * 2) - 1) << 1;
+        bucketHeads = new int[size];
+        Arrays.fill(bucketHeads, -1);
+        tableMask = size - 1;
+    }
+}
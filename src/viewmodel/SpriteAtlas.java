@@ -0,0 +1,127 @@
+package viewmodel;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Kelas ini adalah atlas tekstur: semua sprite siap-gambar (frame animasi yang sudah dipanggang, ikon hati, keranjang,
+// harpun) dikemas ke beberapa gambar halaman besar yang kompatibel dengan layar, dan setiap sprite hanya berupa
+// wilayah bernama di salah satu halaman. Menggambar sprite = menyalin wilayahnya tanpa skala, sehingga satu frame
+// permainan hanya memakai satu atau dua permukaan gambar, bukan satu permukaan per sprite. Pengemasan memakai
+// algoritma rak (shelf): sprite diletakkan berjajar di rak setinggi sprite tertinggi di rak itu; rak baru dibuka
+// di bawahnya, dan halaman baru dibuat jika halaman penuh. Atlas diisi saat sprite pertama kali diminta (biasanya
+// di frame-frame awal) lalu tidak berubah lagi. Aman dipanggil dari beberapa thread.
+public class SpriteAtlas {
+    private static final int PADDING = 1; // Jarak antar wilayah agar sampling tepi tidak mengambil piksel tetangga.
+
+    // Satu wilayah bernama di halaman atlas.
+    public static final class Region {
+        private final BufferedImage page;
+        private final int x, y, width, height;
+
+        private Region(BufferedImage page, int x, int y, int width, int height) {
+            this.page = page;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        // Menggambar wilayah ini tanpa skala dengan sudut kiri atas di (dx, dy).
+        public void draw(Graphics g, int dx, int dy) {
+            g.drawImage(page, dx, dy, dx + width, dy + height, x, y, x + width, y + height, null);
+        }
+
+        // Ukuran wilayah dalam piksel.
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+    }
+
+    private final int pageSize;
+    private final GraphicsConfiguration config; // Null jika tidak ada layar (halaman berupa BufferedImage biasa).
+    private final List<BufferedImage> pages = new ArrayList<>();
+    private final Map<String, Region> regions = new HashMap<>();
+    private int shelfX, shelfY, shelfHeight; // Posisi tulis di halaman terakhir.
+    private long usedPixels;
+
+    // Konstruktor dengan ukuran sisi halaman (piksel).
+    public SpriteAtlas(int pageSize) {
+        this.pageSize = pageSize;
+        this.config = screenConfiguration();
+    }
+
+    // Mengembalikan wilayah bernama 'name', atau null jika belum pernah ditambahkan.
+    public synchronized Region find(String name) {
+        return regions.get(name);
+    }
+
+    // Menyalin 'image' ke atlas sebagai wilayah bernama 'name' dan mengembalikan wilayahnya. Jika nama itu sudah ada,
+    // wilayah lama dikembalikan tanpa menyalin ulang. Gambar yang lebih besar dari satu halaman mendapat halaman sendiri.
+    public synchronized Region add(String name, BufferedImage image) {
+        Region existing = regions.get(name);
+        if (existing != null) return existing;
+        int width = image.getWidth(), height = image.getHeight();
+        if (pages.isEmpty()) newPage(width, height);
+        BufferedImage page = pages.get(pages.size() - 1);
+        if (shelfX + width > page.getWidth()) nextShelf(); // Rak penuh: buka rak baru di bawahnya.
+        if (shelfX + width > page.getWidth() || shelfY + height > page.getHeight()) {
+            newPage(width, height); // Halaman penuh.
+            page = pages.get(pages.size() - 1);
+        }
+        Graphics2D g = page.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, shelfX, shelfY, null);
+        g.dispose();
+        Region region = new Region(page, shelfX, shelfY, width, height);
+        shelfX += width + PADDING;
+        shelfHeight = Math.max(shelfHeight, height);
+        usedPixels += (long) width * height;
+        regions.put(name, region);
+        return region;
+    }
+
+    // Ringkasan isi atlas untuk laporan.
+    public synchronized String summary() {
+        long totalPixels = 0;
+        for (BufferedImage page : pages) totalPixels += (long) page.getWidth() * page.getHeight();
+        return String.format("atlas: %d wilayah di %d halaman %dx%d (terisi %.0f%%)", regions.size(), pages.size(),
+                pageSize, pageSize, totalPixels == 0 ? 0 : 100.0 * usedPixels / totalPixels);
+    }
+
+    // Menutup rak saat ini dan membuka rak baru di bawahnya.
+    private void nextShelf() {
+        shelfY += shelfHeight + PADDING;
+        shelfX = 0;
+        shelfHeight = 0;
+    }
+
+    // Membuat halaman baru (transparan) yang cukup besar untuk gambar width x height dan memulai rak pertamanya.
+    private void newPage(int width, int height) {
+        int size = Math.max(pageSize, Math.max(width, height));
+        pages.add(config != null
+                ? config.createCompatibleImage(size, size, Transparency.TRANSLUCENT)
+                : new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE));
+        shelfX = 0;
+        shelfY = 0;
+        shelfHeight = 0;
+    }
+
+    // Konfigurasi grafis layar utama, atau null jika tidak ada layar (mode headless).
+    private static GraphicsConfiguration screenConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) return null;
+        try {
+            return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        } catch (Exception e) {
+            System.err.println("Konfigurasi grafis layar tidak tersedia: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package viewmodel;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import model.CollisionMask;
+
+// Kelas ini adalah cache gambar untuk seluruh aplikasi, dengan path resource sebagai kunci.
+// Setiap file PNG hanya di-decode sekali; semua objek memakai BufferedImage dan potongan frame yang sama.
+// Bitmask tabrakan per frame (dan versi cerminnya) juga dihitung sekali per ukuran render, bukan per objek.
+// Untuk render, setiap frame juga dipanggang sekali ke ukuran render akhirnya dalam dua arah (asli dan cermin),
+// dan hasilnya dikemas ke satu atlas tekstur bersama (SpriteAtlas) yang kompatibel dengan konfigurasi grafis layar.
+// Menggambar sprite cukup menyalin satu wilayah atlas tanpa skala dan tanpa pencerminan (jalur tercepat Java2D),
+// dan semua sprite berbagi beberapa permukaan halaman atlas saja, bukan satu permukaan per frame.
+// Gambar dan wilayah yang dikembalikan dipakai bersama, jadi hanya boleh digambar, tidak boleh diubah pikselnya.
+// Aman dipanggil dari EDT maupun thread game loop.
+public class SpriteCache {
+    // Penanda untuk resource yang gagal dimuat, agar kegagalan tidak dicoba (dan dicetak) ulang di setiap spawn.
+    private static final BufferedImage MISSING = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    private static final ConcurrentHashMap<String, BufferedImage> images = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, List<BufferedImage>> frameLists = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, List<CollisionMask>> maskLists = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, BakedFrames> bakedFrames = new ConcurrentHashMap<>();
+    private static final BakedFrames NO_FRAMES = new BakedFrames(new SpriteAtlas.Region[0], new SpriteAtlas.Region[0], 0, 0);
+    private static final SpriteAtlas atlas = new SpriteAtlas(Constants.ATLAS_PAGE_SIZE);
+    private static final AtomicInteger decodeCount = new AtomicInteger(); // Jumlah pemanggilan ImageIO.read.
+
+    // Mengembalikan gambar utuh dari sebuah resource, atau null jika gagal dimuat.
+    public static BufferedImage getImage(String path) {
+        BufferedImage image = images.computeIfAbsent(path, SpriteCache::decode);
+        return image == MISSING ? null : image;
+    }
+
+    // Mengembalikan daftar frame (tidak bisa diubah) dari sprite sheet horizontal.
+    // Jika sheet lebih kecil dari yang diminta, daftar hanya berisi frame yang benar-benar ada; null jika sheet gagal dimuat.
+    public static List<BufferedImage> getFrames(String path, int frameW, int frameH, int totalFrames) {
+        String key = path + '#' + frameW + 'x' + frameH + 'x' + totalFrames;
+        List<BufferedImage> frames = frameLists.computeIfAbsent(key, k -> slice(path, frameW, frameH, totalFrames));
+        return frames.isEmpty() ? null : frames;
+    }
+
+    // Mengembalikan bitmask tabrakan (tidak bisa diubah) untuk setiap frame sprite sheet pada ukuran render tertentu.
+    // Urutannya sama dengan getFrames(); null jika sheet gagal dimuat.
+    public static List<CollisionMask> getMasks(String path, int frameW, int frameH, int totalFrames,
+                                               int renderW, int renderH) {
+        String key = path + '#' + frameW + 'x' + frameH + 'x' + totalFrames + '@' + renderW + 'x' + renderH;
+        List<CollisionMask> masks = maskLists.computeIfAbsent(key, k -> {
+            List<BufferedImage> frames = getFrames(path, frameW, frameH, totalFrames);
+            if (frames == null) return Collections.emptyList();
+            List<CollisionMask> list = new ArrayList<>(frames.size());
+            for (BufferedImage frame : frames) {
+                list.add(CollisionMask.fromFrame(frame, renderW, renderH));
+            }
+            return Collections.unmodifiableList(list);
+        });
+        return masks.isEmpty() ? null : masks;
+    }
+
+    // Frame animasi yang sudah dipanggang pada ukuran render, menghadap kanan (asli) dan kiri (cermin), sebagai
+    // wilayah atlas. Dipakai bersama oleh semua objek dengan sheet dan ukuran render yang sama.
+    public static final class BakedFrames {
+        private final SpriteAtlas.Region[] right, left;
+        private final int width, height;
+
+        private BakedFrames(SpriteAtlas.Region[] right, SpriteAtlas.Region[] left, int width, int height) {
+            this.right = right;
+            this.left = left;
+            this.width = width;
+            this.height = height;
+        }
+
+        // Frame ke-'index' untuk arah hadap tertentu; digambar tanpa skala di posisi render objek.
+        public SpriteAtlas.Region get(int index, boolean facingRight) {
+            return facingRight ? right[index] : left[index];
+        }
+
+        // Jumlah frame serta ukuran render tempat frame dipanggang.
+        public int size() { return right.length; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+    }
+
+    // Mengembalikan frame sprite sheet yang sudah dipanggang pada ukuran render tertentu (kedua arah hadap).
+    // Urutannya sama dengan getFrames(); null jika sheet gagal dimuat atau ukuran render kosong.
+    public static BakedFrames getBakedFrames(String path, int frameW, int frameH, int totalFrames,
+                                             int renderW, int renderH) {
+        String key = path + '#' + frameW + 'x' + frameH + 'x' + totalFrames + '@' + renderW + 'x' + renderH;
+        BakedFrames baked = bakedFrames.computeIfAbsent(key, k -> {
+            List<BufferedImage> frames = getFrames(path, frameW, frameH, totalFrames);
+            if (frames == null || renderW <= 0 || renderH <= 0) return NO_FRAMES;
+            SpriteAtlas.Region[] right = new SpriteAtlas.Region[frames.size()];
+            SpriteAtlas.Region[] left = new SpriteAtlas.Region[frames.size()];
+            for (int i = 0; i < frames.size(); i++) {
+                right[i] = atlas.add(k + "#r" + i, bake(frames.get(i), renderW, renderH, false));
+                left[i] = atlas.add(k + "#l" + i, bake(frames.get(i), renderW, renderH, true));
+            }
+            return new BakedFrames(right, left, renderW, renderH);
+        });
+        return baked == NO_FRAMES ? null : baked;
+    }
+
+    // Mengembalikan gambar utuh sebuah resource yang sudah dipanggang ke ukuran render tertentu, sebagai wilayah
+    // atlas; null jika gambar gagal dimuat atau ukuran render kosong.
+    public static SpriteAtlas.Region getBakedImage(String path, int renderW, int renderH) {
+        String name = path + '@' + renderW + 'x' + renderH;
+        SpriteAtlas.Region region = atlas.find(name);
+        if (region != null) return region;
+        BufferedImage image = getImage(path);
+        if (image == null || renderW <= 0 || renderH <= 0) return null;
+        return atlas.add(name, bake(image, renderW, renderH, false));
+    }
+
+    // Ringkasan isi atlas sprite untuk laporan.
+    public static String getAtlasSummary() { return atlas.summary(); }
+
+    // Memuat beberapa gambar di muka (misal: saat sesi dibuat) agar tidak ada decode di tengah permainan.
+    public static void preload(String... paths) {
+        for (String path : paths) {
+            getImage(path);
+        }
+    }
+
+    // Getter untuk jumlah decode yang sudah terjadi (idealnya sama dengan jumlah file gambar yang dipakai).
+    public static int getDecodeCount() { return decodeCount.get(); }
+
+    // Membaca satu file gambar dari classpath.
+    private static BufferedImage decode(String path) {
+        URL url = SpriteCache.class.getResource(path);
+        if (url == null) {
+            System.err.println("Gagal memuat gambar: " + path + " (resource tidak ditemukan).");
+            return MISSING;
+        }
+        try {
+            decodeCount.incrementAndGet();
+            BufferedImage image = ImageIO.read(url);
+            if (image == null) {
+                System.err.println("Gambar berhasil dibaca tapi null: " + path);
+                return MISSING;
+            }
+            return image;
+        } catch (Exception e) {
+            System.err.println("Error saat memuat gambar " + path + ": " + e.getMessage());
+            return MISSING;
+        }
+    }
+
+    // Menggambar satu frame ke gambar sementara seukuran render (dicerminkan jika 'mirrored'), dengan skala
+    // nearest-neighbor yang sama seperti drawImage berskala di layar, sehingga hasilnya identik per piksel.
+    // Gambar sementara ini langsung disalin ke atlas oleh pemanggil.
+    private static BufferedImage bake(BufferedImage frame, int renderW, int renderH, boolean mirrored) {
+        BufferedImage image = new BufferedImage(renderW, renderH, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = image.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        int sx1 = mirrored ? frame.getWidth() : 0;
+        int sx2 = mirrored ? 0 : frame.getWidth();
+        g.drawImage(frame, 0, 0, renderW, renderH, sx1, 0, sx2, frame.getHeight(), null);
+        g.dispose();
+        return image;
+    }
+
+    // Memotong sprite sheet menjadi frame-frame (sub-image yang berbagi data piksel dengan sheet aslinya).
+    private static List<BufferedImage> slice(String path, int frameW, int frameH, int totalFrames) {
+        BufferedImage sheet = getImage(path);
+        if (sheet == null || frameW <= 0 || frameH <= 0) return Collections.emptyList();
+        int count = Math.min(totalFrames, sheet.getWidth() / frameW);
+        int height = Math.min(frameH, sheet.getHeight());
+        List<BufferedImage> frames = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            frames.add(sheet.getSubimage(i * frameW, 0, frameW, height));
+        }
+        return Collections.unmodifiableList(frames);
+    }
+}